@@ -3,12 +3,16 @@ package manageezpz;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import manageezpz.commons.core.Config;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.core.PhaseTimer;
 import manageezpz.commons.core.Version;
 import manageezpz.commons.exceptions.DataConversionException;
 import manageezpz.commons.util.ConfigUtil;
@@ -19,11 +23,11 @@ import manageezpz.model.AddressBook;
 import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.ReadOnlyAddressBook;
-import manageezpz.model.ReadOnlyUserPrefs;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.util.SampleDataUtil;
+import manageezpz.storage.AddressBookConverter;
+import manageezpz.storage.AddressBookSaver;
 import manageezpz.storage.AddressBookStorage;
-import manageezpz.storage.JsonAddressBookStorage;
 import manageezpz.storage.JsonUserPrefsStorage;
 import manageezpz.storage.Storage;
 import manageezpz.storage.StorageManager;
@@ -46,53 +50,77 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AddressBookSaver addressBookSaver;
+    private PhaseTimer startupTimer;
+    private CompletableFuture<ReadOnlyAddressBook> addressBookLoading;
+    private CompletableFuture<Void> configAndPrefsRewriting;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        startupTimer = new PhaseTimer("Startup");
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+        config = startupTimer.time("Reading config", () -> initConfig(configFilePath));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs = startupTimer.time("Reading prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = AddressBookConverter.createStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.getAddressBookFormat());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The data file is found through the prefs, so only the rewriting of the config and prefs can overlap it
+        addressBookLoading = CompletableFuture.supplyAsync(() ->
+                startupTimer.time("Loading address book", () -> readAddressBook(storage)));
+        configAndPrefsRewriting = CompletableFuture.runAsync(() ->
+                startupTimer.time("Rewriting config and prefs", () -> {
+                    saveConfig(config, configFilePath);
+                    savePrefs(userPrefs, userPrefsStorage);
+                }));
+
+        // The address book is populated once it is loaded, after the window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new AddressBookSaver(storage);
+        logic = new LogicManager(model, addressBookSaver, false);
 
         ui = new UiManager(logic);
+        startupTimer.mark("Initialized");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the address book in {@code storage}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book is only saved when it is not the one read from {@code storage}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) throws IOException {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with sample data in ManageEZPZ");
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                return addressBookOptional.get();
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            storage.saveAddressBook(initialData);
+            logger.info("Data file not found. Will be starting with sample data in ManageEZPZ");
+            initialData = SampleDataUtil.getSampleAddressBook();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ManageEZPZ");
             initialData = new AddressBook();
-            storage.saveAddressBook(initialData);
         } catch (IOException | IllegalArgumentException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ManageEZPZ");
             initialData = new AddressBook();
+        }
+
+        try {
             storage.saveAddressBook(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book : " + StringUtil.getDetails(e));
         }
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -100,39 +128,43 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns the config file to use, which is {@code configFilePath}, or the default file path
+     * {@code Config#DEFAULT_CONFIG_FILE} if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
+    private Path getConfigFilePath(Path configFilePath) {
         if (configFilePath != null) {
             logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+            return configFilePath;
         }
+        return Config.DEFAULT_CONFIG_FILE;
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}, or the default config if the file is
+     * missing or not in the correct format.
+     */
+    protected Config initConfig(Path configFilePath) {
+        logger.info("Using config file : " + configFilePath);
 
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
+            return configOptional.orElse(new Config());
         } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+            logger.warning("Config file at " + configFilePath + " is not in the correct format. "
                     + "Using default config properties");
-            initializedConfig = new Config();
+            return new Config();
         }
+    }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Updates the config file in case it was missing to begin with or there are new/unused fields.
+     */
+    private void saveConfig(Config config, Path configFilePath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            ConfigUtil.saveConfig(config, configFilePath);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
     /**
@@ -144,42 +176,70 @@ public class MainApp extends Application {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using prefs file : " + prefsFilePath);
 
-        UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+            return prefsOptional.orElse(new UserPrefs());
         } catch (DataConversionException e) {
             logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
                     + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
+            return new UserPrefs();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ManageEZPZ");
-            initializedPrefs = new UserPrefs();
+            return new UserPrefs();
         }
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Updates the prefs file in case it was missing to begin with or there are new/unused fields.
+     */
+    private void savePrefs(UserPrefs userPrefs, UserPrefsStorage storage) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting ManageEZPZ " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupTimer.mark("Window shown");
+
+        // The persons are shown first, and then the tasks as they are added
+        addressBookLoading
+                .exceptionally(error -> {
+                    logger.warning("Problem while loading the address book. Will be starting with an empty "
+                            + "ManageEZPZ " + StringUtil.getDetails(error));
+                    return new AddressBook();
+                })
+                .thenCompose(addressBook -> logic.populateAddressBook(addressBook, Platform::runLater))
+                .whenComplete((unused, error) -> {
+                    if (error != null) {
+                        logger.severe("Failed to show the address book " + StringUtil.getDetails(error));
+                    }
+                    startupTimer.mark("Address book shown");
+                    logger.info(startupTimer.getSummary());
+                });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        // The prefs rewritten at startup must not overwrite those saved now
+        try {
+            configAndPrefsRewriting.join();
+        } catch (CompletionException e) {
+            logger.warning("Failed to rewrite config and prefs " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (!addressBookSaver.close()) {
+            logger.severe("Failed to save the address book before stopping");
+        }
+        storage.close();
     }
 }
@@ -0,0 +1,11 @@
+package manageezpz.commons.core;
+
+/**
+ * The formats in which the address book can be stored on the hard disk.
+ */
+public enum AddressBookFormat {
+    /** A json snapshot with a journal of the changes since, which can be edited by hand. */
+    JSON,
+    /** A binary snapshot, which is much faster to load for large address books. */
+    BINARY
+}
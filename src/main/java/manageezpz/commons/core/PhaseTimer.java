@@ -0,0 +1,78 @@
+package manageezpz.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of a process that may run on several threads, such as the startup of the app, so that a breakdown
+ * of where the time went can be logged.
+ * <p>
+ * Phases that are timed take up a duration, while milestones that are marked are the time since the timer was
+ * created.
+ */
+public class PhaseTimer {
+
+    private final String name;
+    private final long startNanos;
+    private final List<String> entries = new ArrayList<>();
+
+    /**
+     * Creates a {@code PhaseTimer} for the process with the given {@code name}, which starts now.
+     */
+    public PhaseTimer(String name) {
+        requireNonNull(name);
+        this.name = name;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code phase} and records how long it took under {@code phaseName}.
+     * @return the result of {@code phase}.
+     */
+    public <T> T time(String phaseName, Supplier<T> phase) {
+        requireNonNull(phaseName);
+        long phaseStartNanos = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            record(phaseName + " took " + toMillis(System.nanoTime() - phaseStartNanos) + " ms");
+        }
+    }
+
+    /**
+     * Runs {@code phase} and records how long it took under {@code phaseName}.
+     */
+    public void time(String phaseName, Runnable phase) {
+        time(phaseName, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records the time since the start of the process under {@code milestoneName}.
+     */
+    public void mark(String milestoneName) {
+        requireNonNull(milestoneName);
+        record(milestoneName + " at " + toMillis(System.nanoTime() - startNanos) + " ms");
+    }
+
+    private synchronized void record(String entry) {
+        entries.add(entry);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Returns the phases and milestones recorded so far, in the order that they ended.
+     */
+    public synchronized String getSummary() {
+        return name + ": " + String.join(", ", entries);
+    }
+}
@@ -1,10 +1,13 @@
 package manageezpz.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -80,4 +83,33 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file by writing it to a temporary file next to it, which then replaces the file.
+     * The file is therefore never left partially written.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but the content is streamed to the file by
+     * {@code contentWriter}, so that it does not have to be held in memory as a whole.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+            contentWriter.writeTo(out);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,60 @@
+package manageezpz.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a single instance of each distinct value of an immutable type, so that equal values can share one instance.
+ * <p>
+ * Values are looked up without locking, so that storage can be loaded by many threads at once. The number of
+ * instances held is bounded, and once the bound is reached, new values are returned as they are rather than kept.
+ * Instances are held for the life of the {@code Interner}, so it suits types with few distinct values, such as dates.
+ *
+ * @param <T> the immutable type of the values, which must implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    /** Number of instances held by default, which is enough for the values shared by tasks, such as dates. */
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    private final ConcurrentMap<T, T> instances = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public Interner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an {@code Interner} that holds at most {@code maxSize} instances.
+     */
+    public Interner(int maxSize) {
+        AppUtil.checkArgument(maxSize > 0, "Interner size must be positive");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the instance that is equal to {@code value}, which is {@code value} itself if there was none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T instance = instances.get(value);
+        if (instance != null) {
+            return instance;
+        }
+
+        if (instances.size() >= maxSize) {
+            return value;
+        }
+        instance = instances.putIfAbsent(value, value);
+        return instance == null ? value : instance;
+    }
+
+    /**
+     * Returns the number of instances held.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
@@ -3,6 +3,8 @@ package manageezpz.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,7 +45,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -79,6 +84,7 @@ public class JsonUtil {
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced as a whole, so it is never left partially written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -110,6 +116,36 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance without any whitespace, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a parser that reads JSON data from {@code in} one token at a time.
+     * Values can be read from the parser with {@link JsonParser#readValueAs(Class)}.
+     * @param in The stream to read from, which is closed along with the parser
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Creates a generator that writes JSON data to {@code out} one token at a time.
+     * Values can be written to the generator with {@link JsonGenerator#writeObject(Object)}.
+     * @param out The stream to write to, which is closed along with the generator
+     * @param isPretty Whether the JSON data is indented, as in {@link #toJsonString(Object)}
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPretty) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPretty ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,479 @@
+package manageezpz.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list, of which every change returns a new list that shares all but a few of its nodes with the list
+ * it was made from, so that keeping many versions of a large list costs little more than keeping one.
+ * <p>
+ * The elements are held in a balanced binary tree in which each node knows the number of elements under it, so that
+ * getting, replacing, adding and removing the element at any position takes time and new nodes in proportion to the
+ * logarithm of the size of the list. Changes copy the path from the root to the changed node and share the rest.
+ * As two versions of a list share the subtrees that neither changed, the changes between them can be found without
+ * visiting those subtrees.
+ * <p>
+ * The elements must not be null, and should be immutable for the versions of the list to stay unchanged.
+ *
+ * @param <T> the type of the elements in the list.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order, which is built in time linear in their number.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} added to the end of this list.
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index} of this list.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list or at its end.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list replaced by {@code element}.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list removed.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        Node<T> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Reports to {@code handler} the changes that turn this list into {@code target}, from the front of the list to
+     * the back, skipping the subtrees that both lists share.
+     * <p>
+     * Elements that are the same instance in both lists are kept. Otherwise, an element of {@code target} replaces
+     * the element of this list at the same place if both have the same key, is inserted if there is no element with
+     * its key in this list, and the element of this list is removed if there is. The changes found are always
+     * correct, and are fewest when the elements with keys in both lists are in the same order in both, as they are
+     * when elements are only added to the end, replaced or removed.
+     *
+     * @param target the list to be turned into.
+     * @param keyOf returns the key of an element, such as its id.
+     * @param hasKeyInThis tests if this list has an element with the same key as an element of {@code target}.
+     * @param handler receives the changes, where each index is that in this list with the earlier changes applied.
+     */
+    public void diff(PersistentList<T> target, Function<? super T, ?> keyOf, Predicate<? super T> hasKeyInThis,
+            ChangeHandler<? super T> handler) {
+        requireNonNull(target);
+        Cursor<T> from = new Cursor<>(root);
+        Cursor<T> to = new Cursor<>(target.root);
+        int index = 0;
+        while (!from.isDone() && !to.isDone()) {
+            if (from.peek() == to.peek() && from.isSubtree() == to.isSubtree()) {
+                index += from.sizeOfFront();
+                from.skip();
+                to.skip();
+            } else if (from.isSubtree() || to.isSubtree()) {
+                // The larger subtree is split first, as it may have the smaller one under it
+                boolean isFromSplit = from.isSubtree() && (!to.isSubtree() || from.sizeOfFront() >= to.sizeOfFront());
+                (isFromSplit ? from : to).split();
+            } else {
+                T fromElement = from.peek().element;
+                T toElement = to.peek().element;
+                if (fromElement == toElement) {
+                    index++;
+                    from.skip();
+                    to.skip();
+                } else if (keyOf.apply(fromElement).equals(keyOf.apply(toElement))) {
+                    handler.replaced(index++, fromElement, toElement);
+                    from.skip();
+                    to.skip();
+                } else if (!hasKeyInThis.test(toElement)) {
+                    handler.inserted(index++, toElement);
+                    to.skip();
+                } else {
+                    handler.removed(index, fromElement);
+                    from.skip();
+                }
+            }
+        }
+        while (!from.isDone()) {
+            handler.removed(index, from.next());
+        }
+        while (!to.isDone()) {
+            handler.inserted(index++, to.next());
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of this list as a {@code List}, which takes constant time to make.
+     */
+    public List<T> asList() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns a new mutable list of the elements of this list, in order.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return elements;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherElements = otherList.iterator();
+        for (T element : this) {
+            if (!element.equals(otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T element : this) {
+            hashCode = 31 * hashCode + element.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    private static <T> int sizeOf(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> int heightOf(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.element, insert(node.left, index, element), node.right);
+        }
+        return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.element, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.element, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.element, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // The first element on the right takes the place of the removed one
+        Node<T> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.element, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code element} between {@code left} and {@code right}, rotated to keep the heights of its
+     * subtrees within one of each other, given that they differ by at most two.
+     */
+    private static <T> Node<T> balance(T element, Node<T> left, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+            }
+            return new Node<>(left.right.element, new Node<>(left.element, left.left, left.right.left),
+                    new Node<>(element, left.right.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+            }
+            return new Node<>(right.left.element, new Node<>(element, left, right.left.left),
+                    new Node<>(right.element, right.left.right, right.right));
+        }
+        return new Node<>(element, left, right);
+    }
+
+    /**
+     * A node of the tree, which is never changed once made so that it can be shared by many lists.
+     */
+    private static class Node<T> {
+        private final T element;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T element, Node<T> left, Node<T> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Receives the changes that turn one list into another, as found by {@link #diff}.
+     *
+     * @param <T> the type of the elements in the lists.
+     */
+    public interface ChangeHandler<T> {
+        /**
+         * Called when {@code element} is inserted at {@code index}.
+         */
+        void inserted(int index, T element);
+
+        /**
+         * Called when {@code element}, which is at {@code index}, is removed.
+         */
+        void removed(int index, T element);
+
+        /**
+         * Called when {@code oldElement}, which is at {@code index}, is replaced by {@code newElement}.
+         * The two elements have the same key, and are different instances, though they may be equal.
+         */
+        void replaced(int index, T oldElement, T newElement);
+    }
+
+    /**
+     * Walks the elements under a node in order, keeping a stack of what is still to be visited, each being either a
+     * whole subtree or the element of a node alone, so that a whole subtree can be skipped.
+     */
+    private static class Cursor<T> {
+        private final Deque<Node<T>> pending = new ArrayDeque<>();
+        private final Deque<Boolean> isPendingSubtree = new ArrayDeque<>();
+
+        Cursor(Node<T> root) {
+            push(root, true);
+        }
+
+        boolean isDone() {
+            return pending.isEmpty();
+        }
+
+        Node<T> peek() {
+            return pending.peek();
+        }
+
+        /**
+         * Returns true if the front stands for the whole subtree of its node, rather than the element of its node.
+         */
+        boolean isSubtree() {
+            return isPendingSubtree.peek();
+        }
+
+        int sizeOfFront() {
+            return isSubtree() ? peek().size : 1;
+        }
+
+        void skip() {
+            pending.pop();
+            isPendingSubtree.pop();
+        }
+
+        /**
+         * Replaces the subtree at the front by its left subtree, its element and its right subtree.
+         */
+        void split() {
+            Node<T> node = pending.peek();
+            skip();
+            push(node.right, true);
+            push(node, false);
+            push(node.left, true);
+        }
+
+        /**
+         * Returns the next element and moves past it.
+         */
+        T next() {
+            while (isSubtree()) {
+                split();
+            }
+            T element = peek().element;
+            skip();
+            return element;
+        }
+
+        private void push(Node<T> node, boolean isSubtree) {
+            if (node != null) {
+                pending.push(node);
+                isPendingSubtree.push(isSubtree);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the elements under a node in order, keeping the nodes still to be visited on a stack.
+     */
+    private static class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> pending = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftmost(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = pending.pop();
+            pushLeftmost(node.right);
+            return node.element;
+        }
+
+        private void pushLeftmost(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                pending.push(current);
+            }
+        }
+    }
+}
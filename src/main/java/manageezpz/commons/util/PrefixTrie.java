@@ -0,0 +1,146 @@
+package manageezpz.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A trie of words, such as the names of persons, that finds the words starting with a given prefix, ignoring case.
+ * <p>
+ * Looking up a prefix only walks down as many nodes as the prefix has characters, and then visits just the nodes
+ * needed to collect the words asked for, however many words the trie holds. Each node keeps the number of words
+ * below it, so that the branches left empty by a removal are pruned.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code word} to the trie, if it is not already in it.
+     * @return true if the word was added.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (contains(word)) {
+            return false;
+        }
+
+        Node node = root;
+        node.wordCount++;
+        for (char c : StringUtil.foldCase(word).toCharArray()) {
+            node = node.children.computeIfAbsent(c, unused -> new Node());
+            node.wordCount++;
+        }
+        node.words.add(word);
+        return true;
+    }
+
+    /**
+     * Removes {@code word} from the trie, if it is in it.
+     * @return true if the word was removed.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        if (!contains(word)) {
+            return false;
+        }
+
+        Node node = root;
+        node.wordCount--;
+        for (char c : StringUtil.foldCase(word).toCharArray()) {
+            Node child = node.children.get(c);
+            if (--child.wordCount == 0) {
+                // The rest of the branch only held this word
+                node.children.remove(c);
+                return true;
+            }
+            node = child;
+        }
+        node.words.remove(word);
+        return true;
+    }
+
+    /**
+     * Removes all words from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.words.clear();
+        root.wordCount = 0;
+    }
+
+    /**
+     * Returns true if the trie holds {@code word}, with the same case.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        Node node = find(StringUtil.foldCase(word));
+        return node != null && node.words.contains(word);
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     */
+    public int size() {
+        return root.wordCount;
+    }
+
+    /**
+     * Finds the words starting with {@code prefix}, ignoring case.
+     * @param prefix the start of the words to find, which finds all words if empty.
+     * @param limit the most words to find.
+     * @return the first {@code limit} words found, in alphabetical order ignoring case.
+     */
+    public List<String> findWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        AppUtil.checkArgument(limit >= 0, "Limit must not be negative");
+        List<String> words = new ArrayList<>();
+        Node node = find(StringUtil.foldCase(prefix));
+        if (node != null) {
+            collect(node, words, limit);
+        }
+        return words;
+    }
+
+    private Node find(String foldedPrefix) {
+        Node node = root;
+        for (int i = 0; i < foldedPrefix.length() && node != null; i++) {
+            node = node.children.get(foldedPrefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Adds the words at and below {@code node} to {@code words}, shorter words before longer words that start with
+     * them, until there are {@code limit} words.
+     */
+    private static void collect(Node node, List<String> words, int limit) {
+        for (String word : node.words) {
+            if (words.size() == limit) {
+                return;
+            }
+            words.add(word);
+        }
+        for (Node child : node.children.values()) {
+            if (words.size() == limit) {
+                return;
+            }
+            collect(child, words, limit);
+        }
+    }
+
+    /**
+     * A node of the trie, reached by the case-folded characters of a prefix.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        // The words, in their original case, that fold to the prefix of this node
+        private final Set<String> words = new TreeSet<>();
+        private int wordCount;
+    }
+}
@@ -48,6 +48,59 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns {@code word} with the case of each character folded, such that two words are equal ignoring case, as by
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("abc").equals(foldCase("aBC")) == true
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] foldedChars = new char[word.length()];
+        for (int i = 0; i < foldedChars.length; i++) {
+            foldedChars[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(foldedChars);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * characters that must be inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("book", "book") == 0
+     *       editDistance("book", "bok") == 1
+     *       editDistance("book", "back") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Only the distances to the previous and current prefixes of first are kept
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -0,0 +1,194 @@
+package manageezpz.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the character trigrams of the words in a text kept for each id, such as the description of each
+ * task, to the words with those trigrams, used to find the texts with words that are misspellings of a keyword.
+ * <p>
+ * A word fuzzily matches a keyword, ignoring case, when they share a trigram and are within a few edits of each
+ * other, and the closer the word is, the higher it scores. Only the words that share a trigram with a keyword are
+ * compared with it, instead of every word in every text. Words are padded with spaces before they are split into
+ * trigrams, so that words shorter than three characters have trigrams too, and any word within the allowed number
+ * of edits of a keyword shares a trigram with it.
+ */
+public class TrigramIndex {
+
+    /** Most edits allowed between a keyword and a word that matches it, for keywords of six characters or more. */
+    public static final int MAX_EDITS = 2;
+
+    private static final String WORD_PADDING = "  ";
+
+    private final Map<String, Set<Integer>> idsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    // Number of changes made to this index, used to tell if results found before are still up to date
+    private long version;
+
+    /**
+     * Adds the words in {@code text} to the index, as the text of {@code id}.
+     */
+    public void add(int id, String text) {
+        for (String word : wordsOf(text)) {
+            Set<Integer> ids = idsByWord.get(word);
+            if (ids == null) {
+                ids = new HashSet<>();
+                idsByWord.put(word, ids);
+                for (String trigram : trigramsOf(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            ids.add(id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words in {@code text}, which must be the text that was added for {@code id}, from the index.
+     */
+    public void remove(int id, String text) {
+        for (String word : wordsOf(text)) {
+            Set<Integer> ids = idsByWord.get(word);
+            if (ids == null || !ids.remove(id) || !ids.isEmpty()) {
+                continue;
+            }
+
+            idsByWord.remove(word);
+            for (String trigram : trigramsOf(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes all texts from the index.
+     */
+    public void clear() {
+        idsByWord.clear();
+        wordsByTrigram.clear();
+        version++;
+    }
+
+    /**
+     * Finds the ids of the texts with words that fuzzily match any of {@code keywords}, with their scores.
+     * @param keywords the words to look up, each of which must be a single word.
+     * @return the score of each id found, which is the sum of the scores of the closest word in its text to each of
+     *     the keywords, and is the same as {@link #scoreText(Collection, String)} gives for its text.
+     */
+    public Map<Integer, Double> findMatches(Collection<String> keywords) {
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = StringUtil.foldCase(keyword);
+            Set<String> keywordTrigrams = trigramsOf(foldedKeyword);
+            Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigramCounts.merge(word, 1, Integer::sum);
+                }
+            }
+
+            Map<Integer, Double> keywordScores = new HashMap<>();
+            sharedTrigramCounts.forEach((word, sharedTrigramCount) -> {
+                double score = scoreWord(foldedKeyword, keywordTrigrams.size(), word, sharedTrigramCount);
+                if (score > 0) {
+                    idsByWord.get(word).forEach(id -> keywordScores.merge(id, score, Math::max));
+                }
+            });
+            keywordScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the score of {@code text} for {@code keywords}, without an index, which is the sum of the scores of the
+     * closest word in the text to each of the keywords, or 0 if none of its words fuzzily match any keyword.
+     */
+    public static double scoreText(Collection<String> keywords, String text) {
+        Set<String> words = wordsOf(text);
+        double totalScore = 0;
+        for (String keyword : keywords) {
+            String foldedKeyword = StringUtil.foldCase(keyword);
+            Set<String> keywordTrigrams = trigramsOf(foldedKeyword);
+            double bestScore = 0;
+            for (String word : words) {
+                int sharedTrigramCount = (int) trigramsOf(word).stream().filter(keywordTrigrams::contains).count();
+                if (sharedTrigramCount > 0) {
+                    bestScore = Math.max(bestScore,
+                            scoreWord(foldedKeyword, keywordTrigrams.size(), word, sharedTrigramCount));
+                }
+            }
+            totalScore += bestScore;
+        }
+        return totalScore;
+    }
+
+    /**
+     * Returns the score of {@code word} for {@code keyword}, both with their case folded, which is higher for fewer
+     * edits between them and then for more of their trigrams shared, or 0 if the word does not match the keyword.
+     */
+    private static double scoreWord(String keyword, int keywordTrigramCount, String word, int sharedTrigramCount) {
+        int maxEdits = getMaxEdits(keyword);
+        if (Math.abs(keyword.length() - word.length()) > maxEdits) {
+            return 0;
+        }
+        int edits = StringUtil.editDistance(keyword, word);
+        if (edits > maxEdits) {
+            return 0;
+        }
+
+        double similarity = 2.0 * sharedTrigramCount / (keywordTrigramCount + trigramsOf(word).size());
+        return MAX_EDITS + 1 - edits + similarity;
+    }
+
+    /**
+     * Returns the most edits allowed for a word to match {@code keyword}, which is fewer for short keywords, as any
+     * short word is only a few edits away from them.
+     */
+    private static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return MAX_EDITS;
+        }
+    }
+
+    private static Set<String> wordsOf(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        requireNonNull(word);
+        String paddedWord = WORD_PADDING + word + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the version of this index, which is incremented by every change made to it.
+     * @return the number of changes made to this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,7 +1,12 @@
 package manageezpz.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.logic.commands.CommandResult;
@@ -24,6 +29,28 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the ways that the command being typed can be completed, from the command words and the full names of
+     * the employees.
+     * @param commandText The command text typed so far.
+     * @return the completed command texts, which is empty if there are none.
+     *
+     * @see manageezpz.logic.parser.CommandCompleter#getCompletions(String, manageezpz.commons.util.PrefixTrie)
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Replaces the address book with {@code addressBook}, such as one that has just been loaded, a step at a time on
+     * {@code executor}: the persons first, and then the tasks in chunks, so that the display can be updated
+     * between steps. Commands cannot be executed until the address book is populated, and the populated address
+     * book is taken to be already saved. If a step fails, commands are rejected from then on, as the address book
+     * is only partly populated.
+     *
+     * @return a future that is completed once the address book is populated, or completed exceptionally if a step
+     *     fails.
+     */
+    CompletableFuture<Void> populateAddressBook(ReadOnlyAddressBook addressBook, Executor executor);
+
     /**
      * Returns the AddressBook.
      *
@@ -34,14 +61,41 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the number of tasks assigned to the given person, which is updated as tasks are tagged and untagged.
+     *
+     * @see manageezpz.model.Model#getNumOfTasksProperty(Person)
+     */
+    ReadOnlyIntegerProperty getNumOfTasksProperty(Person person);
+
     /** Returns an unmodifiable view of the filtered list of tasks */
     ObservableList<Task> getFilteredTaskList();
 
+    /**
+     * Returns the persons assigned to the given task.
+     *
+     * @see manageezpz.model.Model#getAssignees(Task)
+     */
+    List<Person> getAssignees(Task task);
+
+    /**
+     * Returns the names of the persons assigned to the given task, as they are shown.
+     *
+     * @see manageezpz.model.Model#getAssigneesLabel(Task)
+     */
+    String getAssigneesLabel(Task task);
+
     /**
      * Returns the user prefs' address book file path.
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Sets the listener that is told of the status of saving the address book, which is done in the background.
+     * The listener is not called on the JavaFX application thread.
+     */
+    void setSaveStatusListener(Consumer<String> saveStatusListener);
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -1,11 +1,18 @@
 package manageezpz.logic;
 
-import java.io.IOException;
+import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.commons.core.LogsCenter;
@@ -13,34 +20,71 @@ import manageezpz.logic.commands.Command;
 import manageezpz.logic.commands.CommandResult;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.logic.parser.AddressBookParser;
+import manageezpz.logic.parser.CommandCompleter;
 import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.AddressBook;
 import manageezpz.model.Model;
 import manageezpz.model.ReadOnlyAddressBook;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
+import manageezpz.storage.AddressBookSaver;
 import manageezpz.storage.Storage;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
-
     public static final String INPUT_CONTAINS_SPECIAL_CHARACTERS = "Please do not use invisible characters!";
+    public static final String MESSAGE_STILL_LOADING = "Still loading your tasks, please try again in a moment!";
+    public static final String MESSAGE_LOADING_FAILED = "Failed to load your tasks, so no changes can be made "
+            + "without overwriting your data file. Please restart ManageEZPZ. Cause: %s";
+
+    /** Number of tasks added in each step of populating the address book. */
+    public static final int TASKS_PER_POPULATE_STEP = 500;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    // Version of the address book as of the last save
+    private long savedAddressBookVersion;
+    // Commands are rejected while the address book is yet to be populated, as saving would overwrite the data file
+    private volatile boolean isPopulating;
+    // Commands are rejected for good if populating fails, as the model then holds only part of the address book
+    private volatile Throwable populatingFailure;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be already saved in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new AddressBookSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves the address book with
+     * {@code addressBookSaver}.
+     * The address book in {@code model} is taken to be already saved.
+     */
+    public LogicManager(Model model, AddressBookSaver addressBookSaver) {
+        this(model, addressBookSaver, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves the address book with
+     * {@code addressBookSaver}.
+     * If {@code isAddressBookLoaded} is false, commands are rejected until the address book has been populated with
+     * {@link #populateAddressBook}, so that the empty address book in {@code model} is never saved over the data file.
+     */
+    public LogicManager(Model model, AddressBookSaver addressBookSaver, boolean isAddressBookLoaded) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        isPopulating = !isAddressBookLoaded;
     }
 
     @Override
@@ -59,17 +103,84 @@ public class LogicManager implements Logic {
             throw new ParseException(INPUT_CONTAINS_SPECIAL_CHARACTERS);
         }
 
+        if (populatingFailure != null) {
+            throw new CommandException(String.format(MESSAGE_LOADING_FAILED, populatingFailure));
+        }
+        if (isPopulating) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        // Each command that changes the address book can be undone as a whole
+        model.commitAddressBook();
+        saveAddressBookIfChanged();
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        return commandResult;
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.getCompletions(commandText, model.getPersonNameTrie());
+    }
+
+    /**
+     * Saves the address book in the background, unless it has not changed since it was last saved.
+     * Failures to save are reported to the save status listener rather than to the command.
+     */
+    private void saveAddressBookIfChanged() {
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            return;
         }
 
-        return commandResult;
+        addressBookSaver.save(model.getAddressBook());
+        savedAddressBookVersion = version;
+    }
+
+    @Override
+    public CompletableFuture<Void> populateAddressBook(ReadOnlyAddressBook addressBook, Executor executor) {
+        requireAllNonNull(addressBook, executor);
+        CompletableFuture<Void> populated = new CompletableFuture<>();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Task> tasks = new ArrayList<>(addressBook.getTaskList());
+        isPopulating = true;
+        executor.execute(() -> runPopulateStep(populated, () -> {
+            AddressBook personsOnly = new AddressBook();
+            personsOnly.setPersons(persons);
+            model.setAddressBook(personsOnly);
+            executor.execute(() -> runPopulateStep(populated, () -> populateTasks(tasks, 0, executor, populated)));
+        }));
+        return populated;
+    }
+
+    /**
+     * Adds the chunk of {@code tasks} starting at {@code from}, and then the remaining chunks in later steps.
+     */
+    private void populateTasks(List<Task> tasks, int from, Executor executor, CompletableFuture<Void> populated) {
+        int to = Math.min(from + TASKS_PER_POPULATE_STEP, tasks.size());
+        model.addTasks(tasks.subList(from, to));
+        if (to < tasks.size()) {
+            executor.execute(() -> runPopulateStep(populated, () -> populateTasks(tasks, to, executor, populated)));
+            return;
+        }
+
+        savedAddressBookVersion = model.getAddressBookVersion();
+        // Loading the address book is not a change that can be undone
+        model.clearAddressBookHistory();
+        isPopulating = false;
+        logger.info("Populated address book with " + tasks.size() + " tasks");
+        populated.complete(null);
+    }
+
+    private void runPopulateStep(CompletableFuture<Void> populated, Runnable step) {
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            populatingFailure = e;
+            populated.completeExceptionally(e);
+        }
     }
 
     @Override
@@ -82,16 +193,36 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ReadOnlyIntegerProperty getNumOfTasksProperty(Person person) {
+        return model.getNumOfTasksProperty(person);
+    }
+
     @Override
     public ObservableList<Task> getFilteredTaskList() {
         return model.getFilteredTaskList();
     }
 
+    @Override
+    public List<Person> getAssignees(Task task) {
+        return model.getAssignees(task);
+    }
+
+    @Override
+    public String getAssigneesLabel(Task task) {
+        return model.getAssigneesLabel(task);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public void setSaveStatusListener(Consumer<String> saveStatusListener) {
+        addressBookSaver.setStatusListener(saveStatusListener);
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -8,7 +8,6 @@ import java.util.List;
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.Model;
-import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
 
 /**
@@ -45,7 +44,6 @@ public class DeleteTaskCommand extends Command {
         requireNonNull(model);
 
         List<Task> lastShownTaskList = model.getFilteredTaskList();
-        List<Person> fullPersonList = model.getAddressBook().getPersonList();
 
         if (targetIndex.getZeroBased() >= lastShownTaskList.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
@@ -53,13 +51,6 @@ public class DeleteTaskCommand extends Command {
 
         Task taskToDelete = lastShownTaskList.get(targetIndex.getZeroBased());
 
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
-
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = fullPersonList.get(fullPersonList.indexOf(person));
-            model.decreaseNumOfTasks(personToUpdate);
-        }
-
         model.deleteTask(taskToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
@@ -163,16 +163,12 @@ public class EditTaskCommand extends Command {
      * @return Updated Todo task
      */
     public Task updateTodo(Todo currentTask, String desc) throws ParseException {
-        Todo updatedToDoTask = new Todo(currentTask);
-
         if (prefixStatusHash.get("date") || prefixStatusHash.get("datetime")) {
             throw new ParseException(MESSAGE_EDIT_TODO_TASK_NO_DATE_AND_TIME_VALUES);
         }
 
         Description newDesc = ParserUtil.parseDescription(desc);
-        updatedToDoTask.setDescription(newDesc);
-
-        return updatedToDoTask;
+        return currentTask.withDescription(newDesc);
     }
 
     /**
@@ -185,7 +181,7 @@ public class EditTaskCommand extends Command {
      * @return Updated Deadline task
      */
     public Task updateDeadline(Deadline currentTask, String desc, String date, String time) throws ParseException {
-        Deadline updatedDeadlineTask = new Deadline(currentTask);
+        Deadline updatedDeadlineTask = currentTask;
 
         if (!ensureFormatCompliance(prefixStatusHash, desc, date, time)) {
             throw new ParseException(MESSAGE_EDIT_TASK_NO_EMPTY_VALUES);
@@ -193,17 +189,17 @@ public class EditTaskCommand extends Command {
 
         if (!desc.isEmpty()) {
             Description newDesc = ParserUtil.parseDescription(desc);
-            updatedDeadlineTask.setDescription(newDesc);
+            updatedDeadlineTask = updatedDeadlineTask.withDescription(newDesc);
         }
 
         if (!date.isEmpty()) {
             Date newDate = ParserUtil.parseDate(date);
-            updatedDeadlineTask.setDate(newDate);
+            updatedDeadlineTask = updatedDeadlineTask.withDate(newDate);
         }
 
         if (!time.isEmpty()) {
             Time newTime = ParserUtil.parseTime(time);
-            updatedDeadlineTask.setTime(newTime);
+            updatedDeadlineTask = updatedDeadlineTask.withTime(newTime);
         }
 
         return updatedDeadlineTask;
@@ -219,7 +215,7 @@ public class EditTaskCommand extends Command {
      * @return Updated Event task
      */
     public Task updateEvent(Event currentTask, String desc, String date, String time) throws ParseException {
-        Event updatedEventTask = new Event(currentTask);
+        Event updatedEventTask = currentTask;
 
         if (!ensureFormatCompliance(prefixStatusHash, desc, date, time)) {
             throw new ParseException(MESSAGE_EDIT_TASK_NO_EMPTY_VALUES);
@@ -227,12 +223,12 @@ public class EditTaskCommand extends Command {
 
         if (!desc.isEmpty()) {
             Description newDesc = ParserUtil.parseDescription(desc);
-            updatedEventTask.setDescription(newDesc);
+            updatedEventTask = updatedEventTask.withDescription(newDesc);
         }
 
         if (!date.isEmpty()) {
             Date newDate = ParserUtil.parseDate(date);
-            updatedEventTask.setDate(newDate);
+            updatedEventTask = updatedEventTask.withDate(newDate);
         }
 
         if (!time.isEmpty()) {
@@ -245,12 +241,11 @@ public class EditTaskCommand extends Command {
             Time newStartTime = ParserUtil.parseTime(newStartEndTimeStrParts[0]);
             Time newEndTime = ParserUtil.parseTime(newStartEndTimeStrParts[1]);
 
-            if (newEndTime.getParsedTime().compareTo(newStartTime.getParsedTime()) < 1) {
+            if (newEndTime.compareTo(newStartTime) <= 0) {
                 throw new ParseException(MESSAGE_INVALID_TIME_RANGE);
             }
 
-            updatedEventTask.setStartTime(newStartTime);
-            updatedEventTask.setEndTime(newEndTime);
+            updatedEventTask = updatedEventTask.withTimes(newStartTime, newEndTime);
         }
 
         return updatedEventTask;
@@ -2,6 +2,7 @@ package manageezpz.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
 
@@ -27,12 +28,16 @@ public class FindEmployeeCommand extends Command {
             + "Employee's properties:\n"
             + PREFIX_NAME.getPrefix()
             + "NAMES: Finds all employees which has their name contain any of the words in NAMES\n"
+            + PREFIX_FUZZY.getPrefix()
+            + ": Also finds names with misspelt words in NAMES, closest matches first (Only with "
+            + PREFIX_NAME.getPrefix() + ")\n"
             + PREFIX_PHONE.getPrefix()
             + "PHONE NUMBER: Find employees with the exact phone number\n"
             + PREFIX_EMAIL.getPrefix()
             + "EMAIL: Finds employees with the exact email"
             + "Example:\n"
             + COMMAND_WORD + " " + PREFIX_NAME.getPrefix() + "Alex Yeoh\n"
+            + COMMAND_WORD + " " + PREFIX_NAME.getPrefix() + "Alx Yoeh " + PREFIX_FUZZY.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_PHONE.getPrefix() + "62226222\n"
             + COMMAND_WORD + " " + PREFIX_EMAIL.getPrefix() + "alexyeo@google.com\n"
             + COMMAND_WORD + " " + PREFIX_NAME.getPrefix() + "Benson Chua " + PREFIX_PHONE.getPrefix() + "6123456 "
@@ -46,6 +51,8 @@ public class FindEmployeeCommand extends Command {
 
     public static final String INVALID_EMAIL = Email.MESSAGE_CONSTRAINTS + "\n";
 
+    public static final String FUZZY_WITHOUT_NAME = "The fuzzy option can only be used with a name\n";
+
     private final PersonMultiplePredicate predicate;
 
     /**
@@ -62,7 +69,12 @@ public class FindEmployeeCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate.isFuzzy()) {
+            PersonMultiplePredicate indexedPredicate = predicate.withTrigramIndex(model.getPersonTrigramIndex());
+            model.updateFilteredPersonList(indexedPredicate, indexedPredicate.getRelevanceComparator());
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         int latestNumberOfEmployees = model.getFilteredPersonList().size();
         String commandMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, latestNumberOfEmployees);
         return new CommandResult(commandMessage);
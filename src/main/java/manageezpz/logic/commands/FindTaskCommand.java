@@ -6,19 +6,29 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_OVERDUE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_QUERY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import manageezpz.commons.core.Messages;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.Model;
 import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Description;
 import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQuery;
+import manageezpz.model.task.TaskQueryPlan;
 
 
 /**
@@ -36,26 +46,47 @@ public class FindTaskCommand extends Command {
             + PREFIX_EVENT.getPrefix() + ": Events\n"
             + "Options:\n"
             + PREFIX_DESCRIPTION.getPrefix() + ": Description of the tasks\n"
+            + PREFIX_FUZZY.getPrefix() + ": Also finds descriptions with misspelt words, closest matches first "
+            + "(Only with " + PREFIX_DESCRIPTION.getPrefix() + ")\n"
             + PREFIX_DATE.getPrefix() + ": Date of the task in YYYY-MM-DD (Only for deadline and event)\n"
+            + PREFIX_FROM_DATE.getPrefix() + ": Earliest date of the task in YYYY-MM-DD (Only for deadline and event)\n"
+            + PREFIX_TO_DATE.getPrefix() + ": Latest date of the task in YYYY-MM-DD (Only for deadline and event)\n"
+            + PREFIX_OVERDUE.getPrefix() + ": Deadlines and events before today that are not done\n"
             + PREFIX_PRIORITY.getPrefix() + ": Priority of task. Only HIGH, MEDIUM, LOW and NONE\n"
             + PREFIX_ASSIGNEES.getPrefix()
             + ": The assignees that was assigned to the task (Only one full name of assignee allowed)\n"
-            + PREFIX_IS_MARKED.getPrefix() + ": Whether the task is marked. Only true or false."
+            + PREFIX_IS_MARKED.getPrefix() + ": Whether the task is marked. Only true or false.\n"
+            + PREFIX_QUERY.getPrefix() + ": A query of clauses combined with AND, OR, NOT and parentheses, "
+            + "which cannot be used with other options. The clauses are type=TYPE, desc=WORD, date OP YYYY-MM-DD, "
+            + "priority OP PRIORITY, isMarked=BOOLEAN, assignee=\"FULL NAME\" and overdue, "
+            + "where OP is one of =, <, <=, >, >=\n"
+            + PREFIX_EXPLAIN.getPrefix() + ": Shows how the query was evaluated (Only with "
+            + PREFIX_QUERY.getPrefix() + ")\n"
             + "Format:\n"
             + COMMAND_WORD + " " + PREFIX_TODO.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DEADLINE.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_EVENT.getPrefix() + "\n"
-            + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "[LIST OF WORDS]\n"
+            + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "[LIST OF WORDS] [" + PREFIX_FUZZY.getPrefix()
+            + "]\n"
             + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "YYYY-MM-DD\n"
-            + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "PRIORITY"
+            + COMMAND_WORD + " " + PREFIX_FROM_DATE.getPrefix() + "YYYY-MM-DD " + PREFIX_TO_DATE.getPrefix()
+            + "YYYY-MM-DD\n"
+            + COMMAND_WORD + " " + PREFIX_OVERDUE.getPrefix() + "\n"
+            + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "PRIORITY\n"
             + COMMAND_WORD + " " + PREFIX_ASSIGNEES.getPrefix() + "Assignee's full name\n"
             + COMMAND_WORD + " " + PREFIX_IS_MARKED.getPrefix() + "BOOLEAN\n"
+            + COMMAND_WORD + " " + PREFIX_QUERY.getPrefix() + "QUERY [" + PREFIX_EXPLAIN.getPrefix() + "]\n"
             + "Example:\n"
             + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "homework\n"
+            + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "homwork " + PREFIX_FUZZY.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "2022-01-01\n"
+            + COMMAND_WORD + " " + PREFIX_FROM_DATE.getPrefix() + "2022-01-01 " + PREFIX_TO_DATE.getPrefix()
+            + "2022-01-07\n"
             + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "HIGH\n"
             + COMMAND_WORD + " " + PREFIX_ASSIGNEES.getPrefix() + "Sam Leong\n"
             + COMMAND_WORD + " " + PREFIX_IS_MARKED.getPrefix() + "true\n"
+            + COMMAND_WORD + " " + PREFIX_QUERY.getPrefix() + "(priority>=MEDIUM OR overdue) AND NOT type=todo "
+            + PREFIX_EXPLAIN.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "Capstone project " + PREFIX_DATE.getPrefix()
             + "2022-05-01 " + PREFIX_PRIORITY.getPrefix() + "HIGH " + PREFIX_ASSIGNEES.getPrefix() + "Max Leong"
             + PREFIX_IS_MARKED.getPrefix() + "true";
@@ -76,7 +107,21 @@ public class FindTaskCommand extends Command {
 
     public static final String MORE_THAN_ONE_TASK_TYPE = "Only one task type is allowed\n";
 
+    public static final String FROM_DATE_AFTER_TO_DATE = "From date should not be after to date\n";
+
+    public static final String INVALID_QUERY = "Invalid query: %1$s\n";
+
+    public static final String QUERY_WITH_OTHER_OPTIONS = "The query option cannot be used with other options\n";
+
+    public static final String EXPLAIN_WITHOUT_QUERY = "The explain option can only be used with a query\n";
+
+    public static final String FUZZY_WITHOUT_DESCRIPTION = "The fuzzy option can only be used with a description\n";
+
+    public static final String MESSAGE_QUERY_PLAN = "Plan:\n%1$s\nEvaluated in %2$.3f ms";
+
     private final TaskMultiplePredicate predicate;
+    private final TaskQuery query;
+    private final boolean isExplain;
 
     /**
      * The constructor for find task command.
@@ -85,6 +130,20 @@ public class FindTaskCommand extends Command {
     public FindTaskCommand(TaskMultiplePredicate predicate) {
         requireNonNull(predicate);
         this.predicate = predicate;
+        this.query = null;
+        this.isExplain = false;
+    }
+
+    /**
+     * The constructor for find task command with a query.
+     * @param query The query to find tasks with
+     * @param isExplain Whether to show the plan that the query was evaluated with
+     */
+    public FindTaskCommand(TaskQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.predicate = null;
+        this.query = query;
+        this.isExplain = isExplain;
     }
 
     /**
@@ -93,12 +152,69 @@ public class FindTaskCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        if (query != null) {
+            return executeQuery(model);
+        }
+
+        TaskMultiplePredicate resolvedPredicate = resolveAssignee(model);
+        if (resolvedPredicate.hasDescriptions()) {
+            resolvedPredicate = resolvedPredicate.withKeywordIndex(model.getTaskKeywordIndex());
+        }
+        if (resolvedPredicate.hasDateRange()) {
+            resolvedPredicate = resolvedPredicate.withDateIndex(model.getTaskDateIndex());
+        }
+        if (resolvedPredicate.hasAttributes()) {
+            resolvedPredicate = resolvedPredicate.withAttributeIndex(model.getTaskAttributeIndex());
+        }
+        if (resolvedPredicate.isFuzzy()) {
+            resolvedPredicate = resolvedPredicate.withTrigramIndex(model.getTaskTrigramIndex());
+            model.updateFilteredTaskList(resolvedPredicate, resolvedPredicate.getRelevanceComparator());
+        } else {
+            model.updateFilteredTaskList(resolvedPredicate);
+        }
         int latestNumberOfTasks = model.getFilteredTaskList().size();
         String commandResultMessage = String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, latestNumberOfTasks);
         return new CommandResult(commandResultMessage);
     }
 
+    /**
+     * Finds the tasks matching the query with a plan that uses the task indexes of {@code model}.
+     */
+    private CommandResult executeQuery(Model model) {
+        // Tasks refer to their assignees by id
+        TaskQuery resolvedQuery = query.resolveAssignees(assignee -> model.findByName(new Name(assignee))
+                .map(Person::getId)
+                .orElse(Person.UNASSIGNED_ID));
+        TaskQueryPlan plan = new TaskQueryPlan(resolvedQuery, model.getTaskKeywordIndex(), model.getTaskDateIndex(),
+                model.getTaskAttributeIndex(), model::findTaskIdsAssignedTo);
+
+        long startNanos = System.nanoTime();
+        model.updateFilteredTaskList(plan);
+        int latestNumberOfTasks = model.getFilteredTaskList().size();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        String commandResultMessage = String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, latestNumberOfTasks);
+        if (isExplain) {
+            double elapsedMillis = (double) elapsedNanos / TimeUnit.MILLISECONDS.toNanos(1);
+            commandResultMessage += "\n" + String.format(MESSAGE_QUERY_PLAN, plan.explain(), elapsedMillis);
+        }
+        return new CommandResult(commandResultMessage);
+    }
+
+    /**
+     * Looks up the assignee to search for, if any, as tasks refer to their assignees by id.
+     */
+    private TaskMultiplePredicate resolveAssignee(Model model) {
+        String assignee = predicate.getAssignee();
+        if (assignee == null || !Name.isValidName(assignee)) {
+            return predicate;
+        }
+
+        return model.findByName(new Name(assignee))
+                .map(predicate::withAssignee)
+                .orElse(predicate);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,9 +223,11 @@ public class FindTaskCommand extends Command {
         if (obj == this) {
             return true;
         } else if (obj instanceof FindTaskCommand) {
-            Predicate otherPredicate = ((FindTaskCommand) obj).predicate;
-            boolean isOtherPredicateEqual = predicate.equals(otherPredicate);
-            return isOtherPredicateEqual;
+            FindTaskCommand otherCommand = (FindTaskCommand) obj;
+            boolean isOtherPredicateEqual = Objects.equals(predicate, otherCommand.predicate);
+            boolean isOtherQueryEqual = Objects.equals(query, otherCommand.query)
+                    && isExplain == otherCommand.isExplain;
+            return isOtherPredicateEqual && isOtherQueryEqual;
         }
         return false;
     }
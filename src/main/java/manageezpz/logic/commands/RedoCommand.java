@@ -0,0 +1,38 @@
+package manageezpz.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import manageezpz.logic.commands.exceptions.CommandException;
+import manageezpz.model.Model;
+
+/**
+ * Redoes the last change to the address book that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores ManageEZPZ to its state before the last undo.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change!";
+
+    public static final String MESSAGE_FAILURE = "There are no undone changes to redo!";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
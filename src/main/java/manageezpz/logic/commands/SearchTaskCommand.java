@@ -0,0 +1,74 @@
+package manageezpz.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.List;
+
+import manageezpz.commons.core.Messages;
+import manageezpz.model.Model;
+import manageezpz.model.task.TaskRelevancePredicate;
+
+/**
+ * Finds the tasks whose descriptions are the most relevant to some keywords, and lists them from the most relevant
+ * to the least.
+ */
+public class SearchTaskCommand extends Command {
+
+    public static final String COMMAND_WORD = "searchTask";
+
+    /** Number of tasks listed when the number is not given. */
+    public static final int DEFAULT_LIMIT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the tasks whose descriptions are the most relevant to the keywords, most relevant first. "
+            + "Tasks score higher for keywords that are in fewer descriptions, that appear more times in their "
+            + "description, and that make up more of their description.\n"
+            + "Options:\n"
+            + PREFIX_TOP.getPrefix() + ": Most number of tasks to list, which is " + DEFAULT_LIMIT
+            + " if not given\n"
+            + "Format:\n"
+            + COMMAND_WORD + " KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TOP.getPrefix() + "NUMBER]\n"
+            + "Example:\n"
+            + COMMAND_WORD + " project report\n"
+            + COMMAND_WORD + " project report " + PREFIX_TOP.getPrefix() + "5";
+
+    public static final String INVALID_LIMIT = "The number of tasks to list should be a positive integer\n\n";
+
+    private final List<String> keywords;
+    private final int limit;
+
+    /**
+     * The constructor for search task command.
+     * @param keywords The keywords to rank the descriptions of the tasks by
+     * @param limit The most number of tasks to list, which must be positive
+     */
+    public SearchTaskCommand(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        TaskRelevancePredicate predicate = new TaskRelevancePredicate(keywords, limit, model.getTaskKeywordIndex());
+        model.updateFilteredTaskList(predicate, predicate.getRelevanceComparator());
+        int latestNumberOfTasks = model.getFilteredTaskList().size();
+        return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, latestNumberOfTasks));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchTaskCommand // instanceof handles nulls
+                && keywords.equals(((SearchTaskCommand) other).keywords)
+                && limit == ((SearchTaskCommand) other).limit);
+    }
+}
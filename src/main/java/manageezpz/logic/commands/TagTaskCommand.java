@@ -6,10 +6,12 @@ import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.List;
+import java.util.Optional;
 
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.Model;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
 
@@ -52,7 +54,6 @@ public class TagTaskCommand extends Command {
         requireNonNull(model);
 
         List<Task> lastShownTaskList = model.getFilteredTaskList();
-        List<Person> lastShownPersonList = model.getFilteredPersonList();
 
         if (targetIndex.getZeroBased() >= lastShownTaskList.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
@@ -60,26 +61,22 @@ public class TagTaskCommand extends Command {
 
         Task taskToTagEmployee = lastShownTaskList.get(targetIndex.getZeroBased());
 
-        Person person = null;
+        Optional<Person> matchedPerson = Name.isValidName(name)
+                ? model.findByName(new Name(name))
+                : Optional.empty();
 
-        for (Person p : lastShownPersonList) {
-            if (p.getName().toString().equals(name)) {
-                person = p;
-                break;
-            }
-        }
-
-        if (person == null) {
+        if (matchedPerson.isEmpty() || !model.isPersonDisplayed(matchedPerson.get())) {
             throw new CommandException(String.format(MESSAGE_NO_SUCH_PERSON, name) + "\n\n" + MESSAGE_USAGE);
         }
 
+        Person person = matchedPerson.get();
+
         if (model.isEmployeeTaggedToTask(taskToTagEmployee, person)) {
             throw new CommandException(String.format(MESSAGE_PERSON_TAGGED_TO_TASK,
                     person.getName().toString()) + taskToTagEmployee + "\n\n" + MESSAGE_USAGE);
         }
 
         Task taggedEmployeeTask = model.tagEmployeeToTask(taskToTagEmployee, person);
-        model.increaseNumOfTasks(person);
 
         return new CommandResult(String.format(MESSAGE_TAG_TASK_SUCCESS,
                 person.getName().toString()) + taggedEmployeeTask);
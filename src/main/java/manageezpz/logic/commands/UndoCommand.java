@@ -0,0 +1,38 @@
+package manageezpz.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import manageezpz.logic.commands.exceptions.CommandException;
+import manageezpz.model.Model;
+
+/**
+ * Undoes the last change to the address book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores ManageEZPZ to its state before the last change.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the last change!";
+
+    public static final String MESSAGE_FAILURE = "There are no changes to undo!";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -46,7 +46,7 @@ public class AddEventTaskCommandParser implements Parser<AddEventTaskCommand> {
             Time startTime = ParserUtil.parseTime(parseAtDateTime[1]);
             Time endTime = ParserUtil.parseTime(parseAtDateTime[2]);
 
-            if (endTime.getParsedTime().compareTo(startTime.getParsedTime()) < 1) {
+            if (endTime.compareTo(startTime) <= 0) {
                 throw new ParseException(MESSAGE_INVALID_TIME_RANGE);
             }
 
@@ -3,6 +3,7 @@ package manageezpz.logic.parser;
 import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
 import static manageezpz.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,8 +24,11 @@ import manageezpz.logic.commands.HelpCommand;
 import manageezpz.logic.commands.ListEmployeeCommand;
 import manageezpz.logic.commands.ListTaskCommand;
 import manageezpz.logic.commands.MarkTaskCommand;
+import manageezpz.logic.commands.RedoCommand;
+import manageezpz.logic.commands.SearchTaskCommand;
 import manageezpz.logic.commands.TagTaskCommand;
 import manageezpz.logic.commands.TagTaskPriorityCommand;
+import manageezpz.logic.commands.UndoCommand;
 import manageezpz.logic.commands.UnmarkTaskCommand;
 import manageezpz.logic.commands.UntagTaskCommand;
 import manageezpz.logic.parser.exceptions.ParseException;
@@ -34,6 +38,17 @@ import manageezpz.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    /** The command words of all the commands, which are matched exactly, including their case. */
+    public static final List<String> COMMAND_WORDS = List.of(AddEmployeeCommand.COMMAND_WORD,
+            EditEmployeeCommand.COMMAND_WORD, DeleteEmployeeCommand.COMMAND_WORD, DeleteTaskCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD, FindTaskCommand.COMMAND_WORD, FindEmployeeCommand.COMMAND_WORD,
+            ListTaskCommand.COMMAND_WORD, ListEmployeeCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, AddTodoTaskCommand.COMMAND_WORD, AddEventTaskCommand.COMMAND_WORD,
+            AddDeadlineTaskCommand.COMMAND_WORD, MarkTaskCommand.COMMAND_WORD, UnmarkTaskCommand.COMMAND_WORD,
+            TagTaskCommand.COMMAND_WORD, UntagTaskCommand.COMMAND_WORD, TagTaskPriorityCommand.COMMAND_WORD,
+            EditTaskCommand.COMMAND_WORD, SearchTaskCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -79,6 +94,9 @@ public class AddressBookParser {
         case FindEmployeeCommand.COMMAND_WORD:
             return new FindEmployeeCommandParser().parse(arguments);
 
+        case SearchTaskCommand.COMMAND_WORD:
+            return new SearchTaskCommandParser().parse(arguments);
+
         case ListTaskCommand.COMMAND_WORD:
             return new ListTaskCommand();
 
@@ -118,6 +136,12 @@ public class AddressBookParser {
         case EditTaskCommand.COMMAND_WORD:
             return new EditTaskCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
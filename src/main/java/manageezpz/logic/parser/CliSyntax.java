@@ -17,7 +17,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_BY_DATETIME = new Prefix("by/");
     public static final Prefix PREFIX_AT_DATETIME = new Prefix("at/");
     public static final Prefix PREFIX_DATE = new Prefix("date/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_OVERDUE = new Prefix("overdue/");
     public static final Prefix PREFIX_PRIORITY = new Prefix("priority/");
     public static final Prefix PREFIX_ASSIGNEES = new Prefix("assignees/");
     public static final Prefix PREFIX_IS_MARKED = new Prefix("isMarked/");
+    public static final Prefix PREFIX_QUERY = new Prefix("query/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("explain/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 }
@@ -0,0 +1,99 @@
+package manageezpz.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_ASSIGNEES;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.logic.commands.AddEmployeeCommand;
+
+/**
+ * Completes the command that is being typed, from the command words and the full names of the persons in the
+ * address book.
+ * <p>
+ * While the command word is being typed, it is completed from the command words. After that, the text after the
+ * last name or assignee option, such as {@code tagTask 1 n/Alex Y}, is completed from the full names, unless another
+ * option has been started after it. The names of new employees are not completed.
+ */
+public class CommandCompleter {
+
+    /** Most completions found for the text being typed. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final Prefix[] NAME_PREFIXES = {PREFIX_NAME, PREFIX_ASSIGNEES};
+    // An option started after a name, which is preceded by whitespace like the options found by ArgumentTokenizer
+    private static final Pattern OPTION_FORMAT = Pattern.compile(".*\\s\\S*/.*");
+
+    private final PrefixTrie commandWords = new PrefixTrie();
+
+    /**
+     * Creates a {@code CommandCompleter} that completes all the command words of {@code AddressBookParser}.
+     */
+    public CommandCompleter() {
+        AddressBookParser.COMMAND_WORDS.forEach(commandWords::add);
+    }
+
+    /**
+     * Returns the ways that {@code commandText} can be completed, each being the whole command text once completed.
+     * @param commandText the command text typed so far.
+     * @param names the trie of the full names of the persons in the address book.
+     * @return at most {@link #MAX_COMPLETIONS} completed command texts, which is empty if there are none.
+     */
+    public List<String> getCompletions(String commandText, PrefixTrie names) {
+        requireNonNull(commandText);
+        requireNonNull(names);
+        String typedText = commandText.stripLeading();
+        if (typedText.isEmpty()) {
+            return List.of();
+        }
+
+        String leadingSpace = commandText.substring(0, commandText.length() - typedText.length());
+        String[] commandWordAndArgs = typedText.split("\\s", 2);
+        if (commandWordAndArgs.length == 1) {
+            return complete(leadingSpace, commandWords.findWithPrefix(typedText, MAX_COMPLETIONS), " ");
+        }
+        if (commandWordAndArgs[0].equals(AddEmployeeCommand.COMMAND_WORD)) {
+            return List.of();
+        }
+
+        int nameStart = findNameStart(commandText);
+        if (nameStart == -1) {
+            return List.of();
+        }
+        String typedName = commandText.substring(nameStart);
+        if (OPTION_FORMAT.matcher(typedName).matches()) {
+            return List.of();
+        }
+        String textBeforeName = commandText.substring(0, nameStart);
+        return complete(textBeforeName, names.findWithPrefix(typedName, MAX_COMPLETIONS), "");
+    }
+
+    /**
+     * Returns the position in {@code commandText} right after the last name or assignee option, or -1 if there is
+     * no such option. Leading whitespace of the name is left before this position.
+     */
+    private static int findNameStart(String commandText) {
+        int nameStart = -1;
+        for (Prefix prefix : NAME_PREFIXES) {
+            int prefixPosition = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixPosition != -1) {
+                nameStart = Math.max(nameStart, prefixPosition + 1 + prefix.getPrefix().length());
+            }
+        }
+        if (nameStart == -1) {
+            return -1;
+        }
+        while (nameStart < commandText.length() && Character.isWhitespace(commandText.charAt(nameStart))) {
+            nameStart++;
+        }
+        return nameStart;
+    }
+
+    private static List<String> complete(String textBefore, List<String> words, String textAfter) {
+        return words.stream().map(word -> textBefore + word + textAfter).collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package manageezpz.logic.parser;
 
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
 
@@ -22,7 +23,7 @@ import manageezpz.model.person.Phone;
  * Checks if the options are valid for finding employees.
  */
 public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
-    private static final Prefix[] PERSON_PROPERTIES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL};
+    private static final Prefix[] PERSON_PROPERTIES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_FUZZY};
     private static final Logger logger = LogsCenter.getLogger(FindEmployeeCommandParser.class);
 
     private String errorMessage = "";
@@ -39,6 +40,8 @@ public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
         List<String> names = getPersonName(argMultimap);
         String phone = getPersonPhone(argMultimap);
         String email = getPersonEmail(argMultimap);
+        boolean isFuzzy = argMultimap.isPrefixExist(PREFIX_FUZZY);
+        checkIfFuzzyWithoutName(argMultimap, isFuzzy);
 
         if (hasError) {
             String finalMessage = errorMessage + FindEmployeeCommand.MESSAGE_USAGE;
@@ -46,7 +49,7 @@ public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
             throw new ParseException(displayedMessage);
         } else {
             PersonMultiplePredicate predicate = new PersonMultiplePredicate(names, phone, email);
-            return new FindEmployeeCommand(predicate);
+            return new FindEmployeeCommand(isFuzzy ? predicate.withFuzzyNames() : predicate);
         }
     }
 
@@ -58,6 +61,14 @@ public class FindEmployeeCommandParser implements Parser<FindEmployeeCommand> {
         }
     }
 
+    private void checkIfFuzzyWithoutName(ArgumentMultimap argMultimap, boolean isFuzzy) {
+        String fuzzyWithoutNameMessage = "fuzzy/ is given without n/";
+        if (isFuzzy && !argMultimap.isPrefixExist(PREFIX_NAME)) {
+            logger.warning(fuzzyWithoutNameMessage);
+            addErrorMessage(FindEmployeeCommand.FUZZY_WITHOUT_NAME);
+        }
+    }
+
     private List<String> getPersonName(ArgumentMultimap argMultimap) {
         String nameMessage = "Names:";
         List<String> names = null;
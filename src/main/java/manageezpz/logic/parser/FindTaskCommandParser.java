@@ -6,9 +6,15 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_OVERDUE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_QUERY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +29,7 @@ import manageezpz.model.person.Name;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Description;
 import manageezpz.model.task.Priority;
+import manageezpz.model.task.TaskQuery;
 import manageezpz.model.task.TaskMultiplePredicate;
 
 /**
@@ -30,8 +37,10 @@ import manageezpz.model.task.TaskMultiplePredicate;
  */
 public class FindTaskCommandParser implements Parser<FindTaskCommand> {
     private static final Prefix[] TASK_TYPES = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT};
+    private static final Prefix[] DATE_OPTIONS = {PREFIX_DATE, PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_OVERDUE};
     private static final Prefix[] VALID_OPTIONS = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT, PREFIX_DATE,
-        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_ASSIGNEES, PREFIX_IS_MARKED};
+        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_ASSIGNEES, PREFIX_IS_MARKED, PREFIX_FROM_DATE, PREFIX_TO_DATE,
+        PREFIX_OVERDUE, PREFIX_QUERY, PREFIX_EXPLAIN, PREFIX_FUZZY};
     private static final Logger logger = LogsCenter.getLogger(FindTaskCommandParser.class);
 
     private String errorMessage = "";
@@ -42,24 +51,85 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
      */
     public FindTaskCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, VALID_OPTIONS);
+        if (argMultiMap.isPrefixExist(PREFIX_QUERY)) {
+            return parseQuery(argMultiMap);
+        }
 
         checkIfHaveAtLeastOneOption(argMultiMap);
+        checkIfExplainWithoutQuery(argMultiMap);
         Prefix taskType = getPrefix(argMultiMap);
         List<String> descriptions = getDescriptions(argMultiMap);
-        Date date = getTaskDate(argMultiMap);
+        Date date = getTaskDate(argMultiMap, PREFIX_DATE);
         Priority priority = getTaskPriority(argMultiMap);
         String assignee = getAssignee(argMultiMap);
         Boolean isMarked = getIsMarked(argMultiMap);
+        Date fromDate = getTaskDate(argMultiMap, PREFIX_FROM_DATE);
+        Date toDate = getTaskDate(argMultiMap, PREFIX_TO_DATE);
+        boolean isOverdue = argMultiMap.isPrefixExist(PREFIX_OVERDUE);
+        boolean isFuzzy = argMultiMap.isPrefixExist(PREFIX_FUZZY);
 
         checkIfTodoAndDateTogether(argMultiMap, taskType);
+        checkIfFromDateAfterToDate(fromDate, toDate);
+        checkIfFuzzyWithoutDescription(argMultiMap, isFuzzy);
 
         if (hasError) {
             String finalMessage = errorMessage + FindTaskCommand.MESSAGE_USAGE;
             String displayedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT_BIND, finalMessage);
             throw new ParseException(displayedMessage);
         } else {
-            return new FindTaskCommand(new TaskMultiplePredicate(
-                    taskType, descriptions, date, priority, assignee, isMarked));
+            TaskMultiplePredicate predicate = new TaskMultiplePredicate(
+                    taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate, isOverdue);
+            return new FindTaskCommand(isFuzzy ? predicate.withFuzzyDescriptions() : predicate);
+        }
+    }
+
+    /**
+     * Parses the query given with the query/ option, which cannot be given with any other option except explain/.
+     */
+    private FindTaskCommand parseQuery(ArgumentMultimap argMultiMap) throws ParseException {
+        String queryString = argMultiMap.getValue(PREFIX_QUERY).get();
+        String queryMessage = "Query:";
+        logger.info(String.join(" ", queryMessage, queryString));
+
+        boolean hasOtherOptions = Arrays.stream(VALID_OPTIONS)
+                .filter(prefix -> !prefix.equals(PREFIX_QUERY) && !prefix.equals(PREFIX_EXPLAIN))
+                .anyMatch(argMultiMap::isPrefixExist);
+        if (hasOtherOptions || !argMultiMap.getPreamble().isEmpty()) {
+            String queryWithOtherOptionsMessage = "query/ is given with other options";
+            logger.warning(queryWithOtherOptionsMessage);
+            addErrorMessage(FindTaskCommand.QUERY_WITH_OTHER_OPTIONS);
+        }
+
+        TaskQuery query = null;
+        try {
+            query = TaskQueryParser.parse(queryString);
+        } catch (ParseException pe) {
+            logger.warning(pe.getMessage());
+            addErrorMessage(String.format(FindTaskCommand.INVALID_QUERY, pe.getMessage()));
+        }
+
+        if (hasError) {
+            String finalMessage = errorMessage + FindTaskCommand.MESSAGE_USAGE;
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT_BIND, finalMessage));
+        }
+        return new FindTaskCommand(query, argMultiMap.isPrefixExist(PREFIX_EXPLAIN));
+    }
+
+    private void checkIfExplainWithoutQuery(ArgumentMultimap argMultiMap) {
+        String explainWithoutQueryMessage = "explain/ is given without query/";
+
+        if (argMultiMap.isPrefixExist(PREFIX_EXPLAIN)) {
+            logger.warning(explainWithoutQueryMessage);
+            addErrorMessage(FindTaskCommand.EXPLAIN_WITHOUT_QUERY);
+        }
+    }
+
+    private void checkIfFuzzyWithoutDescription(ArgumentMultimap argMultiMap, boolean isFuzzy) {
+        String fuzzyWithoutDescriptionMessage = "fuzzy/ is given without desc/";
+
+        if (isFuzzy && !argMultiMap.isPrefixExist(PREFIX_DESCRIPTION)) {
+            logger.warning(fuzzyWithoutDescriptionMessage);
+            addErrorMessage(FindTaskCommand.FUZZY_WITHOUT_DESCRIPTION);
         }
     }
 
@@ -76,12 +146,23 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
         boolean isContainsTodo = taskTypes instanceof Prefix && taskTypes.equals(PREFIX_TODO);
         String todoAndDateOptionTogetherMessage = "todo/ and date/ are together";
 
-        if (isContainsTodo && argMultiMapProperties.isPrefixExist(PREFIX_DATE)) {
+        boolean isContainsDateOption = Arrays.stream(DATE_OPTIONS).anyMatch(argMultiMapProperties::isPrefixExist);
+
+        if (isContainsTodo && isContainsDateOption) {
             logger.warning(todoAndDateOptionTogetherMessage);
             addErrorMessage(FindTaskCommand.TODO_AND_DATE_OPTION_TOGETHER);
         }
     }
 
+    private void checkIfFromDateAfterToDate(Date fromDate, Date toDate) {
+        String fromDateAfterToDateMessage = "from/ date is after to/ date";
+
+        if (fromDate != null && toDate != null && fromDate.compareTo(toDate) > 0) {
+            logger.warning(fromDateAfterToDateMessage);
+            addErrorMessage(FindTaskCommand.FROM_DATE_AFTER_TO_DATE);
+        }
+    }
+
     private Prefix getPrefix(ArgumentMultimap argMultiMap) {
         List<Prefix> currentPrefixes = Arrays.stream(TASK_TYPES)
                 .filter(prefix -> argMultiMap.isPrefixExist(prefix)).collect(Collectors.toList());
@@ -126,12 +207,12 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
         }
     }
 
-    private Date getTaskDate(ArgumentMultimap argMultiMap) {
+    private Date getTaskDate(ArgumentMultimap argMultiMap, Prefix datePrefix) {
         String dateMessage = "Date:";
         Date date = null;
-        if (argMultiMap.isPrefixExist(PREFIX_DATE)) {
-            String dateString = argMultiMap.getValue(PREFIX_DATE).get().trim();
-            logger.info(String.join(" ", dateMessage, dateString));
+        if (argMultiMap.isPrefixExist(datePrefix)) {
+            String dateString = argMultiMap.getValue(datePrefix).get().trim();
+            logger.info(String.join(" ", datePrefix.getPrefix(), dateMessage, dateString));
             boolean isDateValid = checkIfDateIsValid(dateString);
             if (isDateValid) {
                 date = new Date(dateString);
@@ -89,7 +89,7 @@ public class ParserUtil {
         if (!Date.isValidDate(date)) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
-        return new Date(date);
+        return Date.of(date);
     }
 
     /**
@@ -103,7 +103,7 @@ public class ParserUtil {
         if (!Time.isValidTime(time)) {
             throw new ParseException(Time.MESSAGE_CONSTRAINTS);
         }
-        return new Time(time);
+        return Time.of(time);
     }
 
     /**
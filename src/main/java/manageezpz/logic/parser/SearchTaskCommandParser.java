@@ -0,0 +1,45 @@
+package manageezpz.logic.parser;
+
+import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import manageezpz.commons.util.StringUtil;
+import manageezpz.logic.commands.SearchTaskCommand;
+import manageezpz.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchTaskCommand object
+ */
+public class SearchTaskCommandParser implements Parser<SearchTaskCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchTaskCommand
+     * and returns a SearchTaskCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchTaskCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP);
+        String preamble = argMultimap.getPreamble().trim();
+
+        // Invalid command if there are no keywords
+        if (preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+                    SearchTaskCommand.MESSAGE_USAGE));
+        }
+
+        int limit = SearchTaskCommand.DEFAULT_LIMIT;
+        Optional<String> limitString = argMultimap.getValue(PREFIX_TOP);
+        if (limitString.isPresent()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(limitString.get())) {
+                throw new ParseException(SearchTaskCommand.INVALID_LIMIT + SearchTaskCommand.MESSAGE_USAGE);
+            }
+            limit = Integer.parseInt(limitString.get());
+        }
+
+        return new SearchTaskCommand(Arrays.asList(preamble.split("\\s+")), limit);
+    }
+}
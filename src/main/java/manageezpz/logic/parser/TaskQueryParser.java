@@ -0,0 +1,217 @@
+package manageezpz.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.person.Name;
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.TaskQuery;
+import manageezpz.model.task.TaskQuery.Comparison;
+import manageezpz.model.task.Todo;
+
+/**
+ * Parses a query on tasks, such as {@code (priority>=MEDIUM OR overdue) AND NOT assignee="Alex Yeoh"}, into a
+ * {@code TaskQuery}.
+ * <p>
+ * A query is made of clauses combined with {@code AND}, {@code OR} and {@code NOT}, from the tightest binding to the
+ * loosest {@code NOT}, {@code AND} and then {@code OR}, which can be grouped with parentheses. The clauses are
+ * {@code type=TYPE}, {@code desc=WORD}, {@code date OP YYYY-MM-DD}, {@code priority OP PRIORITY},
+ * {@code isMarked=BOOLEAN}, {@code assignee="FULL NAME"} and {@code overdue}, where {@code OP} is one of
+ * {@code =, <, <=, >, >=}, and higher priorities are greater.
+ */
+public class TaskQueryParser {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\s*(\"[^\"]*\"|[()]|[<>]=?|=|[^\\s()<>=\"]+)");
+    private static final Map<String, Comparison> COMPARISONS = Map.of("=", Comparison.EQUAL, "<", Comparison.LESS,
+            "<=", Comparison.LESS_OR_EQUAL, ">", Comparison.GREATER, ">=", Comparison.GREATER_OR_EQUAL);
+
+    private final List<String> tokens;
+    private int position;
+
+    private TaskQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code queryString} into a {@code TaskQuery}, in which overdue tasks are those dated before today.
+     * @throws ParseException if {@code queryString} is not a valid query.
+     */
+    public static TaskQuery parse(String queryString) throws ParseException {
+        TaskQueryParser parser = new TaskQueryParser(tokenize(queryString));
+        TaskQuery query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException("Unexpected " + parser.next() + " in the query");
+        }
+        return query;
+    }
+
+    private static List<String> tokenize(String queryString) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(queryString);
+        int end = 0;
+        while (!queryString.substring(end).isBlank()) {
+            matcher.region(end, queryString.length());
+            if (!matcher.lookingAt()) {
+                throw new ParseException("Unexpected " + queryString.substring(end).trim() + " in the query");
+            }
+            tokens.add(matcher.group(1));
+            end = matcher.end();
+        }
+        return tokens;
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private boolean isNext(String token) {
+        return hasNext() && tokens.get(position).equalsIgnoreCase(token);
+    }
+
+    private String next() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException("The query ends unexpectedly");
+        }
+        return tokens.get(position++);
+    }
+
+    private TaskQuery parseOr() throws ParseException {
+        List<TaskQuery> operands = new ArrayList<>(List.of(parseAnd()));
+        while (isNext("OR")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : TaskQuery.or(operands);
+    }
+
+    private TaskQuery parseAnd() throws ParseException {
+        List<TaskQuery> operands = new ArrayList<>(List.of(parseNot()));
+        while (isNext("AND")) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : TaskQuery.and(operands);
+    }
+
+    private TaskQuery parseNot() throws ParseException {
+        if (isNext("NOT")) {
+            position++;
+            return TaskQuery.not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private TaskQuery parsePrimary() throws ParseException {
+        if (!isNext("(")) {
+            return parseClause();
+        }
+
+        position++;
+        TaskQuery query = parseOr();
+        if (!isNext(")")) {
+            throw new ParseException("Missing ) in the query");
+        }
+        position++;
+        return query;
+    }
+
+    private TaskQuery parseClause() throws ParseException {
+        String field = next();
+        if (field.equalsIgnoreCase("overdue")) {
+            return TaskQuery.isOverdue(Date.getTodayDate());
+        }
+
+        String symbol = hasNext() ? next() : "";
+        Comparison comparison = COMPARISONS.get(symbol);
+        if (comparison == null) {
+            throw new ParseException("Expected a comparison after " + field + " in the query");
+        }
+        String value = next();
+        if (value.startsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        } else if (value.equals("(") || value.equals(")") || COMPARISONS.containsKey(value)) {
+            throw new ParseException("Expected a value after " + field + symbol + " in the query");
+        }
+
+        switch (field.toLowerCase()) {
+        case "date":
+            return TaskQuery.isDated(comparison, parseDate(value));
+        case "priority":
+            return TaskQuery.hasPriority(comparison, parsePriority(value));
+        default:
+            break;
+        }
+
+        if (comparison != Comparison.EQUAL) {
+            throw new ParseException("Only date and priority can be compared with <, <=, > and >=");
+        }
+        switch (field.toLowerCase()) {
+        case "type":
+            return parseType(value);
+        case "desc":
+            return parseKeyword(value);
+        case "ismarked":
+            return parseIsMarked(value);
+        case "assignee":
+            return parseAssignee(value);
+        default:
+            throw new ParseException("Unknown clause " + field + " in the query");
+        }
+    }
+
+    private static Date parseDate(String value) throws ParseException {
+        if (!Date.isValidDate(value)) {
+            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return new Date(value);
+    }
+
+    private static Priority parsePriority(String value) throws ParseException {
+        try {
+            return Priority.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException("Priority should be NONE, LOW, MEDIUM or HIGH");
+        }
+    }
+
+    private static TaskQuery parseType(String value) throws ParseException {
+        switch (value.toLowerCase()) {
+        case "todo":
+            return TaskQuery.ofType(Todo.class);
+        case "deadline":
+            return TaskQuery.ofType(Deadline.class);
+        case "event":
+            return TaskQuery.ofType(Event.class);
+        default:
+            throw new ParseException("Type should be todo, deadline or event");
+        }
+    }
+
+    private static TaskQuery parseKeyword(String value) throws ParseException {
+        if (value.isEmpty() || value.split("\\s+").length > 1) {
+            throw new ParseException("Each desc= clause should have a single word");
+        }
+        return TaskQuery.hasKeyword(value);
+    }
+
+    private static TaskQuery parseIsMarked(String value) throws ParseException {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+            return TaskQuery.isMarked(Boolean.parseBoolean(value));
+        }
+        throw new ParseException("Boolean should be true or false");
+    }
+
+    private static TaskQuery parseAssignee(String value) throws ParseException {
+        if (!Name.isValidName(value)) {
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return TaskQuery.isAssignedTo(value);
+    }
+}
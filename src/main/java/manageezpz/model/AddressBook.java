@@ -3,15 +3,32 @@ package manageezpz.model;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import manageezpz.commons.util.PersistentList;
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.commons.util.TrigramIndex;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
 import manageezpz.model.person.UniquePersonList;
+import manageezpz.model.person.exceptions.PersonNotFoundException;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskAttributeIndex;
+import manageezpz.model.task.TaskDateIndex;
+import manageezpz.model.task.TaskKeywordIndex;
 import manageezpz.model.task.Todo;
 import manageezpz.model.task.UniqueTaskList;
 
@@ -23,6 +40,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTaskList tasks;
+    // Number of changes made to this address book, used to tell if it has changed since it was last saved
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -56,6 +75,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        retainAssignmentCounts();
+        version++;
     }
 
     /**
@@ -68,6 +89,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTasks(newData.getTaskList());
     }
 
+    /**
+     * Returns a snapshot of the contents of this {@code AddressBook}, which takes constant time and shares its
+     * structure with the person and task lists, so that it costs little to keep.
+     * @return the snapshot of the persons and tasks.
+     */
+    @Override
+    public Snapshot getSnapshot() {
+        return new Snapshot(persons.getSnapshot(), tasks.getSnapshot());
+    }
+
+    /**
+     * Replaces the contents of this {@code AddressBook} with a snapshot taken earlier by {@link #getSnapshot()},
+     * keeping the ids of the persons and tasks in it.
+     * @param snapshot the snapshot to restore.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        persons.setPersons(snapshot.persons);
+        tasks.setTasks(snapshot.tasks);
+        retainAssignmentCounts();
+        version++;
+    }
+
     /// task-level operations
 
     /**
@@ -87,6 +131,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        version++;
+    }
+
+    /**
+     * Adds {@code tasks} to the task list at once, which is much faster than adding them one by one when the task
+     * list is being observed.
+     * The tasks must not already exist in the task list.
+     * @param tasks the tasks to be added.
+     */
+    public void addTasks(List<Task> tasks) {
+        this.tasks.addAll(tasks);
+        version++;
     }
 
     /**
@@ -96,6 +152,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTasks(List<Task> task) {
         this.tasks.setTasks(task);
+        version++;
     }
 
     /**
@@ -105,6 +162,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTask(Task task) {
         tasks.remove(task);
+        version++;
     }
 
     /**
@@ -123,6 +181,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTodo(Todo todo) {
         this.tasks.add(todo);
+        version++;
     }
 
     /**
@@ -141,6 +200,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event event) {
         this.tasks.add(event);
+        version++;
     }
 
     /**
@@ -159,17 +219,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addDeadline(Deadline deadline) {
         this.tasks.add(deadline);
-    }
-
-    /**
-     * Updates the task with the edited person.
-     * @param task the task to be updated.
-     * @param assigneesIndex the index of the person in List of assignees.
-     * @param editedPerson the edited person.
-     */
-    public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(task, assigneesIndex, editedPerson);
-        this.tasks.updateTaskWithEditedPerson(task, assigneesIndex, editedPerson);
+        version++;
     }
 
     /**
@@ -179,7 +229,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Task markTask(Task task) {
         requireNonNull(task);
-        return this.tasks.markTask(task);
+        Task markedTask = this.tasks.markTask(task);
+        version++;
+        return markedTask;
     }
 
     /**
@@ -189,7 +241,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Task unmarkTask(Task task) {
         requireNonNull(task);
-        return this.tasks.unmarkTask(task);
+        Task unmarkedTask = this.tasks.unmarkTask(task);
+        version++;
+        return unmarkedTask;
     }
 
     /**
@@ -200,7 +254,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Task tagPriorityToTask(Task task, Priority priority) {
         requireAllNonNull(task, priority);
-        return this.tasks.tagPriorityToTask(task, priority);
+        Task taggedTask = this.tasks.tagPriorityToTask(task, priority);
+        version++;
+        return taggedTask;
     }
 
     /**
@@ -211,7 +267,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Task tagEmployeeToTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return this.tasks.tagEmployeeToTask(task, person);
+        Task taggedTask = this.tasks.tagEmployeeToTask(task, getStoredPerson(person));
+        version++;
+        return taggedTask;
     }
 
     /**
@@ -222,7 +280,124 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Task untagEmployeeFromTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return this.tasks.untagEmployeeFromTask(task, person);
+        Task untaggedTask = this.tasks.untagEmployeeFromTask(task, getStoredPerson(person));
+        version++;
+        return untaggedTask;
+    }
+
+    /**
+     * Returns the tasks in the task list that are assigned to {@code person}.
+     * @param person the assignee to look up.
+     * @return the tasks assigned to the person.
+     */
+    public List<Task> getTasksAssignedTo(Person person) {
+        requireNonNull(person);
+        return findStoredPerson(person)
+                .map(storedPerson -> tasks.getTasksAssignedTo(storedPerson.getId()))
+                .orElse(List.of());
+    }
+
+    /**
+     * Returns the persons in the address book that are assigned to {@code task}.
+     * @param task the task to look up.
+     * @return the assignees of the task, in the order they were assigned.
+     */
+    public List<Person> getAssignees(Task task) {
+        requireNonNull(task);
+        List<Person> assignees = new ArrayList<>(task.getAssigneeIds().size());
+        for (Integer assigneeId : task.getAssigneeIds()) {
+            persons.findById(assigneeId).ifPresent(assignees::add);
+        }
+        return assignees;
+    }
+
+    /**
+     * Returns the names of the persons in the address book that are assigned to {@code task}, joined by commas.
+     * The names are kept by the task, and only joined again after the task or this address book has changed.
+     * @param task the task to look up.
+     * @return the names of the assignees of the task, or an empty string if it has none.
+     */
+    public String getAssigneesLabel(Task task) {
+        requireNonNull(task);
+        return task.getAssigneesLabel(this, version, () -> getAssignees(task).stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Returns the index of the words in the descriptions of the tasks in the task list, which is kept up to date as
+     * the task list changes.
+     * @return the keyword index of the task list.
+     */
+    public TaskKeywordIndex getTaskKeywordIndex() {
+        return tasks.getKeywordIndex();
+    }
+
+    /**
+     * Returns the sorted index of the dates of the deadlines and events in the task list, which is kept up to date
+     * as the task list changes.
+     * @return the date index of the task list.
+     */
+    public TaskDateIndex getTaskDateIndex() {
+        return tasks.getDateIndex();
+    }
+
+    /**
+     * Finds the ids of the tasks in the task list that are assigned to the person with the given id.
+     * @param personId the id of the assignee to look up.
+     * @return a new bitset with the bits at the ids of the tasks assigned to the person set.
+     */
+    public BitSet findTaskIdsAssignedTo(int personId) {
+        return tasks.findTaskIdsAssignedTo(personId);
+    }
+
+    /**
+     * Returns the bitset index of the type, priority and done status of the tasks in the task list, which is kept up
+     * to date as the task list changes.
+     * @return the attribute index of the task list.
+     */
+    public TaskAttributeIndex getTaskAttributeIndex() {
+        return tasks.getAttributeIndex();
+    }
+
+    /**
+     * Returns the trigram index of the words in the descriptions of the tasks in the task list, which is kept up to
+     * date as the task list changes.
+     * @return the trigram index of the task list.
+     */
+    public TrigramIndex getTaskTrigramIndex() {
+        return tasks.getTrigramIndex();
+    }
+
+    /**
+     * Returns the trigram index of the words in the names of the persons in the person list, which is kept up to
+     * date as the person list changes.
+     * @return the trigram index of the person list.
+     */
+    public TrigramIndex getPersonTrigramIndex() {
+        return persons.getTrigramIndex();
+    }
+
+    /**
+     * Returns the trie of the full names of the persons in the person list, which is kept up to date as the person
+     * list changes.
+     * @return the name trie of the person list.
+     */
+    public PrefixTrie getPersonNameTrie() {
+        return persons.getNameTrie();
+    }
+
+    /**
+     * Returns the number of tasks in the task list that are assigned to {@code person}.
+     * @param person the assignee to look up.
+     * @return the observable number of tasks assigned to the person.
+     */
+    public ReadOnlyIntegerProperty getNumOfTasksProperty(Person person) {
+        requireNonNull(person);
+        // Counts are only kept up to date for persons in the address book
+        return findStoredPerson(person)
+                .map(storedPerson -> tasks.assignmentCountProperty(storedPerson.getId()))
+                .orElseGet(() -> new ReadOnlyIntegerWrapper(0).getReadOnlyProperty());
     }
 
     /**
@@ -233,7 +408,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isEmployeeTaggedToTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return task.getAssignees().contains(person);
+        return findStoredPerson(person).map(task::isAssignedTo).orElse(false);
     }
 
     /**
@@ -252,6 +427,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return returnValue;
     }
 
+    /**
+     * Finds the task with the given id in the task list.
+     * @param id the id to look up.
+     * @return the task with the given id, or an empty Optional if there is none.
+     */
+    public Optional<Task> findTaskById(int id) {
+        return tasks.findById(id);
+    }
+
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the task list.
@@ -262,6 +446,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
         tasks.setTask(target, editedTask);
+        version++;
     }
 
     //// person-level operations
@@ -276,6 +461,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Finds the person with the given name in the address book.
+     * @param name the name to look up.
+     * @return the person with the given name, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByName(Name name) {
+        return persons.findByName(name);
+    }
+
+    /**
+     * Finds the person with the given id in the address book.
+     * @param id the id to look up.
+     * @return the person with the given id, or an empty Optional if there is none.
+     */
+    public Optional<Person> findById(int id) {
+        return persons.findById(id);
+    }
+
+    /**
+     * Finds the person with the given email in the address book.
+     * @param email the email to look up.
+     * @return the person with the given email, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByEmail(Email email) {
+        return persons.findByEmail(email);
+    }
+
+    /**
+     * Finds the person with the given phone in the address book.
+     * @param phone the phone to look up.
+     * @return the person with the given phone, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        return persons.findByPhone(phone);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -283,6 +504,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person person) {
         persons.add(person);
+        version++;
     }
 
     /**
@@ -295,37 +517,49 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
-     * Increments the number of task associated with the person.
-     * @param person the person whose number of task is to be incremented.
+     * Removes {@code key} from this {@code AddressBook}.
+     * {@code key} must exist in the address book.
+     * @param key the person to be removed.
      */
-    public void increaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        this.persons.increaseNumOfTasks(person);
+    public void removePerson(Person key) {
+        persons.remove(key);
+        retainAssignmentCounts();
+        version++;
     }
 
     /**
-     * Decrements the number of task associated with the person.
-     * @param person the person whose number of task is to be decremented.
+     * Drops the numbers of assigned tasks kept for persons that are no longer in the address book, as ids are not
+     * reused.
      */
-    public void decreaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        this.persons.decreaseNumOfTasks(person);
+    private void retainAssignmentCounts() {
+        tasks.retainAssignmentCounts(personId -> persons.findById(personId).isPresent());
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * {@code key} must exist in the address book.
-     * @param key the person to be removed.
+     * Returns the person in the address book that is equal to {@code person}, which carries the id of the person.
      */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    private Optional<Person> findStoredPerson(Person person) {
+        return persons.findByName(person.getName()).filter(person::equals);
+    }
+
+    private Person getStoredPerson(Person person) {
+        return findStoredPerson(person).orElseThrow(PersonNotFoundException::new);
     }
 
     //// util methods
 
+    /**
+     * Returns the version of this address book, which is incremented by every change made to it.
+     * @return the number of changes made to this address book.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -363,4 +597,50 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An immutable snapshot of the persons and tasks in an {@code AddressBook}, which can be read as an address book
+     * without building any of its indexes.
+     */
+    public static final class Snapshot implements ReadOnlyAddressBook {
+        private final PersistentList<Person> persons;
+        private final PersistentList<Task> tasks;
+
+        private Snapshot(PersistentList<Person> persons, PersistentList<Task> tasks) {
+            this.persons = persons;
+            this.tasks = tasks;
+        }
+
+        /**
+         * Returns a snapshot of the persons and tasks in {@code addressBook}, in time linear in their number.
+         */
+        public static Snapshot of(ReadOnlyAddressBook addressBook) {
+            requireNonNull(addressBook);
+            return new Snapshot(PersistentList.of(addressBook.getPersonList()),
+                    PersistentList.of(addressBook.getTaskList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        }
+
+        @Override
+        public ObservableList<Task> getTaskList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks.asList()));
+        }
+
+        @Override
+        public Snapshot getSnapshot() {
+            return this;
+        }
+
+        public PersistentList<Person> getPersons() {
+            return persons;
+        }
+
+        public PersistentList<Task> getTasks() {
+            return tasks;
+        }
+    }
 }
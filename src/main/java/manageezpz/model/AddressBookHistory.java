@@ -0,0 +1,118 @@
+package manageezpz.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import manageezpz.commons.util.AppUtil;
+
+/**
+ * A bounded history of the states of an address book, which it can be moved back and forth through to undo and redo
+ * changes.
+ * <p>
+ * Each state is an {@code AddressBook.Snapshot}, which shares its structure with the states before and after it, so
+ * a state only costs the nodes changed since the state before it. At most {@code maxDepth} states are kept to undo
+ * to, and the oldest state is dropped when another is added, so that the memory used by the history stays bounded.
+ */
+class AddressBookHistory {
+
+    private final AddressBook addressBook;
+    private final int maxDepth;
+    private final Deque<AddressBook.Snapshot> undoStates = new ArrayDeque<>();
+    private final Deque<AddressBook.Snapshot> redoStates = new ArrayDeque<>();
+    // The state of the address book as of the last commit, undo or redo, when its version was currentVersion
+    private AddressBook.Snapshot currentState;
+    private long currentVersion;
+
+    /**
+     * Creates a history of {@code addressBook} that starts from its current state, and keeps at most
+     * {@code maxDepth} states to undo to.
+     */
+    AddressBookHistory(AddressBook addressBook, int maxDepth) {
+        requireNonNull(addressBook);
+        AppUtil.checkArgument(maxDepth >= 0, "History depth must not be negative");
+        this.addressBook = addressBook;
+        this.maxDepth = maxDepth;
+        clear();
+    }
+
+    /**
+     * Records the current state of the address book as the state to undo to next, if it has changed since the last
+     * state recorded, and forgets the states that were undone.
+     * @return true if the state was recorded.
+     */
+    boolean commit() {
+        if (addressBook.getVersion() == currentVersion) {
+            return false;
+        }
+
+        if (maxDepth > 0) {
+            if (undoStates.size() == maxDepth) {
+                undoStates.removeLast();
+            }
+            undoStates.push(currentState);
+        }
+        redoStates.clear();
+        setCurrentState(addressBook.getSnapshot());
+        return true;
+    }
+
+    /**
+     * Returns true if there is a state to undo to, including changes that have not been committed yet.
+     */
+    boolean canUndo() {
+        return !undoStates.isEmpty() || (maxDepth > 0 && addressBook.getVersion() != currentVersion);
+    }
+
+    /**
+     * Returns true if there is a state that was undone to redo to.
+     */
+    boolean canRedo() {
+        return !redoStates.isEmpty() && addressBook.getVersion() == currentVersion;
+    }
+
+    /**
+     * Restores the address book to the state before the last change, committing any changes first.
+     * @throws IllegalStateException if there is no state to undo to.
+     */
+    void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There are no changes to undo");
+        }
+        commit();
+        redoStates.push(currentState);
+        restore(undoStates.pop());
+    }
+
+    /**
+     * Restores the address book to the state before the last undo.
+     * @throws IllegalStateException if there is no state to redo to.
+     */
+    void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There are no changes to redo");
+        }
+        undoStates.push(currentState);
+        restore(redoStates.pop());
+    }
+
+    /**
+     * Forgets all states, so that the history starts again from the current state of the address book.
+     */
+    void clear() {
+        undoStates.clear();
+        redoStates.clear();
+        setCurrentState(addressBook.getSnapshot());
+    }
+
+    private void restore(AddressBook.Snapshot state) {
+        addressBook.restore(state);
+        setCurrentState(state);
+    }
+
+    private void setCurrentState(AddressBook.Snapshot state) {
+        currentState = state;
+        currentVersion = addressBook.getVersion();
+    }
+}
@@ -1,15 +1,28 @@
 package manageezpz.model;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.commons.util.TrigramIndex;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskAttributeIndex;
+import manageezpz.model.task.TaskDateIndex;
+import manageezpz.model.task.TaskKeywordIndex;
 import manageezpz.model.task.Todo;
 
 /**
@@ -69,6 +82,47 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Gets the version of the address book, which changes whenever the address book is changed.
+     * @return the version of the address book.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Records the current state of the address book as a change that can be undone, if it has changed since the last
+     * state recorded. Changes that were undone can no longer be redone after this.
+     */
+    void commitAddressBook();
+
+    /**
+     * Checks if there is a change to the address book that can be undone.
+     * @return true if there is a change to undo, false otherwise.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Checks if there is a change to the address book that was undone and can be redone.
+     * @return true if there is a change to redo, false otherwise.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last change.
+     * There must be a change to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last undo.
+     * There must be a change to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets all the changes to the address book that can be undone or redone.
+     */
+    void clearAddressBookHistory();
+
     /**
      * Checks if a person with the same identity as {@code person} exists in the address book.
      * @param person the person to be checked against.
@@ -76,6 +130,27 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Finds the person with the given name in the address book.
+     * @param name the name to look up.
+     * @return the person with the given name, or an empty Optional if there is none.
+     */
+    Optional<Person> findByName(Name name);
+
+    /**
+     * Finds the person with the given email in the address book.
+     * @param email the email to look up.
+     * @return the person with the given email, or an empty Optional if there is none.
+     */
+    Optional<Person> findByEmail(Email email);
+
+    /**
+     * Finds the person with the given phone in the address book.
+     * @param phone the phone to look up.
+     * @return the person with the given phone, or an empty Optional if there is none.
+     */
+    Optional<Person> findByPhone(Phone phone);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -100,16 +175,11 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Increments the number of task associated with the person.
-     * @param person the person whose number of task is to be incremented.
+     * Gets the number of tasks assigned to the specified person, which is updated as tasks are tagged and untagged.
+     * @param person the person to be looked up.
+     * @return the observable number of tasks assigned to the person.
      */
-    void increaseNumOfTasks(Person person);
-
-    /**
-     * Decrements the number of task associated with the person.
-     * @param person the person whose number of task is to be decremented.
-     */
-    void decreaseNumOfTasks(Person person);
+    ReadOnlyIntegerProperty getNumOfTasksProperty(Person person);
 
     /**
      * Gets an unmodifiable view of the filtered person list
@@ -124,6 +194,22 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and sorts the persons
+     * that pass it with the given {@code comparator}.
+     * @param predicate the provided condition.
+     * @param comparator the order of the persons shown, or null to show them in the order of the address book.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Checks if the given person passes the filter of the filtered person list.
+     * @param person the person to be checked.
+     * @return true if the person is in the filtered person list, false otherwise.
+     */
+    boolean isPersonDisplayed(Person person);
+
 
     //=========== ManageEZPZ (Tasks) ==================================================================================
 
@@ -134,15 +220,6 @@ public interface Model {
      */
     void deleteTask(Task task);
 
-    /**
-     * Updates the task with the edited person.
-     * The task must exist in the task list.
-     * @param task the task to be updated.
-     * @param assigneesIndex the index to the Persons List.
-     * @param editedPerson the person to update with.
-     */
-    void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson);
-
     /**
      * Marks the given task.
      * The task must exist in the task list.
@@ -196,6 +273,13 @@ public interface Model {
      */
     void addTask(Task task);
 
+    /**
+     * Adds the given tasks at once, without changing the filter of the task list.
+     * {@code tasks} must not already exist in the task list.
+     * @param tasks the tasks to be added.
+     */
+    void addTasks(List<Task> tasks);
+
     /**
      * Adds the given todo Task.
      * {@code Todo} must not already exist in the task list
@@ -224,6 +308,15 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filter of the filtered task list to filter by the given {@code predicate}, and sorts the tasks
+     * that pass it with the given {@code comparator}.
+     * @param predicate the given condition.
+     * @param comparator the order of the tasks shown, or null to show them in the order of the task list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> comparator);
+
     /**
      * Gets an unmodifiable view of the filtered task list.
      * @return an unmodifiable view of the filtered task list.
@@ -266,6 +359,76 @@ public interface Model {
      */
     boolean isEmployeeTaggedToTask(Task task, Person person);
 
+    /**
+     * Gets the tasks in the task list that are assigned to the specified person.
+     * @param person the person to be looked up.
+     * @return the tasks assigned to the person.
+     */
+    List<Task> getTasksAssignedTo(Person person);
+
+    /**
+     * Gets the persons in the address book that are assigned to the specified task.
+     * @param task the task to be looked up.
+     * @return the assignees of the task, in the order they were assigned.
+     */
+    List<Person> getAssignees(Task task);
+
+    /**
+     * Gets the names of the persons in the address book that are assigned to the specified task, as they are shown.
+     * @param task the task to be looked up.
+     * @return the names of the assignees of the task joined by commas, or an empty string if it has none.
+     */
+    String getAssigneesLabel(Task task);
+
+    /**
+     * Gets the index of the words in the descriptions of the tasks in the task list, which is kept up to date as the
+     * task list changes.
+     * @return the keyword index of the task list.
+     */
+    TaskKeywordIndex getTaskKeywordIndex();
+
+    /**
+     * Gets the sorted index of the dates of the deadlines and events in the task list, which is kept up to date as
+     * the task list changes.
+     * @return the date index of the task list.
+     */
+    TaskDateIndex getTaskDateIndex();
+
+    /**
+     * Finds the ids of the tasks in the task list that are assigned to the person with the given id.
+     * @param personId the id of the assignee to look up.
+     * @return a new bitset with the bits at the ids of the tasks assigned to the person set.
+     */
+    BitSet findTaskIdsAssignedTo(int personId);
+
+    /**
+     * Gets the bitset index of the type, priority and done status of the tasks in the task list, which is kept up to
+     * date as the task list changes.
+     * @return the attribute index of the task list.
+     */
+    TaskAttributeIndex getTaskAttributeIndex();
+
+    /**
+     * Gets the trigram index of the words in the descriptions of the tasks in the task list, which is kept up to
+     * date as the task list changes.
+     * @return the trigram index of the task list.
+     */
+    TrigramIndex getTaskTrigramIndex();
+
+    /**
+     * Gets the trigram index of the words in the names of the persons in the address book, which is kept up to date
+     * as the address book changes.
+     * @return the trigram index of the persons.
+     */
+    TrigramIndex getPersonTrigramIndex();
+
+    /**
+     * Gets the trie of the full names of the persons in the address book, which is kept up to date as the address
+     * book changes.
+     * @return the name trie of the persons.
+     */
+    PrefixTrie getPersonNameTrie();
+
 
     /**
      * Returns true if a {@code Task} is allocated with a priority.
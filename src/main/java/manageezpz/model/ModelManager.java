@@ -4,18 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.commons.util.TrigramIndex;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskAttributeIndex;
+import manageezpz.model.task.TaskDateIndex;
+import manageezpz.model.task.TaskKeywordIndex;
 import manageezpz.model.task.Todo;
 
 /**
@@ -28,6 +42,11 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Task> filteredTasks;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Task> sortedTasks;
+    private final QueryResultCache<Person> personQueryCache;
+    private final QueryResultCache<Task> taskQueryCache;
+    private final AddressBookHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -44,6 +63,14 @@ public class ModelManager implements Model {
 
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
+        // Without a comparator, the sorted lists keep the order of the filtered lists
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedTasks = new SortedList<>(filteredTasks);
+        personQueryCache = new QueryResultCache<>(Person::getId, this.addressBook::getVersion,
+                QueryResultCache.DEFAULT_CAPACITY);
+        taskQueryCache = new QueryResultCache<>(Task::getId, this.addressBook::getVersion,
+                QueryResultCache.DEFAULT_CAPACITY);
+        history = new AddressBookHistory(this.addressBook, this.userPrefs.getUndoHistoryDepth());
     }
 
     /**
@@ -99,12 +126,65 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo();
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        history.clear();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return addressBook.findByName(name);
+    }
+
+    @Override
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findByPhone(phone);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -124,15 +204,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void increaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        addressBook.increaseNumOfTasks(person);
-    }
-
-    @Override
-    public void decreaseNumOfTasks(Person person) {
+    public ReadOnlyIntegerProperty getNumOfTasksProperty(Person person) {
         requireNonNull(person);
-        addressBook.decreaseNumOfTasks(person);
+        return addressBook.getNumOfTasksProperty(person);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -143,13 +217,40 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        updateFilteredPersonList(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+        // Showing all persons is as cheap as looking up cached matches
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        Predicate<Person> cachedPredicate = personQueryCache.get(predicate);
+        if (cachedPredicate != null) {
+            filteredPersons.setPredicate(cachedPredicate);
+        } else {
+            filteredPersons.setPredicate(predicate);
+            personQueryCache.put(predicate, filteredPersons);
+        }
+        logger.fine("Person query cache hits: " + personQueryCache.getHitCount() + ", misses: "
+                + personQueryCache.getMissCount());
+    }
+
+    @Override
+    public boolean isPersonDisplayed(Person person) {
+        requireNonNull(person);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
     }
 
     //=========== ManageEZPZ ==================================================================================
@@ -167,6 +268,12 @@ public class ModelManager implements Model {
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
     }
 
+    @Override
+    public void addTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        addressBook.addTasks(tasks);
+    }
+
     @Override
     public void addTodo(Todo todo) {
         addressBook.addTodo(todo);
@@ -209,12 +316,6 @@ public class ModelManager implements Model {
         addressBook.removeTask(task);
     }
 
-    @Override
-    public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(task, assigneesIndex, editedPerson);
-        addressBook.updateTaskWithEditedPerson(task, assigneesIndex, editedPerson);
-    }
-
     @Override
     public Task markTask(Task task) {
         requireNonNull(task);
@@ -251,6 +352,59 @@ public class ModelManager implements Model {
         return addressBook.isEmployeeTaggedToTask(task, person);
     }
 
+    @Override
+    public List<Task> getTasksAssignedTo(Person person) {
+        requireNonNull(person);
+        return addressBook.getTasksAssignedTo(person);
+    }
+
+    @Override
+    public List<Person> getAssignees(Task task) {
+        requireNonNull(task);
+        return addressBook.getAssignees(task);
+    }
+
+    @Override
+    public String getAssigneesLabel(Task task) {
+        requireNonNull(task);
+        return addressBook.getAssigneesLabel(task);
+    }
+
+    @Override
+    public TaskKeywordIndex getTaskKeywordIndex() {
+        return addressBook.getTaskKeywordIndex();
+    }
+
+    @Override
+    public TaskDateIndex getTaskDateIndex() {
+        return addressBook.getTaskDateIndex();
+    }
+
+    @Override
+    public BitSet findTaskIdsAssignedTo(int personId) {
+        return addressBook.findTaskIdsAssignedTo(personId);
+    }
+
+    @Override
+    public TaskAttributeIndex getTaskAttributeIndex() {
+        return addressBook.getTaskAttributeIndex();
+    }
+
+    @Override
+    public TrigramIndex getTaskTrigramIndex() {
+        return addressBook.getTaskTrigramIndex();
+    }
+
+    @Override
+    public TrigramIndex getPersonTrigramIndex() {
+        return addressBook.getPersonTrigramIndex();
+    }
+
+    @Override
+    public PrefixTrie getPersonNameTrie() {
+        return addressBook.getPersonNameTrie();
+    }
+
     //=========== Filtered Task List Accessors =============================================================
 
     /**
@@ -259,13 +413,33 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return sortedTasks;
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
+        updateFilteredTaskList(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> comparator) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        sortedTasks.setComparator(comparator);
+        // Showing all tasks is as cheap as looking up cached matches
+        if (predicate == PREDICATE_SHOW_ALL_TASKS) {
+            filteredTasks.setPredicate(predicate);
+            return;
+        }
+
+        Predicate<Task> cachedPredicate = taskQueryCache.get(predicate);
+        if (cachedPredicate != null) {
+            filteredTasks.setPredicate(cachedPredicate);
+        } else {
+            filteredTasks.setPredicate(predicate);
+            taskQueryCache.put(predicate, filteredTasks);
+        }
+        logger.fine("Task query cache hits: " + taskQueryCache.getHitCount() + ", misses: "
+                + taskQueryCache.getMissCount());
     }
 
 
@@ -285,8 +459,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
-                && filteredTasks.equals(other.filteredTasks);
+                && sortedPersons.equals(other.sortedPersons)
+                && sortedTasks.equals(other.sortedTasks);
     }
 
     @Override
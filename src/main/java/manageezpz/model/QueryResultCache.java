@@ -0,0 +1,120 @@
+package manageezpz.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import manageezpz.commons.util.AppUtil;
+
+/**
+ * A bounded cache of the elements that a list was filtered to by each predicate, which evicts the least recently used
+ * predicate when full.
+ * <p>
+ * The matches of each predicate are kept as a bitset of the ids of the elements, and are only valid while the address
+ * book is at the version that they were found at, so the whole cache is cleared whenever the address book changes.
+ * Filtering a list by a cached predicate again then only looks up the id of each element, instead of testing it.
+ *
+ * @param <T> the type of the elements, which are identified by their ids.
+ */
+class QueryResultCache<T> {
+
+    /** Number of predicates cached by default, which covers the queries that are repeated in a session. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final ToIntFunction<T> idOf;
+    private final LongSupplier versionSupplier;
+    private final Map<Predicate<T>, BitSet> matches;
+    // The version of the address book that the cached matches were found at
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache of the matches of at most {@code capacity} predicates.
+     * @param idOf the function from each element to its id.
+     * @param versionSupplier the supplier of the current version of the address book.
+     * @param capacity the number of predicates to cache.
+     */
+    QueryResultCache(ToIntFunction<T> idOf, LongSupplier versionSupplier, int capacity) {
+        requireNonNull(idOf);
+        requireNonNull(versionSupplier);
+        AppUtil.checkArgument(capacity > 0, "Cache capacity must be positive");
+        this.idOf = idOf;
+        this.versionSupplier = versionSupplier;
+        this.matches = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<T>, BitSet> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.version = versionSupplier.getAsLong();
+    }
+
+    /**
+     * Returns a predicate that matches the same elements as {@code predicate} by looking up their ids in the cached
+     * matches of {@code predicate}, or null if they are not cached.
+     * The returned predicate tests elements on {@code predicate} itself once the address book has changed.
+     */
+    Predicate<T> get(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        clearIfChanged();
+        BitSet matchIds = matches.get(predicate);
+        if (matchIds == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        long matchVersion = version;
+        return element -> versionSupplier.getAsLong() == matchVersion
+                ? matchIds.get(idOf.applyAsInt(element))
+                : predicate.test(element);
+    }
+
+    /**
+     * Caches {@code filteredElements} as the matches of {@code predicate} at the current version of the address book.
+     */
+    void put(Predicate<T> predicate, List<T> filteredElements) {
+        requireNonNull(predicate);
+        clearIfChanged();
+        BitSet matchIds = new BitSet();
+        filteredElements.forEach(element -> matchIds.set(idOf.applyAsInt(element)));
+        matches.put(predicate, matchIds);
+    }
+
+    private void clearIfChanged() {
+        long currentVersion = versionSupplier.getAsLong();
+        if (currentVersion != version) {
+            matches.clear();
+            version = currentVersion;
+        }
+    }
+
+    /**
+     * Returns the number of predicates whose matches were found in the cache.
+     */
+    long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of predicates whose matches were not found in the cache.
+     */
+    long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of predicates whose matches are cached.
+     */
+    int size() {
+        clearIfChanged();
+        return matches.size();
+    }
+}
@@ -23,4 +23,13 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns an unmodifiable copy of the persons and tasks in this address book, which stays the same as this
+     * address book changes, such as for writing it to storage in the background.
+     * @return the snapshot of the persons and tasks.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return AddressBook.Snapshot.of(this);
+    }
+
 }
@@ -2,6 +2,7 @@ package manageezpz.model;
 
 import java.nio.file.Path;
 
+import manageezpz.commons.core.AddressBookFormat;
 import manageezpz.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    int getUndoHistoryDepth();
+
 }
@@ -6,15 +6,22 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import manageezpz.commons.core.AddressBookFormat;
 import manageezpz.commons.core.GuiSettings;
+import manageezpz.commons.util.AppUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Number of changes that can be undone by default. */
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "ManageEZPZ.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +45,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -58,6 +67,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of changes that can be undone, where 0 turns undo off.
+     * @param undoHistoryDepth the number of changes, which must not be negative.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        AppUtil.checkArgument(undoHistoryDepth >= 0, "Undo history depth must not be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -73,7 +104,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && undoHistoryDepth == o.undoHistoryDepth;
     }
 
     /**
@@ -81,7 +114,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, undoHistoryDepth);
     }
 
     /**
@@ -92,6 +125,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
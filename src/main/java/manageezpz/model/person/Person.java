@@ -11,25 +11,52 @@ import java.util.Objects;
  */
 public class Person {
 
+    /** The id of a person that has not been added to an address book yet. */
+    public static final int UNASSIGNED_ID = 0;
+
+    // Surrogate key used by tasks to refer to the person, which stays the same across edits
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
-    private int numOfTasks;
+
+    // Persons are looked up in hash maps and compared often, so the hash of the immutable fields is kept
+    private final int hashCode;
 
     /**
      * Constructs an {@code Person}.
      * @param name A valid name.
      * @param phone A valid phone number.
      * @param email A valid Email.
-     * @param numOfTasks the number of task assigned to the person.
      */
-    public Person(Name name, Phone phone, Email email, int numOfTasks) {
+    public Person(Name name, Phone phone, Email email) {
+        this(name, phone, email, UNASSIGNED_ID);
+    }
+
+    /**
+     * Constructs an {@code Person} with the given id.
+     * @param name A valid name.
+     * @param phone A valid phone number.
+     * @param email A valid Email.
+     * @param id The id of the person in the address book.
+     */
+    public Person(Name name, Phone phone, Email email, int id) {
         requireAllNonNull(name, phone, email);
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.numOfTasks = numOfTasks;
+        this.id = id;
+        this.hashCode = Objects.hash(name, phone, email);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
     }
 
     public Name getName() {
@@ -44,8 +71,12 @@ public class Person {
         return email;
     }
 
-    public int getNumOfTasks() {
-        return numOfTasks;
+    /**
+     * Returns this person, or a copy of it, with the given {@code id}.
+     * @param id The id of the person in the address book.
+     */
+    public Person withId(int id) {
+        return id == this.id ? this : new Person(name, phone, email, id);
     }
 
     /**
@@ -65,25 +96,10 @@ public class Person {
                 || otherPerson.getPhone().equals(getPhone()));
     }
 
-    /**
-     * Increases the number of tasks by one.
-     */
-    public void increaseTaskCount() {
-        this.numOfTasks = numOfTasks + 1;
-    }
-
-    /**
-     * Decreases the number of tasks by one.
-     * At any time, the number of tasks should not be lesser than zero.
-     */
-    public void decreaseTaskCount() {
-        assert numOfTasks >= 0 : "numOfTasks should not be lesser than 0";
-        this.numOfTasks = numOfTasks - 1;
-    }
-
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The id is not compared, as it is only a key given to the person by the address book.
      */
     @Override
     public boolean equals(Object other) {
@@ -96,7 +112,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hashCode == hashCode
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getEmail().equals(getEmail());
     }
@@ -106,8 +123,7 @@ public class Person {
      */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email);
+        return hashCode;
     }
 
     /**
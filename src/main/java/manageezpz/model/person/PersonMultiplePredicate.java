@@ -1,9 +1,13 @@
 package manageezpz.model.person;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import manageezpz.commons.util.StringUtil;
+import manageezpz.commons.util.TrigramIndex;
 
 /**
  * Checks if the options are valid for finding tasks.
@@ -12,6 +16,13 @@ public class PersonMultiplePredicate implements Predicate<Person> {
     private final List<String> names;
     private final String phone;
     private final String email;
+    private final boolean isFuzzy;
+    private final TrigramIndex trigramIndex;
+
+    // Fuzzy scores of the persons matching the names, found when the version of the trigram index was
+    // fuzzyScoresVersion
+    private Map<Integer, Double> fuzzyScores;
+    private long fuzzyScoresVersion;
 
     /**
      * The constructor for the multipredicate to search for employees with the stated options.
@@ -20,14 +31,69 @@ public class PersonMultiplePredicate implements Predicate<Person> {
      * @param email Email of the employee.
      */
     public PersonMultiplePredicate(List<String> names, String phone, String email) {
+        this(names, phone, email, false, null);
+    }
+
+    private PersonMultiplePredicate(List<String> names, String phone, String email, boolean isFuzzy,
+                                    TrigramIndex trigramIndex) {
         this.names = names;
         this.phone = phone;
         this.email = email;
+        this.isFuzzy = isFuzzy;
+        this.trigramIndex = trigramIndex;
 
         boolean isAtLeastOneNotNull = (this.names != null) || (this.phone != null) || (this.email != null);
         assert isAtLeastOneNotNull : "At least one search option should be specified";
     }
 
+    /**
+     * Creates a copy of this predicate that matches the persons with words in their names that are close to, rather
+     * than equal to, any of the names searched, such as {@code Alex} for {@code Alx}.
+     * @return the predicate that fuzzily matches the name option.
+     */
+    public PersonMultiplePredicate withFuzzyNames() {
+        assert names != null : "Only the name option can be fuzzily matched";
+        return new PersonMultiplePredicate(names, phone, email, true, trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that looks up the fuzzy matches of the name option in the given index of the
+     * persons that it is tested on, instead of comparing every word of each name.
+     * @param index the trigram index of the person list that the predicate is tested on.
+     * @return the predicate that uses {@code index} for the fuzzy name option.
+     */
+    public PersonMultiplePredicate withTrigramIndex(TrigramIndex index) {
+        return new PersonMultiplePredicate(names, phone, email, isFuzzy, index);
+    }
+
+    public boolean isFuzzy() {
+        return isFuzzy;
+    }
+
+    /**
+     * Returns how closely the name of {@code person} matches the names of the fuzzy name option, which is higher for
+     * words with fewer edits from the names searched and for more of them matched, or 0 if none match.
+     */
+    public double getFuzzyScore(Person person) {
+        assert isFuzzy : "Only fuzzy names have scores";
+        if (trigramIndex == null) {
+            return TrigramIndex.scoreText(names, person.getName().fullName);
+        }
+
+        if (fuzzyScores == null || fuzzyScoresVersion != trigramIndex.getVersion()) {
+            fuzzyScores = trigramIndex.findMatches(names);
+            fuzzyScoresVersion = trigramIndex.getVersion();
+        }
+        return fuzzyScores.getOrDefault(person.getId(), 0.0);
+    }
+
+    /**
+     * Returns the order of the persons matching the fuzzy name option from the closest match to the furthest.
+     */
+    public Comparator<Person> getRelevanceComparator() {
+        return Comparator.comparingDouble((Person person) -> getFuzzyScore(person)).reversed();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -43,6 +109,9 @@ public class PersonMultiplePredicate implements Predicate<Person> {
     }
 
     private boolean checkIfNameExists(Person person) {
+        if (isFuzzy) {
+            return getFuzzyScore(person) > 0;
+        }
         return names.stream().anyMatch(name -> StringUtil.containsWordIgnoreCase(person.getName().fullName, name));
     }
 
@@ -69,12 +138,17 @@ public class PersonMultiplePredicate implements Predicate<Person> {
             boolean isPhoneEquals = checkIfOptionEqual(phone, otherPredicate.phone);
             boolean isEmailEquals = checkIfOptionEqual(email, otherPredicate.email);
 
-            return isNameEquals && isPhoneEquals && isEmailEquals;
+            return isNameEquals && isPhoneEquals && isEmailEquals && isFuzzy == otherPredicate.isFuzzy;
         } else {
             return false;
         }
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(names, phone, email, isFuzzy);
+    }
+
     private boolean checkIfOptionEqual(Object currentObj, Object otherObj) {
         if (otherObj != null) {
             return otherObj.equals(currentObj);
@@ -3,11 +3,20 @@ package manageezpz.model.person;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import manageezpz.commons.util.PersistentList;
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.commons.util.TrigramIndex;
 import manageezpz.model.person.exceptions.DuplicatePersonException;
 import manageezpz.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +27,16 @@ import manageezpz.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  *
+ * Every person is also indexed by its name, email and phone, so duplicate checks and lookups by any of the three
+ * identity fields do not need to scan the list. The trigrams of the words in the names are kept in a
+ * {@code TrigramIndex}, so that persons can be searched by misspelt names without comparing every name, and the
+ * names themselves are kept in a {@code PrefixTrie}, so that a name can be completed from its first few letters.
+ * The persons are also kept in a {@code PersistentList} in step with the list, so that a snapshot of the list can be
+ * taken at any time without copying it, and restored later.
+ *
+ * Every person in the list is given an id that is unique within the list and is kept when the person is edited,
+ * so that tasks can refer to a person by its id. Ids are never reused within the same list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,6 +46,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final PrefixTrie nameTrie = new PrefixTrie();
+    private PersistentList<Person> persistentList = PersistentList.empty();
+    private int nextId = Person.UNASSIGNED_ID + 1;
 
     /**
      * Checks if the list contains an equivalent person as the given argument.
@@ -35,12 +63,54 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName())
+                || personsByEmail.containsKey(toCheck.getEmail())
+                || personsByPhone.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Finds the person with the given name.
+     * @param name the name to look up.
+     * @return the person with the given name, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Finds the person with the given email.
+     * @param email the email to look up.
+     * @return the person with the given email, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(personsByEmail.get(email));
+    }
+
+    /**
+     * Finds the person with the given phone.
+     * @param phone the phone to look up.
+     * @return the person with the given phone, or an empty Optional if there is none.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(personsByPhone.get(phone));
+    }
+
+    /**
+     * Finds the person with the given id.
+     * @param id the id to look up.
+     * @return the person with the given id, or an empty Optional if there is none.
+     */
+    public Optional<Person> findById(int id) {
+        return Optional.ofNullable(personsById.get(id));
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * The id of the person is kept if it is not used by another person in the list, otherwise a new id is given.
      * @param toAdd the person to be added.
      */
     public void add(Person toAdd) {
@@ -48,57 +118,38 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person personWithId = withId(toAdd, isFreeId(toAdd) ? toAdd.getId() : nextId);
+        internalList.add(personWithId);
+        persistentList = persistentList.plus(personWithId);
+        index(personWithId, internalList.size() - 1);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The edited person takes over the id of {@code target}.
      * @param target the person to be replaced.
      * @param editedPerson the new person to replace the target.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (isClashingWithOthers(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-    }
-
-    /**
-     * Increases the number of tasks by one.
-     * @param person the person to increment the number of tasks.
-     */
-    public void increaseNumOfTasks(Person person) {
-        requireNonNull(person);
-
-        Person updatedPerson = new Person(person.getName(), person.getPhone(),
-                person.getEmail(), person.getNumOfTasks());
-        updatedPerson.increaseTaskCount();
-
-        setPerson(person, updatedPerson);
-    }
-
-    /**
-     * Decreases the number of tasks by one.
-     * @param person the person to decrement the number of tasks.
-     */
-    public void decreaseNumOfTasks(Person person) {
-        requireNonNull(person);
-
-        Person updatedPerson = new Person(person.getName(), person.getPhone(),
-                person.getEmail(), person.getNumOfTasks());
-        updatedPerson.decreaseTaskCount();
-
-        setPerson(person, updatedPerson);
+        Person replacedPerson = internalList.get(index);
+        Person editedPersonWithId = withId(editedPerson, replacedPerson.getId());
+        internalList.set(index, editedPersonWithId);
+        persistentList = persistentList.with(index, editedPersonWithId);
+        unindex(replacedPerson);
+        index(editedPersonWithId, index);
     }
 
     /**
@@ -108,9 +159,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removedPerson = internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        unindex(removedPerson);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     /**
@@ -120,11 +179,39 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        nextId = Math.max(nextId, replacement.nextId);
+        reindex();
+    }
+
+    /**
+     * Replaces the contents of this list with a snapshot taken earlier by {@link #getSnapshot()}, keeping the ids of
+     * the persons in it.
+     * Only the persons that differ between the list and the snapshot are changed in the list and the indexes, as the
+     * snapshot is compared with the list by id, skipping the parts of the two that are shared.
+     * @param snapshot the snapshot of the list to restore.
+     */
+    public void setPersons(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        SnapshotChanges changes = new SnapshotChanges();
+        persistentList.diff(snapshot, Person::getId, person -> personsById.containsKey(person.getId()), changes);
+        persistentList = snapshot;
+
+        changes.removedPersons.forEach(this::unindex);
+        for (int i = 0; i < changes.addedPersons.size(); i++) {
+            index(changes.addedPersons.get(i), changes.addedPositions.get(i));
+        }
+        // Persons after the first added or removed person may have shifted
+        for (int i = changes.firstShiftedPosition; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The ids of the persons are kept, except for persons without an id or with an id used by an earlier person,
+     * which are given new ids.
      * @param persons the list to replace the old list.
      */
     public void setPersons(List<Person> persons) {
@@ -133,7 +220,46 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        for (Person person : persons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+
+        Set<Integer> usedIds = new HashSet<>();
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person personWithId = person.hasId() && usedIds.add(person.getId()) ? person : withId(person, nextId);
+            usedIds.add(personWithId.getId());
+            personsWithIds.add(personWithId);
+        }
+
+        internalList.setAll(personsWithIds);
+        persistentList = PersistentList.of(personsWithIds);
+        reindex();
+    }
+
+    /**
+     * Returns a snapshot of the contents of the list, which takes constant time as the list keeps one up to date.
+     * @return the persons in the list, in order.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Returns the trigram index of the words in the names of the persons in the list, keyed by the id of each
+     * person, which is kept up to date as the list changes.
+     * @return the trigram index of the list.
+     */
+    public TrigramIndex getTrigramIndex() {
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the trie of the full names of the persons in the list, which is kept up to date as the list changes.
+     * @return the name trie of the list.
+     */
+    public PrefixTrie getNameTrie() {
+        return nameTrie;
     }
 
     /**
@@ -171,13 +297,119 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName()) || !emails.add(person.getEmail()) || !phones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns true if {@code person} shares a name, email or phone with a person in the list other than
+     * {@code ignored}.
+     */
+    private boolean isClashingWithOthers(Person person, Person ignored) {
+        return isHeldByOther(personsByName.get(person.getName()), ignored)
+                || isHeldByOther(personsByEmail.get(person.getEmail()), ignored)
+                || isHeldByOther(personsByPhone.get(person.getPhone()), ignored);
+    }
+
+    private boolean isHeldByOther(Person holder, Person ignored) {
+        return holder != null && !holder.equals(ignored);
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     */
+    private int positionOf(Person person) {
+        Integer position = positionsByName.get(person.getName());
+        if (position == null || !internalList.get(position).equals(person)) {
+            return -1;
+        }
+        return position;
+    }
+
+    private boolean isFreeId(Person person) {
+        return person.hasId() && !personsById.containsKey(person.getId());
+    }
+
+    /**
+     * Returns {@code person} with the given {@code id}, and makes sure that {@code id} will not be given out again.
+     */
+    private Person withId(Person person, int id) {
+        nextId = Math.max(nextId, id + 1);
+        return person.withId(id);
+    }
+
+    private void index(Person person, int position) {
+        personsById.put(person.getId(), person);
+        personsByName.put(person.getName(), person);
+        personsByEmail.put(person.getEmail(), person);
+        personsByPhone.put(person.getPhone(), person);
+        positionsByName.put(person.getName(), position);
+        trigramIndex.add(person.getId(), person.getName().toString());
+        nameTrie.add(person.getName().fullName);
+    }
+
+    private void unindex(Person person) {
+        personsById.remove(person.getId());
+        personsByName.remove(person.getName());
+        personsByEmail.remove(person.getEmail());
+        personsByPhone.remove(person.getPhone());
+        positionsByName.remove(person.getName());
+        trigramIndex.remove(person.getId(), person.getName().toString());
+        nameTrie.remove(person.getName().fullName);
+    }
+
+    /**
+     * Applies the changes from the list to a snapshot to the backing list, and keeps the persons to be removed from
+     * and added to the indexes, which are changed only once all of them are known, as a person may be added before
+     * another person of the same name, email or phone is removed.
+     */
+    private class SnapshotChanges implements PersistentList.ChangeHandler<Person> {
+        private final List<Person> removedPersons = new ArrayList<>();
+        private final List<Person> addedPersons = new ArrayList<>();
+        private final List<Integer> addedPositions = new ArrayList<>();
+        private int firstShiftedPosition = Integer.MAX_VALUE;
+
+        @Override
+        public void inserted(int index, Person person) {
+            internalList.add(index, person);
+            addedPersons.add(person);
+            addedPositions.add(index);
+            firstShiftedPosition = Math.min(firstShiftedPosition, index);
+        }
+
+        @Override
+        public void removed(int index, Person person) {
+            internalList.remove(index);
+            removedPersons.add(person);
+            firstShiftedPosition = Math.min(firstShiftedPosition, index);
+        }
+
+        @Override
+        public void replaced(int index, Person oldPerson, Person newPerson) {
+            internalList.set(index, newPerson);
+            removedPersons.add(oldPerson);
+            addedPersons.add(newPerson);
+            addedPositions.add(index);
+        }
+    }
+
+    private void reindex() {
+        personsById.clear();
+        personsByName.clear();
+        personsByEmail.clear();
+        personsByPhone.clear();
+        positionsByName.clear();
+        trigramIndex.clear();
+        nameTrie.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
 }
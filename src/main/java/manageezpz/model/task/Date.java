@@ -3,20 +3,34 @@ package manageezpz.model.task;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.AppUtil.checkArgument;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
+import manageezpz.commons.util.Interner;
 
-public class Date {
+/**
+ * Represents the date of a Task, which is held as the number of days since 1970-01-01, so that dates can be compared
+ * and formatted without parsing text.
+ */
+public class Date implements Comparable<Date> {
     public static final String MESSAGE_CONSTRAINTS = "Date should be in the format of yyyy-MM-dd.\n"
             + "Year should be greater then 0000, Month should only be between 1 and 12 "
             + "and Day should only be between 1 and 31.";
 
     public static final String VALIDATION_REGEX = "(?!0000)\\d{4}\\D\\d{2}\\D\\d{2}";
 
-    private String date;
+    /** Formatter used to display dates, such as "Mar 05 2022". */
+    public static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+    private static final long MIN_EPOCH_DAY = LocalDate.of(1, 1, 1).toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+    private static final int DATE_LENGTH = 10;
+
+    private static final Interner<Date> INTERNER = new Interner<>();
+
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -25,22 +39,54 @@ public class Date {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.date = date;
+        this.epochDay = (int) LocalDate.of(digits(date, 0, 4), digits(date, 5, 7), digits(date, 8, 10))
+                .toEpochDay();
     }
 
+    private Date(int epochDay) {
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns a {@code Date} of {@code date}, which is the same instance as other equal ones that are in use.
+     *
+     * @param date A valid date.
+     */
+    public static Date of(String date) {
+        return INTERNER.intern(new Date(date));
+    }
+
+    /**
+     * Returns a {@code Date} of the day that is {@code epochDay} days after 1970-01-01, which is the same instance as
+     * other equal ones that are in use.
+     *
+     * @param epochDay A day for which {@link #isValidEpochDay(long)} is true.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        checkArgument(isValidEpochDay(epochDay), MESSAGE_CONSTRAINTS);
+        return INTERNER.intern(new Date((int) epochDay));
+    }
+
+    /**
+     * Returns the date in the format of yyyy-MM-dd.
+     */
     public String getDate() {
-        return date;
+        return getParsedDate().toString();
     }
 
     public LocalDate getParsedDate() {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate parsedDate = LocalDate.parse(date, dtf);
-        return parsedDate;
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public int getEpochDay() {
+        return epochDay;
     }
 
     public static Date getTodayDate() {
-        LocalDate todayDate = LocalDate.now();
-        return new Date(todayDate.toString());
+        return Date.ofEpochDay(LocalDate.now().toEpochDay());
     }
 
     /**
@@ -49,7 +95,18 @@ public class Date {
      * @return true if the date is valid, false otherwise.
      */
     public static boolean isValidDate(String date) {
-        return date.matches(VALIDATION_REGEX) && validCheckDate(date);
+        return hasValidFormat(date) && validCheckDate(date);
+    }
+
+    /**
+     * Checks if the given date matches {@link #VALIDATION_REGEX} with hyphens as separators, without compiling the
+     * regex.
+     */
+    private static boolean hasValidFormat(String date) {
+        if (date.length() != DATE_LENGTH || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return false;
+        }
+        return isDigits(date, 0, 4) && isDigits(date, 5, 7) && isDigits(date, 8, 10) && digits(date, 0, 4) > 0;
     }
 
     /**
@@ -58,14 +115,38 @@ public class Date {
      * @return true if date is in the correct parsable format, false otherwise.
      * */
     public static boolean validCheckDate(String date) {
-        SimpleDateFormat sdfrmt = new SimpleDateFormat("yyyy-MM-dd");
-        sdfrmt.setLenient(false);
-        try {
-            LocalDate.parse(date);
-            return true;
-        } catch (DateTimeParseException e) {
+        if (!hasValidFormat(date)) {
             return false;
         }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Checks if the day that is {@code epochDay} days after 1970-01-01 is between the years 0001 and 9999.
+     */
+    public static boolean isValidEpochDay(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    }
+
+    private static boolean isDigits(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
     }
 
     /**
@@ -77,15 +158,31 @@ public class Date {
         return getParsedDate().format(dtf);
     }
 
+    @Override
+    public int compareTo(Date other) {
+        return Integer.compare(epochDay, other.epochDay);
+    }
+
+    @Override
+    public String toString() {
+        return getDate();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof Date) {
-            return date.equals(((Date) obj).date);
-        } else {
-            return false;
-        }
+        return obj == this // short circuit if same object
+                || (obj instanceof Date // instanceof handles nulls
+                && epochDay == ((Date) obj).epochDay); // state check
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(epochDay);
     }
 }
@@ -1,15 +1,17 @@
 package manageezpz.model.task;
 
-import java.time.format.DateTimeFormatter;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
 
 /**
  * A class that represents a Deadline task.
  */
 public class Deadline extends Task {
-    protected String type;
-    protected Description description;
-    private Date date;
-    private Time time;
+    public static final String TYPE = "deadline";
+
+    private final Date date;
+    private final Time time;
 
     /**
      * Constructor to initialize an instance of Deadline class with task
@@ -20,26 +22,36 @@ public class Deadline extends Task {
      * @param time Time by which the Deadline task needs to be completed.
      */
     public Deadline(Description taskDescription, Date date, Time time) {
-        this.type = "deadline";
-        this.description = taskDescription;
+        super(taskDescription);
+        requireNonNull(date);
+        requireNonNull(time);
         this.date = date;
         this.time = time;
     }
 
     /**
-     * Constructor to initialize an instance of Deadline class with an existing
-     * Deadline object.
+     * Constructor to initialize an instance of Deadline class with all its fields.
      *
-     * @param deadline Deadline task.
+     * @param taskDescription Description of the task.
+     * @param date Date by which the Deadline task needs to be completed.
+     * @param time Time by which the Deadline task needs to be completed.
+     * @param id The id of the task in the task list.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assigneeIds The ids of the persons assigned to the task, in the order they were assigned.
      */
-    public Deadline(Deadline deadline) {
-        this.type = deadline.getType();
-        this.description = deadline.getDescription();
-        this.date = deadline.getDate();
-        this.time = deadline.getTime();
-        this.isDone = deadline.isDone();
-        this.priority = deadline.getPriority();
-        this.assignees = deadline.getAssignees();
+    public Deadline(Description taskDescription, Date date, Time time, int id, boolean isDone, Priority priority,
+                    Collection<Integer> assigneeIds) {
+        super(taskDescription, id, isDone, priority, assigneeIds);
+        requireNonNull(date);
+        requireNonNull(time);
+        this.date = date;
+        this.time = time;
+    }
+
+    @Override
+    protected Deadline copy(int id, boolean isDone, Priority priority, Collection<Integer> assigneeIds) {
+        return new Deadline(getDescription(), date, time, id, isDone, priority, assigneeIds);
     }
 
     public Date getDate() {
@@ -50,32 +62,45 @@ public class Deadline extends Task {
         return this.time;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
+    /**
+     * Returns a copy of this Deadline task with the given description.
+     *
+     * @param description New description of the task.
+     * @return The Deadline task with the new description.
+     */
+    public Deadline withDescription(Description description) {
+        return new Deadline(description, date, time, getId(), isDone(), getPriority(), getAssigneeIds());
     }
 
-    public void setDate(Date date) {
-        this.date = date;
+    /**
+     * Returns a copy of this Deadline task with the given date.
+     *
+     * @param date New date by which the task needs to be completed.
+     * @return The Deadline task with the new date.
+     */
+    public Deadline withDate(Date date) {
+        return new Deadline(getDescription(), date, time, getId(), isDone(), getPriority(), getAssigneeIds());
     }
 
-    public void setTime(Time time) {
-        this.time = time;
+    /**
+     * Returns a copy of this Deadline task with the given time.
+     *
+     * @param time New time by which the task needs to be completed.
+     * @return The Deadline task with the new time.
+     */
+    public Deadline withTime(Time time) {
+        return new Deadline(getDescription(), date, time, getId(), isDone(), getPriority(), getAssigneeIds());
     }
 
     @Override
     public String getType() {
-        return this.type;
-    }
-
-    @Override
-    public Description getDescription() {
-        return this.description;
+        return TYPE;
     }
 
     @Override
-    public String getDateTime() {
-        return "by " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + time.format(DateTimeFormatter.ofPattern("h:mm a"));
+    protected String formatDateTime() {
+        return "by " + date.format(Date.DISPLAY_FORMATTER)
+                + " " + time.format(Time.DISPLAY_FORMATTER);
     }
 
     /**
@@ -85,9 +110,9 @@ public class Deadline extends Task {
      * description and formatted date and time.
      */
     @Override
-    public String toString() {
-        return "[D]" + super.toString() + getDescription()
-                + " (by: " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + time.format(DateTimeFormatter.ofPattern("h:mm a")) + ")";
+    protected String formatString() {
+        return "[D]" + super.formatString() + getDescription()
+                + " (by: " + date.format(Date.DISPLAY_FORMATTER)
+                + " " + time.format(Time.DISPLAY_FORMATTER) + ")";
     }
 }
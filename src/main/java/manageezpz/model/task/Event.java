@@ -1,16 +1,18 @@
 package manageezpz.model.task;
 
-import java.time.format.DateTimeFormatter;
+import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
 
 /**
  * A class that represents an Event task.
  */
 public class Event extends Task {
-    protected String type;
-    protected Description description;
-    private Date date;
-    private Time startTime;
-    private Time endTime;
+    public static final String TYPE = "event";
+
+    private final Date date;
+    private final Time startTime;
+    private final Time endTime;
 
     /**
      * Constructor to initialize an instance of Event class with task
@@ -22,28 +24,37 @@ public class Event extends Task {
      * @param endTime End time of the Event task.
      */
     public Event(Description taskDescription, Date date, Time startTime, Time endTime) {
-        this.type = "event";
-        this.description = taskDescription;
+        super(taskDescription);
+        requireAllNonNull(date, startTime, endTime);
         this.date = date;
         this.startTime = startTime;
         this.endTime = endTime;
     }
 
     /**
-     * Constructor to initialize an instance of Event class with an existing
-     * Event object.
+     * Constructor to initialize an instance of Event class with all its fields.
      *
-     * @param event Event task
+     * @param taskDescription Description of the task.
+     * @param date Date at which the Event task is taking place.
+     * @param startTime Start time of the Event task.
+     * @param endTime End time of the Event task.
+     * @param id The id of the task in the task list.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assigneeIds The ids of the persons assigned to the task, in the order they were assigned.
      */
-    public Event(Event event) {
-        this.type = event.getType();
-        this.description = event.getDescription();
-        this.date = event.getDate();
-        this.startTime = event.getStartTime();
-        this.endTime = event.getEndTime();
-        this.isDone = event.isDone();
-        this.priority = event.getPriority();
-        this.assignees = event.getAssignees();
+    public Event(Description taskDescription, Date date, Time startTime, Time endTime, int id, boolean isDone,
+                 Priority priority, Collection<Integer> assigneeIds) {
+        super(taskDescription, id, isDone, priority, assigneeIds);
+        requireAllNonNull(date, startTime, endTime);
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    protected Event copy(int id, boolean isDone, Priority priority, Collection<Integer> assigneeIds) {
+        return new Event(getDescription(), date, startTime, endTime, id, isDone, priority, assigneeIds);
     }
 
     public Date getDate() {
@@ -60,35 +71,47 @@ public class Event extends Task {
 
     @Override
     public String getType() {
-        return this.type;
-    }
-
-    @Override
-    public Description getDescription() {
-        return this.description;
+        return TYPE;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
-    }
-
-    public void setDate(Date date) {
-        this.date = date;
+    /**
+     * Returns a copy of this Event task with the given description.
+     *
+     * @param description New description of the task.
+     * @return The Event task with the new description.
+     */
+    public Event withDescription(Description description) {
+        return new Event(description, date, startTime, endTime, getId(), isDone(), getPriority(), getAssigneeIds());
     }
 
-    public void setStartTime(Time startTime) {
-        this.startTime = startTime;
+    /**
+     * Returns a copy of this Event task with the given date.
+     *
+     * @param date New date at which the task is taking place.
+     * @return The Event task with the new date.
+     */
+    public Event withDate(Date date) {
+        return new Event(getDescription(), date, startTime, endTime, getId(), isDone(), getPriority(),
+                getAssigneeIds());
     }
 
-    public void setEndTime(Time endTime) {
-        this.endTime = endTime;
+    /**
+     * Returns a copy of this Event task with the given start and end time.
+     *
+     * @param startTime New start time of the task.
+     * @param endTime New end time of the task.
+     * @return The Event task with the new times.
+     */
+    public Event withTimes(Time startTime, Time endTime) {
+        return new Event(getDescription(), date, startTime, endTime, getId(), isDone(), getPriority(),
+                getAssigneeIds());
     }
 
     @Override
-    public String getDateTime() {
-        return "at " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + startTime.format(DateTimeFormatter.ofPattern("h:mm a")) + " to"
-                + " " + endTime.format(DateTimeFormatter.ofPattern("h:mm a"));
+    protected String formatDateTime() {
+        return "at " + date.format(Date.DISPLAY_FORMATTER)
+                + " " + startTime.format(Time.DISPLAY_FORMATTER) + " to"
+                + " " + endTime.format(Time.DISPLAY_FORMATTER);
     }
 
     /**
@@ -98,10 +121,10 @@ public class Event extends Task {
      * description, formatted date and formatted start and end time.
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString() + getDescription()
-                + " (at: " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + startTime.format(DateTimeFormatter.ofPattern("h:mm a")) + " to"
-                + " " + endTime.format(DateTimeFormatter.ofPattern("h:mm a")) + ")";
+    protected String formatString() {
+        return "[E]" + super.formatString() + getDescription()
+                + " (at: " + date.format(Date.DISPLAY_FORMATTER)
+                + " " + startTime.format(Time.DISPLAY_FORMATTER) + " to"
+                + " " + endTime.format(Time.DISPLAY_FORMATTER) + ")";
     }
 }
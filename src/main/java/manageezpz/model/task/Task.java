@@ -1,7 +1,13 @@
 package manageezpz.model.task;
 
-import java.util.ArrayList;
-import java.util.List;
+import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import manageezpz.model.person.Person;
 
@@ -9,24 +15,74 @@ import manageezpz.model.person.Person;
  * An abstract class that represents the tasks a user could create.
  * A <code> Task </code> object would correspond to a task inputted
  * by a user, either a Todo, Deadline or Event.
+ * <p>
+ * Tasks are immutable, so that they can be shared by the task list, its snapshots and caches without copying them.
+ * Each change is made by a {@code with} method that returns a changed copy of the task.
  */
 public abstract class Task {
-    protected boolean isDone = false;
-    protected Priority priority = Priority.NONE;
+    /** The id of a task that has not been added to a task list yet. */
+    public static final int UNASSIGNED_ID = 0;
+
+    public static final String STATUS_DONE = "Done";
+    public static final String STATUS_NOT_DONE = "Not Done";
+
+    private final Description description;
+
+    // Surrogate key given by the task list, which stays the same across edits
+    private final int id;
+
+    private final boolean isDone;
+    private final Priority priority;
 
-    // Data fields
-    protected List<Person> assignees = new ArrayList<>();
+    // Data fields, where the assignees are kept as the unmodifiable ids of the persons in the address book
+    private final Set<Integer> assigneeIds;
+
+    // Hash of the fields compared in equals, which is computed once as they never change
+    private final int hashCode;
+
+    // Display strings, which are computed when first needed
+    private String displayString;
+    private String dateTimeLabel;
+    private AssigneesLabel assigneesLabel;
 
     /**
-     * Constructor to initialize an instance of Task class.
+     * Constructor to initialize an instance of Task class with the given description, which is not done, has no
+     * priority and no assignees, and has not been added to a task list.
      *
-     * {@code Date taskDate} has a default value that will be changed if the
-     * object inheriting the Task object is a Deadline or Event object.
+     * @param description Description of the task.
+     */
+    protected Task(Description description) {
+        this(description, UNASSIGNED_ID, false, Priority.NONE, Set.of());
+    }
+
+    /**
+     * Constructor to initialize an instance of Task class with all its fields.
      *
+     * @param description Description of the task.
+     * @param id The id of the task in the task list.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assigneeIds The ids of the persons assigned to the task, in the order they were assigned.
      */
-    public Task() {
+    protected Task(Description description, int id, boolean isDone, Priority priority,
+                   Collection<Integer> assigneeIds) {
+        requireAllNonNull(description, priority, assigneeIds);
+        assert !assigneeIds.contains(Person.UNASSIGNED_ID) : "Only persons in the address book can be assigned";
+        this.description = description;
+        this.id = id;
+        this.isDone = isDone;
+        this.priority = priority;
+        this.assigneeIds = assigneeIds.isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(assigneeIds));
+        this.hashCode = Objects.hash(description, isDone);
     }
 
+    /**
+     * Returns a copy of this task with the given id, status, priority and assignees, and the same type and details.
+     */
+    protected abstract Task copy(int id, boolean isDone, Priority priority, Collection<Integer> assigneeIds);
+
     /**
      * Checks if the task is done or not.
      * @return true if task is done, false otherwise.
@@ -37,44 +93,128 @@ public abstract class Task {
 
     public abstract String getType();
 
-    public abstract Description getDescription();
+    public Description getDescription() {
+        return description;
+    }
 
-    public abstract String getDateTime();
+    /**
+     * Returns the date and time of this task as they are displayed, or null if it has none.
+     */
+    public String getDateTime() {
+        if (dateTimeLabel == null) {
+            dateTimeLabel = formatDateTime();
+        }
+        return dateTimeLabel;
+    }
+
+    /**
+     * Formats the date and time of this task for display.
+     * @return the formatted date and time, or null if the task has none.
+     */
+    protected abstract String formatDateTime();
 
     public String getStatusIcon() {
         return this.isDone() ? "X" : " ";
     }
 
+    public String getStatusLabel() {
+        return this.isDone() ? STATUS_DONE : STATUS_NOT_DONE;
+    }
+
+    /**
+     * Returns the names of the assignees of this task as they are displayed, which are only formatted again by
+     * {@code formatter} when the {@code version} of the {@code owner} that they are looked up in has changed since
+     * they were last formatted.
+     *
+     * @param owner the address book that the assignees are looked up in.
+     * @param version the version of {@code owner}, which changes whenever any of the assignees may have changed.
+     * @param formatter formats the names of the assignees.
+     * @return the formatted names of the assignees.
+     */
+    public String getAssigneesLabel(Object owner, long version, Supplier<String> formatter) {
+        // The label is replaced as a whole, so that it is never read half updated
+        AssigneesLabel label = assigneesLabel;
+        if (label == null || label.owner != owner || label.version != version) {
+            label = new AssigneesLabel(owner, version, formatter.get());
+            assigneesLabel = label;
+        }
+        return label.text;
+    }
+
     public Priority getPriority() {
         return this.priority;
     }
 
-    public List<Person> getAssignees() {
-        return this.assignees;
+    public int getId() {
+        return this.id;
     }
 
-    public void setTaskDone() {
-        this.isDone = true;
+    public boolean hasId() {
+        return this.id != UNASSIGNED_ID;
     }
 
-    public void setTaskNotDone() {
-        this.isDone = false;
+    /**
+     * Gets the ids of the persons assigned to this task, in the order they were assigned.
+     * @return the unmodifiable ids of the assignees.
+     */
+    public Set<Integer> getAssigneeIds() {
+        return this.assigneeIds;
     }
 
-    public void setPriority(String priority) {
-        this.priority = Priority.valueOf(priority);
+    /**
+     * Returns a copy of this task with the given id, which should only be given by the task list or when the task
+     * is loaded.
+     * @param id the id of the task.
+     * @return this task if it already has the id, or a copy of it with the id otherwise.
+     */
+    public Task withId(int id) {
+        return id == this.id ? this : copy(id, isDone, priority, assigneeIds);
     }
 
-    public void setPriority(Priority priority) {
-        this.priority = priority;
+    /**
+     * Returns a copy of this task that is done if {@code isDone}, or not done otherwise.
+     * @param isDone whether the task is done.
+     * @return this task if it already has the status, or a copy of it with the status otherwise.
+     */
+    public Task withDone(boolean isDone) {
+        return isDone == this.isDone ? this : copy(id, isDone, priority, assigneeIds);
+    }
+
+    /**
+     * Returns a copy of this task with the given priority.
+     * @param priority the priority of the task.
+     * @return this task if it already has the priority, or a copy of it with the priority otherwise.
+     */
+    public Task withPriority(Priority priority) {
+        return priority == this.priority ? this : copy(id, isDone, priority, assigneeIds);
+    }
+
+    /**
+     * Returns a copy of this task with {@code person} added to the end of its assignees.
+     * @param person the person to be assigned, who must have been given an id by the address book.
+     * @return this task if the person is already assigned, or a copy of it with the person assigned otherwise.
+     */
+    public Task withAssignee(Person person) {
+        if (isAssignedTo(person)) {
+            return this;
+        }
+        Set<Integer> newAssigneeIds = new LinkedHashSet<>(assigneeIds);
+        newAssigneeIds.add(person.getId());
+        return copy(id, isDone, priority, newAssigneeIds);
     }
 
     /**
-     * Adds a Person to the Task List.
-     * @param person the person to be added.
+     * Returns a copy of this task without {@code person} among its assignees.
+     * @param person the person to be deallocated.
+     * @return this task if the person is not assigned, or a copy of it without the person otherwise.
      */
-    public void addAssignees(Person person) {
-        this.assignees.add(person);
+    public Task withoutAssignee(Person person) {
+        if (!isAssignedTo(person)) {
+            return this;
+        }
+        Set<Integer> newAssigneeIds = new LinkedHashSet<>(assigneeIds);
+        newAssigneeIds.remove(person.getId());
+        return copy(id, isDone, priority, newAssigneeIds);
     }
 
     /**
@@ -92,45 +232,30 @@ public abstract class Task {
     }
 
     /**
-     * Used to assign a person to this Task.
-     * @param person the person to be assigned.
-     */
-    public void assignedTo(Person person) {
-        assignees.add(person);
-    }
-
-    /**
-     * Used to assign a new person to the specific index in the assignee list.
-     * @param index the index specified to the assignee list.
-     * @param newPerson the new person to be placed into the assignee list.
-     */
-    public void assignedTo(int index, Person newPerson) {
-        assignees.set(index, newPerson);
-    }
-
-    /**
-     * Used to deallocate a person from this Task.
-     * @param person The person to be deallocated.
+     * Checks whether the person is assigned to the task.
+     * @param person The person to be searched
+     * @return true if the person is assigned, false otherwise
      */
-    public void removeAssigned(Person person) {
-        assignees.remove(person);
+    public boolean isAssignedTo(Person person) {
+        return assigneeIds.contains(person.getId());
     }
 
     /**
-     * Checks whether the assignee is assigned to the task.
-     * @param assignee The assignee to be searched
-     * @return true if the assignee is assigned, false otherwise
+     * Returns the string representation of this task, which is only formatted once.
      */
-    public boolean haveAssignees(String assignee) {
-        return assignees.stream()
-                .anyMatch(person -> person.getName().fullName.equals(assignee));
+    @Override
+    public String toString() {
+        if (displayString == null) {
+            displayString = formatString();
+        }
+        return displayString;
     }
 
     /**
-     * {@inheritDoc}
+     * Formats the string representation of this task.
+     * @return the status of the task, which is extended by each type of task with the details of the task.
      */
-    @Override
-    public String toString() {
+    protected String formatString() {
         return "[" + getStatusIcon() + "] ";
     }
 
@@ -148,8 +273,33 @@ public abstract class Task {
         }
 
         Task otherTask = (Task) other;
-        return otherTask.getDescription().equals(getDescription())
+        return otherTask.hashCode == hashCode
+                && otherTask.getDescription().equals(getDescription())
                 && otherTask.getStatusIcon().equals(getStatusIcon());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        // hashes the same fields that are compared in equals
+        return hashCode;
+    }
+
+    /**
+     * The names of the assignees of a task as they are displayed, and the version of the address book that they
+     * were looked up in.
+     */
+    private static class AssigneesLabel {
+        private final Object owner;
+        private final long version;
+        private final String text;
+
+        AssigneesLabel(Object owner, long version, String text) {
+            this.owner = owner;
+            this.version = version;
+            this.text = text;
+        }
+    }
 }
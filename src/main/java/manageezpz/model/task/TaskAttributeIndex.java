@@ -0,0 +1,114 @@
+package manageezpz.model.task;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+import manageezpz.model.task.exceptions.InvalidTaskTypeException;
+
+/**
+ * Bitset indexes of the type, priority and done status of the tasks in a {@code UniqueTaskList}, in which the bit of
+ * each task is the one at its id, which is kept up to date by the list as tasks are added, edited and removed.
+ * <p>
+ * Tasks with any combination of these attributes are found by a word-wise AND of the bitsets, which does not read
+ * any of the tasks.
+ */
+public class TaskAttributeIndex {
+    private final BitSet allTaskIds = new BitSet();
+    private final BitSet todoIds = new BitSet();
+    private final BitSet deadlineIds = new BitSet();
+    private final BitSet eventIds = new BitSet();
+    private final Map<Priority, BitSet> taskIdsByPriority = new EnumMap<>(Priority.class);
+    private final BitSet doneTaskIds = new BitSet();
+    // Number of changes made to this index, used to tell if results found before are still up to date
+    private long version;
+
+    /**
+     * Creates an empty index.
+     */
+    public TaskAttributeIndex() {
+        for (Priority priority : Priority.values()) {
+            taskIdsByPriority.put(priority, new BitSet());
+        }
+    }
+
+    /**
+     * Adds {@code task}, which must have an id, to the index.
+     */
+    void add(Task task) {
+        set(task, true);
+    }
+
+    /**
+     * Removes {@code task} from the index.
+     */
+    void remove(Task task) {
+        set(task, false);
+    }
+
+    private void set(Task task, boolean isIndexed) {
+        int id = task.getId();
+        allTaskIds.set(id, isIndexed);
+        typeIds(task.getClass()).set(id, isIndexed);
+        taskIdsByPriority.get(task.getPriority()).set(id, isIndexed);
+        doneTaskIds.set(id, isIndexed && task.isDone());
+        version++;
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    void clear() {
+        allTaskIds.clear();
+        todoIds.clear();
+        deadlineIds.clear();
+        eventIds.clear();
+        taskIdsByPriority.values().forEach(BitSet::clear);
+        doneTaskIds.clear();
+        version++;
+    }
+
+    /**
+     * Finds the tasks with all of the given attributes, where a null attribute matches any task.
+     * @param taskType the type of the tasks to find.
+     * @param priority the priority of the tasks to find.
+     * @param isDone whether the tasks to find are done.
+     * @return a new bitset with the bits at the ids of the tasks found set.
+     */
+    public BitSet findTaskIds(Class<? extends Task> taskType, Priority priority, Boolean isDone) {
+        BitSet taskIds = (BitSet) allTaskIds.clone();
+        if (taskType != null) {
+            taskIds.and(typeIds(taskType));
+        }
+        if (priority != null) {
+            taskIds.and(taskIdsByPriority.get(priority));
+        }
+        if (isDone != null && isDone) {
+            taskIds.and(doneTaskIds);
+        } else if (isDone != null) {
+            taskIds.andNot(doneTaskIds);
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns the version of this index, which is incremented by every change made to it.
+     * @return the number of changes made to this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private BitSet typeIds(Class<? extends Task> taskType) {
+        if (taskType == Todo.class) {
+            return todoIds;
+        } else if (taskType == Deadline.class) {
+            return deadlineIds;
+        } else if (taskType == Event.class) {
+            return eventIds;
+        } else {
+            // There are only three types of tasks, i.e., todo, deadline and event
+            throw new InvalidTaskTypeException();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package manageezpz.model.task;
+
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from the date of each deadline and event in a {@code UniqueTaskList} to the ids of the tasks on that
+ * date, which is kept up to date by the list as tasks are added, edited and removed.
+ * <p>
+ * Dates are kept as epoch days, so that the tasks within a range of dates are found by iterating over the part of the
+ * index within the range, in O(log n + k) time for k tasks found, instead of comparing the date of every task.
+ */
+public class TaskDateIndex {
+    private final NavigableMap<Integer, Set<Integer>> taskIdsByEpochDay = new TreeMap<>();
+    // Number of changes made to this index, used to tell if results found before are still up to date
+    private long version;
+
+    /**
+     * Adds {@code task}, which must have an id, to the index if it has a date.
+     */
+    void add(Task task) {
+        Date date = dateOf(task);
+        if (date != null) {
+            taskIdsByEpochDay.computeIfAbsent(date.getEpochDay(), unused -> new LinkedHashSet<>()).add(task.getId());
+            version++;
+        }
+    }
+
+    /**
+     * Removes {@code task} from the index if it has a date.
+     */
+    void remove(Task task) {
+        Date date = dateOf(task);
+        if (date == null) {
+            return;
+        }
+
+        Set<Integer> taskIds = taskIdsByEpochDay.get(date.getEpochDay());
+        if (taskIds != null && taskIds.remove(task.getId()) && taskIds.isEmpty()) {
+            taskIdsByEpochDay.remove(date.getEpochDay());
+        }
+        version++;
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    void clear() {
+        taskIdsByEpochDay.clear();
+        version++;
+    }
+
+    /**
+     * Finds the deadlines and events with a date from {@code fromEpochDay} to {@code toEpochDay}, both inclusive.
+     * @param fromEpochDay the epoch day of the earliest date to find, or {@code Integer.MIN_VALUE} for no bound.
+     * @param toEpochDay the epoch day of the latest date to find, or {@code Integer.MAX_VALUE} for no bound.
+     * @return a new bitset with the bits at the ids of the tasks with a date within the range set, which is empty if
+     *     the range is empty.
+     */
+    public BitSet findTaskIds(int fromEpochDay, int toEpochDay) {
+        BitSet taskIds = new BitSet();
+        if (fromEpochDay > toEpochDay) {
+            return taskIds;
+        }
+
+        for (Set<Integer> taskIdsOnDay : taskIdsByEpochDay.subMap(fromEpochDay, true, toEpochDay, true).values()) {
+            taskIdsOnDay.forEach(taskIds::set);
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns the version of this index, which is incremented by every change made to it.
+     * @return the number of changes made to this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the date of {@code task}, or null if it is a todo, which has no date.
+     */
+    static Date dateOf(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getDate();
+        } else {
+            return null;
+        }
+    }
+}
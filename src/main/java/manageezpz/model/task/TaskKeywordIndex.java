@@ -0,0 +1,185 @@
+package manageezpz.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import manageezpz.commons.util.AppUtil;
+import manageezpz.commons.util.StringUtil;
+
+/**
+ * An inverted index from each word in the descriptions of the tasks in a {@code UniqueTaskList} to the ids of the
+ * tasks with that word, which is kept up to date by the list as tasks are added, edited and removed.
+ * <p>
+ * Words are split on whitespace and their case is folded, so that looking up a keyword matches the same tasks as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)} would, without splitting every description again.
+ * <p>
+ * The index also keeps the number of times each word appears in each description, and the number of words in each
+ * description, so that tasks can be ranked by how relevant their descriptions are to some keywords with the BM25
+ * formula, without reading any description.
+ */
+public class TaskKeywordIndex {
+
+    /** How quickly the score of a word saturates as it appears more times in a description. */
+    static final double BM25_K1 = 1.2;
+    /** How much a word in a longer description counts for less, from 0 for not at all to 1 for in proportion. */
+    static final double BM25_B = 0.75;
+
+    // Number of times that each word appears in the description of each task with that word, by the id of the task
+    private final Map<String, Map<Integer, Integer>> termFrequenciesByWord = new HashMap<>();
+    private final Map<Integer, Integer> lengthsByTaskId = new HashMap<>();
+    private long totalLength;
+    // Number of changes made to this index, used to tell if results found before are still up to date
+    private long version;
+
+    /**
+     * Adds the words in the description of {@code task}, which must have an id, to the index.
+     */
+    void add(Task task) {
+        List<String> words = wordsOf(task);
+        for (String word : words) {
+            termFrequenciesByWord.computeIfAbsent(word, unused -> new HashMap<>()).merge(task.getId(), 1, Integer::sum);
+        }
+        lengthsByTaskId.put(task.getId(), words.size());
+        totalLength += words.size();
+        version++;
+    }
+
+    /**
+     * Removes the words in the description of {@code task} from the index.
+     */
+    void remove(Task task) {
+        for (String word : new LinkedHashSet<>(wordsOf(task))) {
+            Map<Integer, Integer> termFrequencies = termFrequenciesByWord.get(word);
+            if (termFrequencies != null && termFrequencies.remove(task.getId()) != null
+                    && termFrequencies.isEmpty()) {
+                termFrequenciesByWord.remove(word);
+            }
+        }
+        Integer length = lengthsByTaskId.remove(task.getId());
+        if (length != null) {
+            totalLength -= length;
+        }
+        version++;
+    }
+
+    /**
+     * Removes all words from the index.
+     */
+    void clear() {
+        termFrequenciesByWord.clear();
+        lengthsByTaskId.clear();
+        totalLength = 0;
+        version++;
+    }
+
+    /**
+     * Finds the tasks with any of the given {@code keywords} as a whole word in their description, ignoring case.
+     * @param keywords the words to look up, each of which must be a single word.
+     * @return a new bitset with the bits at the ids of the tasks with any of the keywords set.
+     */
+    public BitSet findTaskIds(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet taskIds = new BitSet();
+        for (String keyword : keywords) {
+            termFrequenciesByWord.getOrDefault(StringUtil.foldCase(keyword.trim()), Map.of()).keySet()
+                    .forEach(taskIds::set);
+        }
+        return taskIds;
+    }
+
+    /**
+     * Finds the tasks whose descriptions are the most relevant to {@code keywords}, by their BM25 scores.
+     * <p>
+     * A task scores higher for each keyword in its description, more so for keywords that appear in fewer
+     * descriptions and that appear more times in its description, and less so the longer its description is. Only
+     * the tasks with at least one of the keywords are scored, and only the best {@code limit} of them are kept in a
+     * heap while scoring.
+     * @param keywords the words to look up, each of which must be a single word. Repeated keywords count once.
+     * @param limit the most tasks to find.
+     * @return the scores of the tasks found by their ids, from the highest score to the lowest, with tasks of equal
+     *     scores ordered by id.
+     */
+    public Map<Integer, Double> findTopTaskIds(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        AppUtil.checkArgument(limit >= 0, "Limit must not be negative");
+        Set<String> words = new LinkedHashSet<>();
+        keywords.forEach(keyword -> words.add(StringUtil.foldCase(keyword.trim())));
+
+        int taskCount = lengthsByTaskId.size();
+        double averageLength = taskCount == 0 ? 0 : (double) totalLength / taskCount;
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String word : words) {
+            Map<Integer, Integer> termFrequencies = termFrequenciesByWord.getOrDefault(word, Map.of());
+            double inverseDocumentFrequency = getInverseDocumentFrequency(termFrequencies.size(), taskCount);
+            termFrequencies.forEach((taskId, termFrequency) -> {
+                double lengthRatio = lengthsByTaskId.get(taskId) / averageLength;
+                double saturatedFrequency = termFrequency * (BM25_K1 + 1)
+                        / (termFrequency + BM25_K1 * (1 - BM25_B + BM25_B * lengthRatio));
+                scores.merge(taskId, inverseDocumentFrequency * saturatedFrequency, Double::sum);
+            });
+        }
+        return getTopScores(scores, limit);
+    }
+
+    /**
+     * Returns how rare a word found in {@code documentFrequency} of the {@code taskCount} descriptions is, which is
+     * always positive so that every keyword found adds to the score.
+     */
+    private static double getInverseDocumentFrequency(int documentFrequency, int taskCount) {
+        return Math.log(1 + (taskCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * Returns the {@code limit} highest of {@code scores}, in order, keeping only that many in a heap at a time.
+     */
+    private static Map<Integer, Double> getTopScores(Map<Integer, Double> scores, int limit) {
+        // The highest scores, then the lowest ids, come first
+        Comparator<Map.Entry<Integer, Double>> rankOrder = Map.Entry.<Integer, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        // The heap holds the worst ranked of the best tasks found so far at its head, to be replaced by better ones
+        PriorityQueue<Map.Entry<Integer, Double>> bestScores = new PriorityQueue<>(rankOrder.reversed());
+        for (Map.Entry<Integer, Double> score : scores.entrySet()) {
+            if (bestScores.size() < limit) {
+                bestScores.add(score);
+            } else if (limit > 0 && rankOrder.compare(score, bestScores.peek()) < 0) {
+                bestScores.poll();
+                bestScores.add(score);
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> rankedScores = new ArrayList<>(bestScores);
+        rankedScores.sort(rankOrder);
+        Map<Integer, Double> topScores = new LinkedHashMap<>();
+        rankedScores.forEach(score -> topScores.put(score.getKey(), score.getValue()));
+        return topScores;
+    }
+
+    /**
+     * Returns the version of this index, which is incremented by every change made to it.
+     * @return the number of changes made to this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static List<String> wordsOf(Task task) {
+        List<String> words = new ArrayList<>();
+        for (String word : task.getDescription().toString().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+}
@@ -4,11 +4,17 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
 
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import manageezpz.commons.util.StringUtil;
+import manageezpz.commons.util.TrigramIndex;
 import manageezpz.logic.parser.Prefix;
+import manageezpz.model.person.Person;
 
 /**
  * The predicate to search tasks based on the properties given.
@@ -20,6 +26,26 @@ public class TaskMultiplePredicate implements Predicate<Task> {
     private final Priority priority;
     private final String assignee;
     private final Boolean isMarked;
+    private final Date fromDate;
+    private final Date toDate;
+    private final boolean isOverdue;
+    // The date on which the predicate was created, which overdue tasks are dated before
+    private final Date today;
+    private final int assigneeId;
+    private final TaskKeywordIndex keywordIndex;
+    private final TaskDateIndex dateIndex;
+    private final TaskAttributeIndex attributeIndex;
+    private final boolean isFuzzy;
+    private final TrigramIndex trigramIndex;
+
+    // Ids of the tasks matching all the options that are looked up in the indexes, found when the sum of the versions
+    // of the indexes was indexedMatchesVersion. As versions only ever increase, the sum changes with any index.
+    private BitSet indexedMatches;
+    private long indexedMatchesVersion;
+    // Fuzzy scores of the tasks matching the descriptions, found when the version of the trigram index was
+    // fuzzyScoresVersion
+    private Map<Integer, Double> fuzzyScores;
+    private long fuzzyScoresVersion;
 
     /**
      * The constructor for predicate.
@@ -32,33 +58,270 @@ public class TaskMultiplePredicate implements Predicate<Task> {
      */
     public TaskMultiplePredicate(Prefix taskType, List<String> descriptions, Date date, Priority priority,
                                  String assignee, Boolean isMarked) {
+        this(taskType, descriptions, date, priority, assignee, isMarked, null, null, false);
+    }
+
+    /**
+     * The constructor for predicate, with a range of dates.
+     * @param taskType The task type to search
+     * @param descriptions The description to search
+     * @param date The date of either the deadline or event
+     * @param priority The priority of the task
+     * @param assignee The employees assigned to the tasks
+     * @param isMarked Whether the task is marked
+     * @param fromDate The earliest date of either the deadline or event
+     * @param toDate The latest date of either the deadline or event
+     * @param isOverdue Whether to only search deadlines and events before today that are not done
+     */
+    public TaskMultiplePredicate(Prefix taskType, List<String> descriptions, Date date, Priority priority,
+                                 String assignee, Boolean isMarked, Date fromDate, Date toDate, boolean isOverdue) {
+        this(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate, isOverdue,
+                isOverdue ? Date.getTodayDate() : null, Person.UNASSIGNED_ID, null, null, null, false, null);
+    }
+
+    private TaskMultiplePredicate(Prefix taskType, List<String> descriptions, Date date, Priority priority,
+                                  String assignee, Boolean isMarked, Date fromDate, Date toDate, boolean isOverdue,
+                                  Date today, int assigneeId, TaskKeywordIndex keywordIndex,
+                                  TaskDateIndex dateIndex, TaskAttributeIndex attributeIndex, boolean isFuzzy,
+                                  TrigramIndex trigramIndex) {
         this.taskType = taskType;
         this.descriptions = descriptions;
         this.date = date;
         this.priority = priority;
         this.assignee = assignee;
         this.isMarked = isMarked;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.isOverdue = isOverdue;
+        this.today = today;
+        this.assigneeId = assigneeId;
+        this.keywordIndex = keywordIndex;
+        this.dateIndex = dateIndex;
+        this.attributeIndex = attributeIndex;
+        this.isFuzzy = isFuzzy;
+        this.trigramIndex = trigramIndex;
 
         boolean isAtLeastOneNotNull = (this.taskType != null) || (this.descriptions != null) || (this.date != null)
-                || (this.priority != null) || (this.assignee != null) || (this.isMarked != null);
+                || (this.priority != null) || (this.assignee != null) || (this.isMarked != null)
+                || hasDateRange();
         assert isAtLeastOneNotNull : "At least one search option should be specified";
     }
 
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public boolean hasDescriptions() {
+        return descriptions != null;
+    }
+
+    /**
+     * Returns true if the predicate searches a range of dates, with the from, to or overdue options.
+     */
+    public boolean hasDateRange() {
+        return fromDate != null || toDate != null || isOverdue;
+    }
+
+    /**
+     * Returns true if the predicate searches by the type, priority or done status of tasks, with the task type,
+     * priority, marked or overdue options.
+     */
+    public boolean hasAttributes() {
+        return taskType != null || priority != null || isMarked != null || isOverdue;
+    }
+
+    /**
+     * Creates a copy of this predicate that matches the tasks assigned to the given person, who is the person
+     * in the address book with the name given for the assignee option.
+     * Without a person, the assignee option of this predicate does not match any task.
+     * @param person the person with the name of the assignee of this predicate.
+     * @return the predicate that uses the id of {@code person} for the assignee option.
+     */
+    public TaskMultiplePredicate withAssignee(Person person) {
+        assert assignee != null : "The person should only be given for the assignee option";
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, person.getId(), keywordIndex, dateIndex, attributeIndex, isFuzzy,
+                trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that looks up the descriptions option in the given index of the tasks that
+     * it is tested on, instead of searching the description of each task.
+     * @param index the keyword index of the task list that the predicate is tested on.
+     * @return the predicate that uses {@code index} for the descriptions option.
+     */
+    public TaskMultiplePredicate withKeywordIndex(TaskKeywordIndex index) {
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, assigneeId, index, dateIndex, attributeIndex, isFuzzy, trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that looks up the range of dates in the given index of the tasks that it is
+     * tested on, instead of comparing the date of each task.
+     * @param index the date index of the task list that the predicate is tested on.
+     * @return the predicate that uses {@code index} for the from, to and overdue options.
+     */
+    public TaskMultiplePredicate withDateIndex(TaskDateIndex index) {
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, assigneeId, keywordIndex, index, attributeIndex, isFuzzy, trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that looks up the task type, priority, marked and overdue options in the given
+     * index of the tasks that it is tested on, instead of checking each task.
+     * @param index the attribute index of the task list that the predicate is tested on.
+     * @return the predicate that uses {@code index} for the task type, priority, marked and overdue options.
+     */
+    public TaskMultiplePredicate withAttributeIndex(TaskAttributeIndex index) {
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, assigneeId, keywordIndex, dateIndex, index, isFuzzy, trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that matches the tasks with words in their descriptions that are close to,
+     * rather than equal to, any of the keywords of the descriptions option, such as {@code meeting} for
+     * {@code meetnig}.
+     * @return the predicate that fuzzily matches the descriptions option.
+     */
+    public TaskMultiplePredicate withFuzzyDescriptions() {
+        assert descriptions != null : "Only the descriptions option can be fuzzily matched";
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, assigneeId, keywordIndex, dateIndex, attributeIndex, true, trigramIndex);
+    }
+
+    /**
+     * Creates a copy of this predicate that looks up the fuzzy matches of the descriptions option in the given index
+     * of the tasks that it is tested on, instead of comparing every word of each task.
+     * @param index the trigram index of the task list that the predicate is tested on.
+     * @return the predicate that uses {@code index} for the fuzzy descriptions option.
+     */
+    public TaskMultiplePredicate withTrigramIndex(TrigramIndex index) {
+        return new TaskMultiplePredicate(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate,
+                isOverdue, today, assigneeId, keywordIndex, dateIndex, attributeIndex, isFuzzy, index);
+    }
+
+    public boolean isFuzzy() {
+        return isFuzzy;
+    }
+
+    /**
+     * Returns how closely the description of {@code task} matches the keywords of the fuzzy descriptions option,
+     * which is higher for words with fewer edits from the keywords and for more keywords matched, or 0 if none match.
+     */
+    public double getFuzzyScore(Task task) {
+        assert isFuzzy : "Only fuzzy descriptions have scores";
+        if (trigramIndex == null) {
+            return TrigramIndex.scoreText(descriptions, task.getDescription().toString());
+        }
+
+        if (fuzzyScores == null || fuzzyScoresVersion != trigramIndex.getVersion()) {
+            fuzzyScores = trigramIndex.findMatches(descriptions);
+            fuzzyScoresVersion = trigramIndex.getVersion();
+        }
+        return fuzzyScores.getOrDefault(task.getId(), 0.0);
+    }
+
+    /**
+     * Returns the order of the tasks matching the fuzzy descriptions option from the closest match to the furthest.
+     */
+    public Comparator<Task> getRelevanceComparator() {
+        return Comparator.comparingDouble((Task task) -> getFuzzyScore(task)).reversed();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean test(Task task) {
+        // Checks the options that are looked up in the indexes first, without reading the task.
+        if (usesAnyIndex() && !getIndexedMatches().get(task.getId())) {
+            return false;
+        }
+
         // Checks if the specific search term is specified in the parameter, then check on the task provided.
-        // Defaults to true if not specified.
-        boolean hasTaskType = taskType != null ? checkIfHasSpecificTaskType(task) : true;
-        boolean hasKeyword = descriptions != null ? checkIfHasKeywords(task) : true;
+        // Defaults to true if not specified or already checked in the indexes.
+        boolean hasTaskType = taskType != null && !usesAttributeIndex() ? checkIfHasSpecificTaskType(task) : true;
+        boolean hasKeyword = descriptions != null && !usesKeywordIndex() ? checkIfHasKeywords(task) : true;
         boolean hasDate = date != null ? checkIfHasDate(task) : true;
-        boolean hasPriority = priority != null ? checkIfHasPriority(task) : true;
+        boolean hasPriority = priority != null && !usesAttributeIndex() ? checkIfHasPriority(task) : true;
         boolean hasAssignee = assignee != null ? checkIfHasAssignee(task) : true;
-        boolean hasIsMarked = isMarked != null ? checkedIfIsMarked(task) : true;
+        boolean hasIsMarked = isMarked != null && !usesAttributeIndex() ? checkedIfIsMarked(task) : true;
+        boolean isInDateRange = hasDateRange() && !usesDateIndex() ? checkIfInDateRange(task) : true;
+        boolean hasIsOverdue = isOverdue && !usesAttributeIndex() ? !task.isDone() : true;
 
-        return hasTaskType && hasKeyword && hasDate && hasPriority && hasAssignee && hasIsMarked;
+        return hasTaskType && hasKeyword && hasDate && hasPriority && hasAssignee && hasIsMarked && isInDateRange
+                && hasIsOverdue;
+    }
+
+    private boolean usesKeywordIndex() {
+        return keywordIndex != null && hasDescriptions() && !isFuzzy;
+    }
+
+    private boolean usesDateIndex() {
+        return dateIndex != null && hasDateRange();
+    }
+
+    private boolean usesAttributeIndex() {
+        return attributeIndex != null && hasAttributes();
+    }
+
+    private boolean usesAnyIndex() {
+        return usesKeywordIndex() || usesDateIndex() || usesAttributeIndex();
+    }
+
+    /**
+     * Returns the ids of the tasks matching all the options that are looked up in the indexes, which are found by a
+     * word-wise AND of the matches in each index, and only found again after any of the indexes has changed.
+     */
+    private BitSet getIndexedMatches() {
+        long indexVersion = (usesKeywordIndex() ? keywordIndex.getVersion() : 0)
+                + (usesDateIndex() ? dateIndex.getVersion() : 0)
+                + (usesAttributeIndex() ? attributeIndex.getVersion() : 0);
+        if (indexedMatches == null || indexedMatchesVersion != indexVersion) {
+            BitSet matches = null;
+            if (usesAttributeIndex()) {
+                matches = intersect(matches, findAttributeMatches());
+            }
+            if (usesDateIndex()) {
+                matches = intersect(matches, dateIndex.findTaskIds(getFromEpochDay(), getToEpochDay()));
+            }
+            if (usesKeywordIndex()) {
+                matches = intersect(matches, keywordIndex.findTaskIds(descriptions));
+            }
+            indexedMatches = matches;
+            indexedMatchesVersion = indexVersion;
+        }
+        return indexedMatches;
+    }
+
+    private static BitSet intersect(BitSet matches, BitSet otherMatches) {
+        if (matches == null) {
+            return otherMatches;
+        }
+        matches.and(otherMatches);
+        return matches;
+    }
+
+    private BitSet findAttributeMatches() {
+        if (isOverdue && Boolean.TRUE.equals(isMarked)) {
+            // Overdue tasks are not done, so none of them are marked
+            return new BitSet();
+        }
+        Boolean isDone = isOverdue ? Boolean.FALSE : isMarked;
+        return attributeIndex.findTaskIds(getTaskTypeClass(), priority, isDone);
+    }
+
+    private Class<? extends Task> getTaskTypeClass() {
+        if (taskType == null) {
+            return null;
+        } else if (taskType.equals(PREFIX_TODO)) {
+            return Todo.class;
+        } else if (taskType.equals(PREFIX_DEADLINE)) {
+            return Deadline.class;
+        } else {
+            assert taskType.equals(PREFIX_EVENT) : "The task type should be todo, deadline or event";
+            return Event.class;
+        }
     }
 
     private boolean checkIfHasSpecificTaskType(Task task) {
@@ -70,6 +333,9 @@ public class TaskMultiplePredicate implements Predicate<Task> {
     }
 
     private boolean checkIfHasKeywords(Task task) {
+        if (isFuzzy) {
+            return getFuzzyScore(task) > 0;
+        }
         String otherTaskDescription = task.getDescription().toString();
         return descriptions.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(otherTaskDescription, keyword));
@@ -84,6 +350,27 @@ public class TaskMultiplePredicate implements Predicate<Task> {
         }
     }
 
+    private boolean checkIfInDateRange(Task task) {
+        if (task instanceof Todo) {
+            return false;
+        } else {
+            int taskEpochDay = getDateFromTask(task).getEpochDay();
+            return taskEpochDay >= getFromEpochDay() && taskEpochDay <= getToEpochDay();
+        }
+    }
+
+    private int getFromEpochDay() {
+        return fromDate != null ? fromDate.getEpochDay() : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the epoch day of the latest date in the date range, which is before today for the overdue option.
+     */
+    private int getToEpochDay() {
+        int toEpochDay = toDate != null ? toDate.getEpochDay() : Integer.MAX_VALUE;
+        return isOverdue ? Math.min(toEpochDay, today.getEpochDay() - 1) : toEpochDay;
+    }
+
     private Date getDateFromTask(Task task) {
         if (task instanceof Deadline) {
             return ((Deadline) task).getDate();
@@ -100,11 +387,11 @@ public class TaskMultiplePredicate implements Predicate<Task> {
     }
 
     private boolean checkIfHasAssignee(Task task) {
-        return task.haveAssignees(assignee);
+        return assigneeId != Person.UNASSIGNED_ID && task.getAssigneeIds().contains(assigneeId);
     }
 
     private boolean checkedIfIsMarked(Task task) {
-        return task.isDone == isMarked.booleanValue();
+        return task.isDone() == isMarked.booleanValue();
     }
 
     /**
@@ -122,13 +409,23 @@ public class TaskMultiplePredicate implements Predicate<Task> {
             boolean isSamePriority = isSameOption(priority, pre.priority);
             boolean isSameAssignee = isSameOption(assignee, pre.assignee);
             boolean isSameIsMarked = isSameOption(isMarked, pre.isMarked);
+            // Overdue tasks are found relative to the date that the predicate was created on
+            boolean isSameDateRange = isSameOption(fromDate, pre.fromDate) && isSameOption(toDate, pre.toDate)
+                    && isOverdue == pre.isOverdue && isSameOption(today, pre.today);
 
             return isSameTaskType
-                    && isSameDescription && isSameDate && isSamePriority && isSameAssignee && isSameIsMarked;
+                    && isSameDescription && isSameDate && isSamePriority && isSameAssignee && isSameIsMarked
+                    && isSameDateRange && isFuzzy == pre.isFuzzy;
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskType, descriptions, date, priority, assignee, isMarked, fromDate, toDate, isOverdue,
+                today, isFuzzy);
+    }
+
     private boolean isSameOption(Object currentObj, Object otherObj) {
         if (otherObj != null) {
             return otherObj.equals(currentObj);
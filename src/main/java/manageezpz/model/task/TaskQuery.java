@@ -0,0 +1,505 @@
+package manageezpz.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import manageezpz.commons.util.StringUtil;
+import manageezpz.model.person.Person;
+
+/**
+ * A query on tasks, which is a tree of clauses on the attributes of tasks combined with AND, OR and NOT.
+ * <p>
+ * Testing a query on a task checks every clause against the task. A {@link TaskQueryPlan} instead looks up the
+ * clauses in the indexes of a task list, and only checks the clauses that cannot be looked up against each task.
+ */
+public abstract class TaskQuery implements Predicate<Task> {
+
+    /**
+     * The comparisons that a clause can make between an attribute of a task and a value.
+     */
+    public enum Comparison {
+        EQUAL("="),
+        LESS("<"),
+        LESS_OR_EQUAL("<="),
+        GREATER(">"),
+        GREATER_OR_EQUAL(">=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns true if the comparison holds for an attribute that compares to the value as {@code compareResult},
+         * which is negative, zero or positive as in {@link Comparable#compareTo(Object)}.
+         */
+        public boolean holds(int compareResult) {
+            switch (this) {
+            case EQUAL:
+                return compareResult == 0;
+            case LESS:
+                return compareResult < 0;
+            case LESS_OR_EQUAL:
+                return compareResult <= 0;
+            case GREATER:
+                return compareResult > 0;
+            default:
+                return compareResult >= 0;
+            }
+        }
+    }
+
+    /**
+     * Returns a query for the tasks matching all of {@code operands}.
+     */
+    public static TaskQuery and(List<TaskQuery> operands) {
+        return new And(operands);
+    }
+
+    /**
+     * Returns a query for the tasks matching any of {@code operands}.
+     */
+    public static TaskQuery or(List<TaskQuery> operands) {
+        return new Or(operands);
+    }
+
+    /**
+     * Returns a query for the tasks not matching {@code operand}.
+     */
+    public static TaskQuery not(TaskQuery operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Returns a query for the tasks of the given type, which is {@code Todo}, {@code Deadline} or {@code Event}.
+     */
+    public static TaskQuery ofType(Class<? extends Task> taskType) {
+        return new TypeClause(taskType);
+    }
+
+    /**
+     * Returns a query for the tasks with {@code keyword} as a whole word in their description, ignoring case.
+     */
+    public static TaskQuery hasKeyword(String keyword) {
+        return new KeywordClause(keyword);
+    }
+
+    /**
+     * Returns a query for the deadlines and events with a date that compares to {@code date} as {@code comparison}.
+     */
+    public static TaskQuery isDated(Comparison comparison, Date date) {
+        return new DateClause(comparison, date);
+    }
+
+    /**
+     * Returns a query for the tasks with a priority that compares to {@code priority} as {@code comparison}, where
+     * higher priorities are greater.
+     */
+    public static TaskQuery hasPriority(Comparison comparison, Priority priority) {
+        return new PriorityClause(comparison, priority);
+    }
+
+    /**
+     * Returns a query for the tasks that are marked as done if {@code isMarked}, or not done otherwise.
+     */
+    public static TaskQuery isMarked(boolean isMarked) {
+        return new MarkedClause(isMarked);
+    }
+
+    /**
+     * Returns a query for the deadlines and events dated before {@code today} that are not done.
+     */
+    public static TaskQuery isOverdue(Date today) {
+        return new OverdueClause(today);
+    }
+
+    /**
+     * Returns a query for the tasks assigned to the employee with the full name {@code assignee}, which only matches
+     * tasks once the id of the employee is resolved with {@link #resolveAssignees(ToIntFunction)}.
+     */
+    public static TaskQuery isAssignedTo(String assignee) {
+        return new AssigneeClause(assignee, Person.UNASSIGNED_ID);
+    }
+
+    /**
+     * Returns a copy of this query in which the employees that tasks are assigned to are looked up by name.
+     * @param assigneeIdLookup the function from the full name of an employee to their id, or to
+     *     {@code Person.UNASSIGNED_ID} if there is no such employee.
+     * @return the query with the ids of the assignees resolved.
+     */
+    public TaskQuery resolveAssignees(ToIntFunction<String> assigneeIdLookup) {
+        return this;
+    }
+
+    /**
+     * A query that combines other queries.
+     */
+    abstract static class Composite extends TaskQuery {
+        private final List<TaskQuery> operands;
+
+        Composite(List<TaskQuery> operands) {
+            requireNonNull(operands);
+            this.operands = List.copyOf(operands);
+        }
+
+        List<TaskQuery> getOperands() {
+            return operands;
+        }
+
+        List<TaskQuery> resolveOperands(ToIntFunction<String> assigneeIdLookup) {
+            return operands.stream()
+                    .map(operand -> operand.resolveAssignees(assigneeIdLookup))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other != null && other.getClass() == getClass()
+                    && operands.equals(((Composite) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), operands);
+        }
+    }
+
+    /**
+     * A query for the tasks matching all of its operands.
+     */
+    static class And extends Composite {
+        And(List<TaskQuery> operands) {
+            super(operands);
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return getOperands().stream().allMatch(operand -> operand.test(task));
+        }
+
+        @Override
+        public TaskQuery resolveAssignees(ToIntFunction<String> assigneeIdLookup) {
+            return new And(resolveOperands(assigneeIdLookup));
+        }
+
+        @Override
+        public String toString() {
+            return getOperands().stream().map(TaskQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query for the tasks matching any of its operands.
+     */
+    static class Or extends Composite {
+        Or(List<TaskQuery> operands) {
+            super(operands);
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return getOperands().stream().anyMatch(operand -> operand.test(task));
+        }
+
+        @Override
+        public TaskQuery resolveAssignees(ToIntFunction<String> assigneeIdLookup) {
+            return new Or(resolveOperands(assigneeIdLookup));
+        }
+
+        @Override
+        public String toString() {
+            return getOperands().stream().map(TaskQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query for the tasks not matching its operand.
+     */
+    static class Not extends Composite {
+        Not(TaskQuery operand) {
+            super(List.of(operand));
+        }
+
+        TaskQuery getOperand() {
+            return getOperands().get(0);
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return !getOperand().test(task);
+        }
+
+        @Override
+        public TaskQuery resolveAssignees(ToIntFunction<String> assigneeIdLookup) {
+            return new Not(getOperand().resolveAssignees(assigneeIdLookup));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + getOperand();
+        }
+    }
+
+    /**
+     * A query on a single attribute of tasks, which is equal to another clause with the same text.
+     */
+    abstract static class Clause extends TaskQuery {
+
+        /**
+         * Finds the ids of the tasks matching this clause in the given indexes, where {@code assigneeIndex} finds the
+         * ids of the tasks assigned to the person with a given id.
+         * @return a new bitset with the bits at the ids of the tasks matching this clause set, or null if this clause
+         *     cannot be looked up in the indexes.
+         */
+        abstract BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex);
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other != null && other.getClass() == getClass()
+                    && toString().equals(other.toString()));
+        }
+
+        @Override
+        public int hashCode() {
+            return toString().hashCode();
+        }
+    }
+
+    private static class TypeClause extends Clause {
+        private final Class<? extends Task> taskType;
+
+        TypeClause(Class<? extends Task> taskType) {
+            requireNonNull(taskType);
+            this.taskType = taskType;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return task.getClass() == taskType;
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            return attributeIndex.findTaskIds(taskType, null, null);
+        }
+
+        @Override
+        public String toString() {
+            return "type=" + taskType.getSimpleName().toLowerCase();
+        }
+    }
+
+    private static class KeywordClause extends Clause {
+        private final String keyword;
+
+        KeywordClause(String keyword) {
+            requireNonNull(keyword);
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return StringUtil.containsWordIgnoreCase(task.getDescription().toString(), keyword);
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            return keywordIndex.findTaskIds(List.of(keyword));
+        }
+
+        @Override
+        public String toString() {
+            return "desc=" + keyword;
+        }
+    }
+
+    private static class DateClause extends Clause {
+        private final Comparison comparison;
+        private final Date date;
+
+        DateClause(Comparison comparison, Date date) {
+            requireNonNull(comparison);
+            requireNonNull(date);
+            this.comparison = comparison;
+            this.date = date;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            Date taskDate = TaskDateIndex.dateOf(task);
+            return taskDate != null && comparison.holds(taskDate.compareTo(date));
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            int epochDay = date.getEpochDay();
+            switch (comparison) {
+            case EQUAL:
+                return dateIndex.findTaskIds(epochDay, epochDay);
+            case LESS:
+                return dateIndex.findTaskIds(Integer.MIN_VALUE, epochDay - 1);
+            case LESS_OR_EQUAL:
+                return dateIndex.findTaskIds(Integer.MIN_VALUE, epochDay);
+            case GREATER:
+                return dateIndex.findTaskIds(epochDay + 1, Integer.MAX_VALUE);
+            default:
+                return dateIndex.findTaskIds(epochDay, Integer.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "date" + comparison.getSymbol() + date.getDate();
+        }
+    }
+
+    private static class PriorityClause extends Clause {
+        private final Comparison comparison;
+        private final Priority priority;
+
+        PriorityClause(Comparison comparison, Priority priority) {
+            requireNonNull(comparison);
+            requireNonNull(priority);
+            this.comparison = comparison;
+            this.priority = priority;
+        }
+
+        private boolean holdsFor(Priority otherPriority) {
+            // Higher priorities have lower values
+            return comparison.holds(Integer.compare(priority.getValue(), otherPriority.getValue()));
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return holdsFor(task.getPriority());
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            BitSet taskIds = new BitSet();
+            for (Priority otherPriority : Priority.values()) {
+                if (holdsFor(otherPriority)) {
+                    taskIds.or(attributeIndex.findTaskIds(null, otherPriority, null));
+                }
+            }
+            return taskIds;
+        }
+
+        @Override
+        public String toString() {
+            return "priority" + comparison.getSymbol() + priority;
+        }
+    }
+
+    private static class MarkedClause extends Clause {
+        private final boolean isMarked;
+
+        MarkedClause(boolean isMarked) {
+            this.isMarked = isMarked;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return task.isDone() == isMarked;
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            return attributeIndex.findTaskIds(null, null, isMarked);
+        }
+
+        @Override
+        public String toString() {
+            return "isMarked=" + isMarked;
+        }
+    }
+
+    private static class OverdueClause extends Clause {
+        // The date on which the query was created, which overdue tasks are dated before
+        private final Date today;
+
+        OverdueClause(Date today) {
+            requireNonNull(today);
+            this.today = today;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            Date taskDate = TaskDateIndex.dateOf(task);
+            return taskDate != null && taskDate.compareTo(today) < 0 && !task.isDone();
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            BitSet taskIds = dateIndex.findTaskIds(Integer.MIN_VALUE, today.getEpochDay() - 1);
+            taskIds.and(attributeIndex.findTaskIds(null, null, false));
+            return taskIds;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return super.equals(other) && today.equals(((OverdueClause) other).today);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(today, super.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return "overdue";
+        }
+    }
+
+    private static class AssigneeClause extends Clause {
+        private final String assignee;
+        private final int assigneeId;
+
+        AssigneeClause(String assignee, int assigneeId) {
+            requireNonNull(assignee);
+            this.assignee = assignee;
+            this.assigneeId = assigneeId;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return assigneeId != Person.UNASSIGNED_ID && task.getAssigneeIds().contains(assigneeId);
+        }
+
+        @Override
+        BitSet findTaskIds(TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+                TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+            return assigneeIndex.apply(assigneeId);
+        }
+
+        @Override
+        public TaskQuery resolveAssignees(ToIntFunction<String> assigneeIdLookup) {
+            return new AssigneeClause(assignee, assigneeIdLookup.applyAsInt(assignee));
+        }
+
+        @Override
+        public String toString() {
+            return "assignee=\"" + assignee + "\"";
+        }
+    }
+}
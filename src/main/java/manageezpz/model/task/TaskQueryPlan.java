@@ -0,0 +1,405 @@
+package manageezpz.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A plan to evaluate a {@code TaskQuery} on the tasks in a {@code UniqueTaskList}, which looks up every clause that
+ * it can in the indexes of the list, and checks the rest against each task.
+ * <p>
+ * Clauses looked up in the indexes are combined with word-wise AND, OR and NOT of their bitsets, without reading any
+ * task. The remaining clauses are checked in order of their estimated cost per task that they rule out, so that the
+ * cheapest and most selective ones are checked first and the rest are skipped as soon as the result is known.
+ * <p>
+ * The plan is compiled when it is first tested, and compiled again whenever any of the indexes has changed, so that
+ * the filtered task list stays correct when it tests the tasks again after edits.
+ */
+public class TaskQueryPlan implements Predicate<Task> {
+
+    /** Estimated fraction of the tasks matching a clause that is checked against each task. */
+    static final double SCAN_SELECTIVITY = 0.25;
+    /** Estimated cost of looking up a task in a bitset, relative to checking a clause against the task. */
+    static final double INDEX_COST = 0.1;
+    static final double SCAN_COST = 1;
+
+    private final TaskQuery query;
+    private final TaskKeywordIndex keywordIndex;
+    private final TaskDateIndex dateIndex;
+    private final TaskAttributeIndex attributeIndex;
+    private final IntFunction<BitSet> assigneeIndex;
+
+    // The compiled plan, found when the sum of the versions of the indexes was rootVersion
+    private Step root;
+    private long rootVersion;
+    private int taskCount;
+
+    /**
+     * Creates a plan that checks every clause of {@code query} against each task.
+     */
+    public TaskQueryPlan(TaskQuery query) {
+        this(query, null, null, null, null);
+    }
+
+    /**
+     * Creates a plan that looks up the clauses of {@code query} in the given indexes of the task list that it is
+     * tested on, if they are not null, where {@code assigneeIndex} finds the ids of the tasks assigned to the person
+     * with a given id.
+     */
+    public TaskQueryPlan(TaskQuery query, TaskKeywordIndex keywordIndex, TaskDateIndex dateIndex,
+            TaskAttributeIndex attributeIndex, IntFunction<BitSet> assigneeIndex) {
+        requireNonNull(query);
+        this.query = query;
+        this.keywordIndex = keywordIndex;
+        this.dateIndex = dateIndex;
+        this.attributeIndex = attributeIndex;
+        this.assigneeIndex = assigneeIndex;
+    }
+
+    public TaskQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(Task task) {
+        return getRoot().test(task);
+    }
+
+    /**
+     * Returns a description of the steps of the plan, one per line and indented under the step they are part of,
+     * with the number of tasks found by each index lookup and the estimated fraction of tasks matching each check.
+     */
+    public String explain() {
+        List<String> lines = new ArrayList<>();
+        getRoot().explain(lines, "");
+        return String.join("\n", lines);
+    }
+
+    private boolean isIndexed() {
+        return keywordIndex != null && dateIndex != null && attributeIndex != null && assigneeIndex != null;
+    }
+
+    private Step getRoot() {
+        // As versions only ever increase, their sum changes whenever any of the indexes changes. The assignees of
+        // a task only change when the task is replaced, which changes the version of the attribute index.
+        long version = isIndexed()
+                ? keywordIndex.getVersion() + dateIndex.getVersion() + attributeIndex.getVersion()
+                : 0;
+        if (root == null || rootVersion != version) {
+            taskCount = isIndexed() ? attributeIndex.findTaskIds(null, null, null).cardinality() : 0;
+            root = compile(query);
+            rootVersion = version;
+        }
+        return root;
+    }
+
+    private Step compile(TaskQuery query) {
+        if (query instanceof TaskQuery.Not) {
+            return compileNot((TaskQuery.Not) query);
+        } else if (query instanceof TaskQuery.And) {
+            return compileAnd((TaskQuery.And) query);
+        } else if (query instanceof TaskQuery.Or) {
+            return compileOr((TaskQuery.Or) query);
+        }
+
+        TaskQuery.Clause clause = (TaskQuery.Clause) query;
+        BitSet taskIds = isIndexed()
+                ? clause.findTaskIds(keywordIndex, dateIndex, attributeIndex, assigneeIndex)
+                : null;
+        return taskIds == null ? new ScanStep(clause) : new IndexStep(taskIds, clause.toString());
+    }
+
+    private Step compileNot(TaskQuery.Not not) {
+        Step operand = compile(not.getOperand());
+        if (!(operand instanceof IndexStep)) {
+            return new NotStep(operand);
+        }
+
+        BitSet taskIds = attributeIndex.findTaskIds(null, null, null);
+        taskIds.andNot(((IndexStep) operand).taskIds);
+        return new IndexStep(taskIds, "NOT " + ((IndexStep) operand).description);
+    }
+
+    private Step compileAnd(TaskQuery.And and) {
+        List<Step> operands = and.getOperands().stream().map(this::compile).collect(Collectors.toList());
+        List<IndexStep> lookups = getIndexSteps(operands);
+        List<Step> checks = new ArrayList<>(operands);
+        checks.removeAll(lookups);
+
+        if (!lookups.isEmpty()) {
+            // The smallest bitset first, so that the intersection stays as small as possible
+            lookups.sort(Comparator.comparingInt(lookup -> lookup.taskIds.cardinality()));
+            BitSet taskIds = lookups.get(0).taskIds;
+            for (IndexStep lookup : lookups.subList(1, lookups.size())) {
+                taskIds.and(lookup.taskIds);
+            }
+            checks.add(new IndexStep(taskIds, describe(lookups, " AND ")));
+        }
+
+        if (checks.size() == 1) {
+            return checks.get(0);
+        }
+        // Each check rules out a fraction of 1 - selectivity of the tasks, for its cost
+        checks.sort(Comparator.comparingDouble(check -> check.getCost() / (1 - check.getSelectivity())));
+        return new AndStep(checks);
+    }
+
+    private Step compileOr(TaskQuery.Or or) {
+        List<Step> operands = or.getOperands().stream().map(this::compile).collect(Collectors.toList());
+        List<IndexStep> lookups = getIndexSteps(operands);
+        List<Step> checks = new ArrayList<>(operands);
+        checks.removeAll(lookups);
+
+        if (!lookups.isEmpty()) {
+            BitSet taskIds = lookups.get(0).taskIds;
+            for (IndexStep lookup : lookups.subList(1, lookups.size())) {
+                taskIds.or(lookup.taskIds);
+            }
+            checks.add(new IndexStep(taskIds, describe(lookups, " OR ")));
+        }
+
+        if (checks.size() == 1) {
+            return checks.get(0);
+        }
+        // Each check rules in a fraction of selectivity of the tasks, for its cost
+        checks.sort(Comparator.comparingDouble(check -> check.getCost() / check.getSelectivity()));
+        return new OrStep(checks);
+    }
+
+    private static List<IndexStep> getIndexSteps(List<Step> steps) {
+        return steps.stream()
+                .filter(step -> step instanceof IndexStep)
+                .map(step -> (IndexStep) step)
+                .collect(Collectors.toList());
+    }
+
+    private static String describe(List<IndexStep> lookups, String operator) {
+        String description = lookups.stream().map(lookup -> lookup.description).collect(Collectors.joining(operator));
+        return lookups.size() == 1 ? description : "(" + description + ")";
+    }
+
+    private static String formatFraction(double fraction) {
+        return String.format("%.0f%%", fraction * 100);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this || (other instanceof TaskQueryPlan && query.equals(((TaskQueryPlan) other).query));
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    /**
+     * A step of the plan, which is tested on each task.
+     */
+    private abstract static class Step implements Predicate<Task> {
+
+        /** Returns the estimated fraction of tasks that pass this step. */
+        abstract double getSelectivity();
+
+        /** Returns the estimated cost of testing a task, relative to checking a clause against it. */
+        abstract double getCost();
+
+        /** Adds the lines describing this step to {@code lines}, indented by {@code indent}. */
+        abstract void explain(List<String> lines, String indent);
+    }
+
+    /**
+     * A step that looks up the task in a bitset of the ids of the tasks found in the indexes.
+     */
+    private class IndexStep extends Step {
+        private final BitSet taskIds;
+        private final String description;
+
+        IndexStep(BitSet taskIds, String description) {
+            this.taskIds = taskIds;
+            this.description = description;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return taskIds.get(task.getId());
+        }
+
+        @Override
+        double getSelectivity() {
+            return taskCount == 0 ? 0 : (double) taskIds.cardinality() / taskCount;
+        }
+
+        @Override
+        double getCost() {
+            return INDEX_COST;
+        }
+
+        @Override
+        void explain(List<String> lines, String indent) {
+            lines.add(indent + "INDEX " + description + " -> " + taskIds.cardinality() + " tasks");
+        }
+    }
+
+    /**
+     * A step that checks a clause against the task.
+     */
+    private static class ScanStep extends Step {
+        private final TaskQuery.Clause clause;
+
+        ScanStep(TaskQuery.Clause clause) {
+            this.clause = clause;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return clause.test(task);
+        }
+
+        @Override
+        double getSelectivity() {
+            return SCAN_SELECTIVITY;
+        }
+
+        @Override
+        double getCost() {
+            return SCAN_COST;
+        }
+
+        @Override
+        void explain(List<String> lines, String indent) {
+            lines.add(indent + "SCAN " + clause + " -> est. " + formatFraction(getSelectivity()) + " of tasks");
+        }
+    }
+
+    /**
+     * A step that tests the task on each of its steps in order, until one fails.
+     */
+    private static class AndStep extends Step {
+        private final List<Step> steps;
+
+        AndStep(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            for (Step step : steps) {
+                if (!step.test(task)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        double getSelectivity() {
+            return steps.stream().mapToDouble(Step::getSelectivity).reduce(1, (a, b) -> a * b);
+        }
+
+        @Override
+        double getCost() {
+            // Each step is only tested on the tasks that passed the steps before it
+            double cost = 0;
+            double passed = 1;
+            for (Step step : steps) {
+                cost += passed * step.getCost();
+                passed *= step.getSelectivity();
+            }
+            return cost;
+        }
+
+        @Override
+        void explain(List<String> lines, String indent) {
+            lines.add(indent + "AND -> est. " + formatFraction(getSelectivity()) + " of tasks");
+            steps.forEach(step -> step.explain(lines, indent + "  "));
+        }
+    }
+
+    /**
+     * A step that tests the task on each of its steps in order, until one passes.
+     */
+    private static class OrStep extends Step {
+        private final List<Step> steps;
+
+        OrStep(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            for (Step step : steps) {
+                if (step.test(task)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        double getSelectivity() {
+            return 1 - steps.stream().mapToDouble(step -> 1 - step.getSelectivity()).reduce(1, (a, b) -> a * b);
+        }
+
+        @Override
+        double getCost() {
+            // Each step is only tested on the tasks that failed the steps before it
+            double cost = 0;
+            double failed = 1;
+            for (Step step : steps) {
+                cost += failed * step.getCost();
+                failed *= 1 - step.getSelectivity();
+            }
+            return cost;
+        }
+
+        @Override
+        void explain(List<String> lines, String indent) {
+            lines.add(indent + "OR -> est. " + formatFraction(getSelectivity()) + " of tasks");
+            steps.forEach(step -> step.explain(lines, indent + "  "));
+        }
+    }
+
+    /**
+     * A step that passes the tasks that fail its step.
+     */
+    private static class NotStep extends Step {
+        private final Step step;
+
+        NotStep(Step step) {
+            this.step = step;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return !step.test(task);
+        }
+
+        @Override
+        double getSelectivity() {
+            return 1 - step.getSelectivity();
+        }
+
+        @Override
+        double getCost() {
+            return step.getCost();
+        }
+
+        @Override
+        void explain(List<String> lines, String indent) {
+            lines.add(indent + "NOT -> est. " + formatFraction(getSelectivity()) + " of tasks");
+            step.explain(lines, indent + "  ");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package manageezpz.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import manageezpz.commons.util.AppUtil;
+
+/**
+ * Tests that a {@code Task} is one of the tasks whose descriptions are the most relevant to some keywords, as ranked
+ * by the BM25 scores found in a {@code TaskKeywordIndex}.
+ * <p>
+ * The scores are looked up in the index when the predicate is first tested, and looked up again whenever the index
+ * has changed, so that the filtered task list stays correct when it tests the tasks again after edits.
+ */
+public class TaskRelevancePredicate implements Predicate<Task> {
+
+    private final List<String> keywords;
+    private final int limit;
+    private final TaskKeywordIndex keywordIndex;
+
+    // Scores of the most relevant tasks by their ids, found when the version of the index was scoresVersion
+    private Map<Integer, Double> scores;
+    private long scoresVersion;
+
+    /**
+     * Creates a predicate that tests for the {@code limit} tasks with the highest scores for {@code keywords} in
+     * {@code keywordIndex}, which must be the keyword index of the task list that it is tested on.
+     */
+    public TaskRelevancePredicate(List<String> keywords, int limit, TaskKeywordIndex keywordIndex) {
+        requireNonNull(keywords);
+        requireNonNull(keywordIndex);
+        AppUtil.checkArgument(limit > 0, "Limit must be positive");
+        this.keywords = List.copyOf(keywords);
+        this.limit = limit;
+        this.keywordIndex = keywordIndex;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the relevance of the description of {@code task} to the keywords, which is 0 if it is not one of the
+     * most relevant tasks.
+     */
+    public double getScore(Task task) {
+        if (scores == null || scoresVersion != keywordIndex.getVersion()) {
+            scores = keywordIndex.findTopTaskIds(keywords, limit);
+            scoresVersion = keywordIndex.getVersion();
+        }
+        return scores.getOrDefault(task.getId(), 0.0);
+    }
+
+    /**
+     * Returns the order of the tasks from the most relevant to the least.
+     */
+    public Comparator<Task> getRelevanceComparator() {
+        return Comparator.comparingDouble(this::getScore).reversed();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(Task task) {
+        return getScore(task) > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TaskRelevancePredicate)) {
+            return false;
+        }
+        TaskRelevancePredicate otherPredicate = (TaskRelevancePredicate) other;
+        return keywords.equals(otherPredicate.keywords) && limit == otherPredicate.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, limit);
+    }
+}
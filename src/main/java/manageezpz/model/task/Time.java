@@ -6,14 +6,29 @@ import static manageezpz.commons.util.AppUtil.checkArgument;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
-public class Time {
+import manageezpz.commons.util.Interner;
+
+/**
+ * Represents a time of day of a Task, which is held as the number of minutes since midnight, so that times can be
+ * compared and formatted without parsing text.
+ */
+public class Time implements Comparable<Time> {
     public static final String MESSAGE_CONSTRAINTS = "Time should be in the format of HHmm, "
             + "where it should only contain numbers that is 4 digits long.\n"
             + "HH should only be between 00 and 23 and mm should only be between 00 and 59.";
 
     public static final String VALIDATION_REGEX = "\\d{4}";
 
-    private String time;
+    /** Formatter used to display times, such as "6:00 PM". */
+    public static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int TIME_LENGTH = 4;
+
+    private static final Interner<Time> INTERNER = new Interner<>();
+
+    private final short minuteOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -22,7 +37,31 @@ public class Time {
     public Time(String time) {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        this.time = time;
+        this.minuteOfDay = (short) (digits(time, 0) * MINUTES_PER_HOUR + digits(time, 2));
+    }
+
+    private Time(short minuteOfDay) {
+        this.minuteOfDay = minuteOfDay;
+    }
+
+    /**
+     * Returns a {@code Time} of {@code time}, which is the same instance as other equal ones that are in use.
+     *
+     * @param time A valid time.
+     */
+    public static Time of(String time) {
+        return INTERNER.intern(new Time(time));
+    }
+
+    /**
+     * Returns a {@code Time} that is {@code minuteOfDay} minutes after midnight, which is the same instance as other
+     * equal ones that are in use.
+     *
+     * @param minuteOfDay A minute for which {@link #isValidMinuteOfDay(int)} is true.
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(isValidMinuteOfDay(minuteOfDay), MESSAGE_CONSTRAINTS);
+        return INTERNER.intern(new Time((short) minuteOfDay));
     }
 
     /**
@@ -31,17 +70,52 @@ public class Time {
      * @return true if a given string is a valid time, false otherwise.
      */
     public static boolean isValidTime(String time) {
-        return time.matches(VALIDATION_REGEX) && time.matches("([01]?[0-9]|2[0-3])[0-5][0-9]");
+        if (time.length() != TIME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < TIME_LENGTH; i++) {
+            char c = time.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return digits(time, 0) < 24 && digits(time, 2) < MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Checks if {@code minuteOfDay} is a number of minutes from midnight that is within the day.
+     */
+    public static boolean isValidMinuteOfDay(int minuteOfDay) {
+        return minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY;
     }
 
+    /**
+     * Returns the two digit number in {@code time} that starts at {@code from}.
+     */
+    private static int digits(String time, int from) {
+        return (time.charAt(from) - '0') * 10 + (time.charAt(from + 1) - '0');
+    }
+
+    /**
+     * Returns the time in the format of HHmm.
+     */
     public String getTime() {
-        return time;
+        int hour = minuteOfDay / MINUTES_PER_HOUR;
+        int minute = minuteOfDay % MINUTES_PER_HOUR;
+        return new String(new char[] {
+            (char) ('0' + hour / 10), (char) ('0' + hour % 10), (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+        });
     }
 
     public LocalTime getParsedTime() {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HHmm");
-        LocalTime parsedTime = LocalTime.parse(time, dtf);
-        return parsedTime;
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     /**
@@ -52,4 +126,32 @@ public class Time {
     public String format(DateTimeFormatter dtf) {
         return getParsedTime().format(dtf);
     }
+
+    @Override
+    public int compareTo(Time other) {
+        return Integer.compare(minuteOfDay, other.minuteOfDay);
+    }
+
+    @Override
+    public String toString() {
+        return getTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Time // instanceof handles nulls
+                && minuteOfDay == ((Time) other).minuteOfDay); // state check
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return minuteOfDay;
+    }
 }
@@ -1,11 +1,12 @@
 package manageezpz.model.task;
 
+import java.util.Collection;
+
 /**
  * A class that represents a Todo task.
  */
 public class Todo extends Task {
-    protected String type;
-    protected Description description;
+    public static final String TYPE = "todo";
 
     /**
      * Constructor to initialize an instance of Todo class with task description.
@@ -13,40 +14,46 @@ public class Todo extends Task {
      * @param taskDescription Description of the task.
      */
     public Todo(Description taskDescription) {
-        this.type = "todo";
-        this.description = taskDescription;
+        super(taskDescription);
     }
 
     /**
-     * Constructor to initialize an instance of Todo class with an existing Todo object.
+     * Constructor to initialize an instance of Todo class with all its fields.
      *
-     * @param todo Todo task.
+     * @param taskDescription Description of the task.
+     * @param id The id of the task in the task list.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assigneeIds The ids of the persons assigned to the task, in the order they were assigned.
      */
-    public Todo(Todo todo) {
-        this.type = todo.getType();
-        this.description = todo.getDescription();
-        this.isDone = todo.isDone();
-        this.priority = todo.getPriority();
-        this.assignees = todo.getAssignees();
+    public Todo(Description taskDescription, int id, boolean isDone, Priority priority,
+                Collection<Integer> assigneeIds) {
+        super(taskDescription, id, isDone, priority, assigneeIds);
     }
 
     @Override
-    public String getType() {
-        return this.type;
+    protected Todo copy(int id, boolean isDone, Priority priority, Collection<Integer> assigneeIds) {
+        return new Todo(getDescription(), id, isDone, priority, assigneeIds);
     }
 
     @Override
-    public Description getDescription() {
-        return this.description;
+    public String getType() {
+        return TYPE;
     }
 
     @Override
-    public String getDateTime() {
+    protected String formatDateTime() {
         return null;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
+    /**
+     * Returns a copy of this Todo task with the given description.
+     *
+     * @param description New description of the task.
+     * @return The Todo task with the new description.
+     */
+    public Todo withDescription(Description description) {
+        return new Todo(description, getId(), isDone(), getPriority(), getAssigneeIds());
     }
 
     /**
@@ -56,7 +63,7 @@ public class Todo extends Task {
      * description.
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString() + getDescription();
+    protected String formatString() {
+        return "[T]" + super.formatString() + getDescription();
     }
 }
@@ -3,14 +3,26 @@ package manageezpz.model.task;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import manageezpz.commons.util.PersistentList;
+import manageezpz.commons.util.TrigramIndex;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
-import manageezpz.model.task.exceptions.InvalidTaskTypeException;
 import manageezpz.model.task.exceptions.TaskNotFoundException;
 
 /**
@@ -20,6 +32,15 @@ import manageezpz.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a Task uses Task#equals(Object)
  * to ensure that the Task with exactly the same fields will be removed.
  *
+ * The list keeps indexes in step with its tasks, so that they can be looked up without scanning the list: the
+ * tasks and their positions by Description, which is their identity, the tasks by id and by assignee, with an
+ * observable count of the tasks of each person whose count has been asked for, a {@code TaskKeywordIndex} and a
+ * {@code TrigramIndex} of the words in their descriptions, a {@code TaskDateIndex}, a {@code TaskAttributeIndex},
+ * and a {@code PersistentList} from which snapshots of the list are taken.
+ *
+ * Every task in the list is given an id that is unique within the list and is kept when the task is replaced by
+ * an edited copy of it. Ids are never reused within the same list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -29,6 +50,19 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Indexes over internalList, keyed by the identity of the task, i.e. its Description
+    private final Map<Description, Task> tasksByDescription = new HashMap<>();
+    private final Map<Description, Integer> positionsByDescription = new HashMap<>();
+    private final Map<Integer, Task> tasksById = new HashMap<>();
+    private final Map<Integer, Set<Integer>> taskIdsByAssigneeId = new HashMap<>();
+    private final Map<Integer, ReadOnlyIntegerWrapper> assignmentCounts = new HashMap<>();
+    private final TaskKeywordIndex keywordIndex = new TaskKeywordIndex();
+    private final TaskDateIndex dateIndex = new TaskDateIndex();
+    private final TaskAttributeIndex attributeIndex = new TaskAttributeIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private PersistentList<Task> persistentList = PersistentList.empty();
+    private int nextId = Task.UNASSIGNED_ID + 1;
+
     /**
      * Checks if the list contains an equivalent Task as the given argument.
      * @param toCheck the task to be checked.
@@ -36,12 +70,23 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return tasksByDescription.containsKey(toCheck.getDescription());
+    }
+
+    /**
+     * Finds the task with the given id.
+     * @param id the id to look up.
+     * @return the task with the given id, or an empty Optional if there is none.
+     */
+    public Optional<Task> findById(int id) {
+        return Optional.ofNullable(tasksById.get(id));
     }
 
     /**
      * Adds a task to the list.
      * The task must not already exist in the list.
+     * The id of the task is kept if it is not used by another task in the list, otherwise a copy of the task
+     * with a new id is added instead.
      * @param toAdd the task to be added.
      */
     public void add(Task toAdd) {
@@ -49,20 +94,56 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        Task taskWithId = withId(toAdd, isFreeId(toAdd) ? toAdd.getId() : nextId);
+        internalList.add(taskWithId);
+        persistentList = persistentList.plus(taskWithId);
+        index(taskWithId, internalList.size() - 1);
+    }
+
+    /**
+     * Adds {@code tasks} to the end of the list, as a single change to the list.
+     * The tasks must not already exist in the list, nor be duplicates of each other.
+     * The ids of the tasks are kept as in {@link #add(Task)}.
+     * @param tasks the tasks to be added.
+     */
+    public void addAll(List<Task> tasks) {
+        requireAllNonNull(tasks);
+        Set<Description> descriptions = new HashSet<>();
+        for (Task task : tasks) {
+            if (contains(task) || !descriptions.add(task.getDescription())) {
+                throw new DuplicateTaskException();
+            }
+        }
+
+        List<Task> tasksWithIds = new ArrayList<>(tasks.size());
+        Set<Integer> usedIds = new HashSet<>();
+        for (Task task : tasks) {
+            boolean isIdFree = isFreeId(task) && usedIds.add(task.getId());
+            Task taskWithId = withId(task, isIdFree ? task.getId() : nextId);
+            usedIds.add(taskWithId.getId());
+            tasksWithIds.add(taskWithId);
+        }
+
+        int firstPosition = internalList.size();
+        internalList.addAll(tasksWithIds);
+        for (int i = 0; i < tasksWithIds.size(); i++) {
+            persistentList = persistentList.plus(tasksWithIds.get(i));
+            index(tasksWithIds.get(i), firstPosition + i);
+        }
     }
 
     /**
      * Replaces the task {@code target} in the list with {@code editedTask}.
      * {@code target} must exist in the list.
      * The task identity of {@code editedTask} must not be the same as another existing task in the list.
+     * The edited task takes over the id of {@code target}.
      * @param target the task to be replaced.
      * @param editedTask the new task to replace target.
      */
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -71,22 +152,102 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        Task replacedTask = internalList.get(index);
+        Task editedTaskWithId = withId(editedTask, replacedTask.getId());
+        internalList.set(index, editedTaskWithId);
+        persistentList = persistentList.with(index, editedTaskWithId);
+        unindex(replacedTask);
+        index(editedTaskWithId, index);
     }
 
     /**
-     * Updates the task with the edited person.
-     * @param toUpdate the task to be updated.
-     * @param assigneesIndex the index of the person in List of assignees.
-     * @param editedPerson the edited person.
+     * Returns the tasks in the list that are assigned to the person with the given id.
+     * @param personId the id of the assignee to look up.
+     * @return the tasks assigned to the person, in the order they were assigned.
      */
-    public void updateTaskWithEditedPerson(Task toUpdate, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(toUpdate, assigneesIndex, editedPerson);
+    public List<Task> getTasksAssignedTo(int personId) {
+        Set<Integer> assignedTaskIds = taskIdsByAssigneeId.getOrDefault(personId, Set.of());
+        List<Task> assignedTasks = new ArrayList<>(assignedTaskIds.size());
+        for (Integer taskId : assignedTaskIds) {
+            assignedTasks.add(tasksById.get(taskId));
+        }
+        return assignedTasks;
+    }
 
-        Task updatedTask = duplicateTask(toUpdate);
-        updatedTask.assignedTo(assigneesIndex, editedPerson);
+    /**
+     * Finds the ids of the tasks in the list that are assigned to the person with the given id.
+     * @param personId the id of the assignee to look up.
+     * @return a new bitset with the bits at the ids of the tasks assigned to the person set.
+     */
+    public BitSet findTaskIdsAssignedTo(int personId) {
+        BitSet taskIds = new BitSet();
+        taskIdsByAssigneeId.getOrDefault(personId, Set.of()).forEach(taskIds::set);
+        return taskIds;
+    }
 
-        setTask(toUpdate, updatedTask);
+    /**
+     * Returns the number of tasks in the list that are assigned to the person with the given id, which is kept
+     * up to date as the list changes until it is dropped by {@link #retainAssignmentCounts(IntPredicate)}.
+     * @param personId the id of the assignee to look up.
+     * @return the observable number of tasks assigned to the person.
+     */
+    public ReadOnlyIntegerProperty assignmentCountProperty(int personId) {
+        return assignmentCounts.computeIfAbsent(personId, unused -> new ReadOnlyIntegerWrapper(
+                taskIdsByAssigneeId.getOrDefault(personId, Set.of()).size())).getReadOnlyProperty();
+    }
+
+    /**
+     * Stops keeping up to date the numbers of assigned tasks of the persons whose ids fail {@code isKept}, so that
+     * the list no longer holds them.
+     * @param isKept tests if the number of tasks assigned to the person with a given id is still kept.
+     */
+    public void retainAssignmentCounts(IntPredicate isKept) {
+        requireNonNull(isKept);
+        assignmentCounts.keySet().removeIf(personId -> !isKept.test(personId));
+    }
+
+    /**
+     * Returns a snapshot of the contents of the list, which takes constant time as the list keeps one up to date.
+     * @return the tasks in the list, in order.
+     */
+    public PersistentList<Task> getSnapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Returns the index of the words in the descriptions of the tasks in the list, which is kept up to date as the
+     * list changes.
+     * @return the keyword index of the list.
+     */
+    public TaskKeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    /**
+     * Returns the sorted index of the dates of the deadlines and events in the list, which is kept up to date as the
+     * list changes.
+     * @return the date index of the list.
+     */
+    public TaskDateIndex getDateIndex() {
+        return dateIndex;
+    }
+
+    /**
+     * Returns the bitset index of the type, priority and done status of the tasks in the list, which is kept up to
+     * date as the list changes.
+     * @return the attribute index of the list.
+     */
+    public TaskAttributeIndex getAttributeIndex() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns the trigram index of the words in the descriptions of the tasks in the list, keyed by the id of each
+     * task, which is kept up to date as the list changes.
+     * @return the trigram index of the list.
+     */
+    public TrigramIndex getTrigramIndex() {
+        return trigramIndex;
     }
 
     /**
@@ -98,9 +259,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public Task markTask(Task toMark) {
         requireNonNull(toMark);
 
-        Task markedTask = duplicateTask(toMark);
-        markedTask.setTaskDone();
-
+        Task markedTask = toMark.withDone(true);
         setTask(toMark, markedTask);
 
         return markedTask;
@@ -116,9 +275,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public Task unmarkTask(Task toUnmark) {
         requireNonNull(toUnmark);
 
-        Task unmarkedTask = duplicateTask(toUnmark);
-        unmarkedTask.setTaskNotDone();
-
+        Task unmarkedTask = toUnmark.withDone(false);
         setTask(toUnmark, unmarkedTask);
 
         return unmarkedTask;
@@ -134,9 +291,7 @@ public class UniqueTaskList implements Iterable<Task> {
         requireNonNull(toTagPriority);
         requireNonNull(priority);
 
-        Task taggedPriorityTask = duplicateTask(toTagPriority);
-        taggedPriorityTask.setPriority(priority);
-
+        Task taggedPriorityTask = toTagPriority.withPriority(priority);
         setTask(toTagPriority, taggedPriorityTask);
 
         return taggedPriorityTask;
@@ -152,9 +307,7 @@ public class UniqueTaskList implements Iterable<Task> {
         requireNonNull(toTagEmployee);
         requireNonNull(person);
 
-        Task taggedEmployeeTask = duplicateTask(toTagEmployee);
-        taggedEmployeeTask.assignedTo(person);
-
+        Task taggedEmployeeTask = toTagEmployee.withAssignee(person);
         setTask(toTagEmployee, taggedEmployeeTask);
 
         return taggedEmployeeTask;
@@ -170,28 +323,12 @@ public class UniqueTaskList implements Iterable<Task> {
         requireNonNull(toUntagEmployee);
         requireNonNull(person);
 
-        Task untaggedEmployeeTask = duplicateTask(toUntagEmployee);
-        untaggedEmployeeTask.removeAssigned(person);
-
+        Task untaggedEmployeeTask = toUntagEmployee.withoutAssignee(person);
         setTask(toUntagEmployee, untaggedEmployeeTask);
 
         return untaggedEmployeeTask;
     }
 
-    private Task duplicateTask(Task task) {
-        if (task instanceof Todo) {
-            return new Todo((Todo) task);
-        } else if (task instanceof Deadline) {
-            return new Deadline((Deadline) task);
-        } else if (task instanceof Event) {
-            return new Event((Event) task);
-        } else {
-            // The else statement should not be reached since there are
-            // only three types of tasks, i.e., todo, deadline and event
-            throw new InvalidTaskTypeException();
-        }
-    }
-
     /**
      * Removes the equivalent task from the list.
      * The task must exist in the list.
@@ -199,19 +336,62 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        Task removedTask = internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        unindex(removedTask);
+
+        // Tasks after the removed task have shifted one position to the front
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByDescription.put(internalList.get(i).getDescription(), i);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * @param replacement the list to replace the current task list.
+     */
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        nextId = Math.max(nextId, replacement.nextId);
+        reindex();
+    }
+
+    /**
+     * Replaces the contents of this list with a snapshot taken earlier by {@link #getSnapshot()}, keeping the ids of
+     * the tasks in it.
+     * Only the tasks that differ between the list and the snapshot are changed in the list and the indexes, as the
+     * snapshot is compared with the list by id, skipping the parts of the two that are shared.
+     * @param snapshot the snapshot of the list to restore.
+     */
+    public void setTasks(PersistentList<Task> snapshot) {
+        requireNonNull(snapshot);
+        SnapshotChanges changes = new SnapshotChanges();
+        persistentList.diff(snapshot, Task::getId, task -> tasksById.containsKey(task.getId()), changes);
+        persistentList = snapshot;
+
+        changes.removedTasks.forEach(this::unindex);
+        for (int i = 0; i < changes.addedTasks.size(); i++) {
+            index(changes.addedTasks.get(i), changes.addedPositions.get(i));
+        }
+        // Tasks after the first added or removed task may have shifted
+        for (int i = changes.firstShiftedPosition; i < internalList.size(); i++) {
+            positionsByDescription.put(internalList.get(i).getDescription(), i);
+        }
     }
 
     /**
      * Replaces the contents of this list with {@code tasks}.
      * {@code tasks} must not contain duplicate tasks.
+     * The ids of the tasks are kept, except for tasks without an id or with an id used by an earlier task,
+     * which are replaced by copies with new ids.
      * @param tasks the content of the new list.
      */
     public void setTasks(List<Task> tasks) {
@@ -220,7 +400,21 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+
+        Set<Integer> usedIds = new HashSet<>();
+        List<Task> tasksWithIds = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Task taskWithId = task.hasId() && usedIds.add(task.getId()) ? task : withId(task, nextId);
+            usedIds.add(taskWithId.getId());
+            tasksWithIds.add(taskWithId);
+        }
+
+        internalList.setAll(tasksWithIds);
+        persistentList = PersistentList.of(tasksWithIds);
+        reindex();
     }
 
     /**
@@ -258,16 +452,145 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique Task.
+     * Returns the position of the task in the backing list that is equal to {@code task},
+     * or -1 if there is no such task.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
+    private int positionOf(Task task) {
+        Integer position = positionsByDescription.get(task.getDescription());
+        if (position == null || !internalList.get(position).equals(task)) {
+            return -1;
+        }
+        return position;
+    }
+
+    private boolean isFreeId(Task task) {
+        return task.hasId() && !tasksById.containsKey(task.getId());
+    }
+
+    /**
+     * Returns {@code task}, or a copy of it, with the given {@code id}, and makes sure that {@code id} will not be
+     * given out again.
+     */
+    private Task withId(Task task, int id) {
+        nextId = Math.max(nextId, id + 1);
+        return task.withId(id);
+    }
+
+    /**
+     * Adds {@code task}, which is found at {@code position} of the backing list, to the indexes.
+     */
+    private void index(Task task, int position) {
+        tasksById.put(task.getId(), task);
+        tasksByDescription.put(task.getDescription(), task);
+        positionsByDescription.put(task.getDescription(), position);
+        keywordIndex.add(task);
+        dateIndex.add(task);
+        attributeIndex.add(task);
+        trigramIndex.add(task.getId(), task.getDescription().toString());
+        for (Integer assigneeId : task.getAssigneeIds()) {
+            Set<Integer> assignedTaskIds = taskIdsByAssigneeId.computeIfAbsent(assigneeId,
+                    unused -> new LinkedHashSet<>());
+            assignedTaskIds.add(task.getId());
+            updateAssignmentCount(assigneeId, assignedTaskIds.size());
+        }
+    }
+
+    /**
+     * Removes {@code task}, which must be the instance held in the backing list, from the indexes.
+     */
+    private void unindex(Task task) {
+        tasksById.remove(task.getId());
+        tasksByDescription.remove(task.getDescription());
+        positionsByDescription.remove(task.getDescription());
+        keywordIndex.remove(task);
+        dateIndex.remove(task);
+        attributeIndex.remove(task);
+        trigramIndex.remove(task.getId(), task.getDescription().toString());
+        for (Integer assigneeId : task.getAssigneeIds()) {
+            Set<Integer> assignedTaskIds = taskIdsByAssigneeId.get(assigneeId);
+            if (assignedTaskIds != null && assignedTaskIds.remove(task.getId())) {
+                updateAssignmentCount(assigneeId, assignedTaskIds.size());
+                if (assignedTaskIds.isEmpty()) {
+                    taskIdsByAssigneeId.remove(assigneeId);
                 }
             }
         }
+    }
+
+    /**
+     * Rebuilds the indexes from the backing list.
+     */
+    private void reindex() {
+        tasksById.clear();
+        tasksByDescription.clear();
+        positionsByDescription.clear();
+        taskIdsByAssigneeId.clear();
+        keywordIndex.clear();
+        dateIndex.clear();
+        attributeIndex.clear();
+        trigramIndex.clear();
+        // The counts are reset instead of cleared, as they may be observed
+        assignmentCounts.values().forEach(count -> count.set(0));
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Sets the number of tasks assigned to the person with the given id, if it is kept.
+     */
+    private void updateAssignmentCount(int personId, int count) {
+        ReadOnlyIntegerWrapper assignmentCount = assignmentCounts.get(personId);
+        if (assignmentCount != null) {
+            assignmentCount.set(count);
+        }
+    }
+
+    /**
+     * Applies the changes from the list to a snapshot to the backing list, and keeps the tasks to be removed from and
+     * added to the indexes, which are changed only once all of them are known, as a task may be added before another
+     * task of the same description is removed.
+     */
+    private class SnapshotChanges implements PersistentList.ChangeHandler<Task> {
+        private final List<Task> removedTasks = new ArrayList<>();
+        private final List<Task> addedTasks = new ArrayList<>();
+        private final List<Integer> addedPositions = new ArrayList<>();
+        private int firstShiftedPosition = Integer.MAX_VALUE;
+
+        @Override
+        public void inserted(int index, Task task) {
+            internalList.add(index, task);
+            addedTasks.add(task);
+            addedPositions.add(index);
+            firstShiftedPosition = Math.min(firstShiftedPosition, index);
+        }
+
+        @Override
+        public void removed(int index, Task task) {
+            internalList.remove(index);
+            removedTasks.add(task);
+            firstShiftedPosition = Math.min(firstShiftedPosition, index);
+        }
+
+        @Override
+        public void replaced(int index, Task oldTask, Task newTask) {
+            internalList.set(index, newTask);
+            removedTasks.add(oldTask);
+            addedTasks.add(newTask);
+            addedPositions.add(index);
+        }
+    }
+
+    /**
+     * Returns true if {@code tasks} contains only unique Task.
+     */
+    private boolean tasksAreUnique(List<Task> tasks) {
+        Set<Description> descriptions = new HashSet<>();
+        for (Task task : tasks) {
+            if (!descriptions.add(task.getDescription())) {
+                return false;
+            }
+        }
         return true;
     }
 }
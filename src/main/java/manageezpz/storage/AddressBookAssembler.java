@@ -0,0 +1,136 @@
+package manageezpz.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Task;
+
+/**
+ * Builds an {@code AddressBook} from persons and tasks that are loaded one at a time, checking that there are no
+ * duplicates among them in constant time per person or task.
+ * All persons are added before the tasks, so that the assignees of each task can be looked up by id.
+ */
+class AddressBookAssembler {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_TASKS = "Tasks list contains duplicate task(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate id(s).";
+    public static final String MESSAGE_DUPLICATE_TASK_ID = "Tasks list contains duplicate id(s).";
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Integer> personIds = new HashSet<>();
+    private final Set<Name> names = new HashSet<>();
+    private final Set<Email> emails = new HashSet<>();
+    private final Set<Phone> phones = new HashSet<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private final Set<Integer> taskIds = new HashSet<>();
+    private final Set<Description> descriptions = new HashSet<>();
+    private boolean isPersonsSet;
+    private boolean isMissingIds;
+    private long journalSequence;
+
+    /**
+     * Adds {@code person} to the address book.
+     *
+     * @throws IllegalValueException if the person or its id is already in the address book.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        assert !isPersonsSet : "Persons must be added before tasks";
+        // Persons with the same name, email or phone are the same person, as in Person#isSamePerson
+        if (names.contains(person.getName()) || emails.contains(person.getEmail())
+                || phones.contains(person.getPhone())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (person.hasId() && !personIds.add(person.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        isMissingIds |= !person.hasId();
+        names.add(person.getName());
+        emails.add(person.getEmail());
+        phones.add(person.getPhone());
+        persons.add(person);
+    }
+
+    /**
+     * Returns the address book with the persons added so far, against which the assignees of tasks are looked up.
+     * No more persons can be added after this is called.
+     */
+    public AddressBook getAddressBook() {
+        if (!isPersonsSet) {
+            // Set together, so that persons from older files are not given ids that are used later in the file
+            addressBook.setPersons(persons);
+            persons.clear();
+            isPersonsSet = true;
+        }
+        return addressBook;
+    }
+
+    /**
+     * Adds {@code task} to the address book.
+     *
+     * @throws IllegalValueException if the task or its id is already in the address book.
+     */
+    public void addTask(Task task) throws IllegalValueException {
+        if (descriptions.contains(task.getDescription())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASKS);
+        }
+        if (task.hasId() && !taskIds.add(task.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK_ID);
+        }
+        isMissingIds |= !task.hasId();
+        descriptions.add(task.getDescription());
+        tasks.add(task);
+    }
+
+    /**
+     * Adds {@code tasks} to the address book, in order.
+     *
+     * @throws IllegalValueException if any of the tasks or their ids is already in the address book.
+     */
+    public void addTasks(List<Task> tasks) throws IllegalValueException {
+        for (Task task : tasks) {
+            addTask(task);
+        }
+    }
+
+    /**
+     * Returns the address book with all the persons and tasks added.
+     */
+    public AddressBook build() {
+        AddressBook builtAddressBook = getAddressBook();
+        builtAddressBook.setTasks(tasks);
+        tasks.clear();
+        return builtAddressBook;
+    }
+
+    /**
+     * Returns true if any person or task was added without an id, as in files saved before ids were introduced.
+     */
+    public boolean isMissingIds() {
+        return isMissingIds;
+    }
+
+    /**
+     * Records that the loaded file includes the journal entries up to {@code journalSequence}.
+     */
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry that the loaded file includes, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+}
@@ -0,0 +1,92 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import manageezpz.commons.core.AddressBookFormat;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the formats in {@link AddressBookFormat}.
+ * <p>
+ * Can be run from the command line with the source file, the target file and the target format, e.g.
+ * {@code java manageezpz.storage.AddressBookConverter data/addressbook.json data/addressbook.bin BINARY}.
+ */
+public class AddressBookConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookConverter SOURCE_FILE TARGET_FILE JSON|BINARY";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Address book file %s not found";
+
+    private AddressBookConverter() {}
+
+    /**
+     * Returns the storage of the address book at {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JournaledAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown address book format " + format);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code source}, which may be in any format, and writes it to {@code target} in the
+     * given {@code format}.
+     *
+     * @throws DataConversionException if the source file is not in the correct format.
+     * @throws IOException if the source file does not exist or the target file cannot be written.
+     */
+    public static void convert(Path source, Path target, AddressBookFormat format)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(format);
+
+        // Binary storage reads files of either format
+        AddressBookStorage sourceStorage = new BinaryAddressBookStorage(source);
+        Optional<ReadOnlyAddressBook> addressBook = sourceStorage.readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, source));
+        }
+
+        AddressBookStorage targetStorage = createStorage(target, format);
+        try {
+            targetStorage.saveAddressBook(addressBook.get());
+        } finally {
+            targetStorage.close();
+        }
+    }
+
+    /**
+     * Converts the address book file given on the command line.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            AddressBookFormat format = AddressBookFormat.valueOf(args[2].toUpperCase());
+            convert(Paths.get(args[0]), Paths.get(args[1]), format);
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
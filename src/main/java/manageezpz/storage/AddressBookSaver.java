@@ -0,0 +1,159 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a background thread.
+ * <p>
+ * Each save takes a snapshot of the address book, which shares its persons and tasks without rebuilding any indexes, so
+ * that it can keep changing while the snapshot is written. Saves that are requested while a write is in progress are
+ * coalesced, so that only the latest snapshot is written once it finishes.
+ */
+public class AddressBookSaver {
+
+    public static final String MESSAGE_SAVING = "Saving...";
+    public static final String MESSAGE_SAVED = "Saved at %s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data to file: ";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+    private static final DateTimeFormatter SAVED_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The latest copy of the address book that has yet to be written, if any
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriting;
+    private Consumer<String> statusListener = status -> {};
+
+    public AddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the listener that is told of the status of the saves, such as when a save fails.
+     * The listener is called from the background thread.
+     */
+    public void setStatusListener(Consumer<String> statusListener) {
+        requireNonNull(statusListener);
+        this.statusListener = statusListener;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} in the background.
+     * @param addressBook the address book to be saved.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook copy = addressBook.getSnapshot();
+
+        boolean isWriteNeeded;
+        synchronized (this) {
+            pendingAddressBook = copy;
+            isWriteNeeded = !isWriting;
+            isWriting = true;
+        }
+        if (isWriteNeeded) {
+            statusListener.accept(MESSAGE_SAVING);
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the pending address books until there are none left.
+     * When a write fails and no newer address book is pending, the failed one is kept for the next save or flush.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook = takePending();
+        while (addressBook != null) {
+            addressBook = write(addressBook) ? takePending() : takePendingOrKeep(addressBook);
+        }
+    }
+
+    private synchronized ReadOnlyAddressBook takePending() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook;
+        pendingAddressBook = null;
+        if (addressBook == null) {
+            isWriting = false;
+            notifyAll();
+        }
+        return addressBook;
+    }
+
+    private synchronized ReadOnlyAddressBook takePendingOrKeep(ReadOnlyAddressBook failedAddressBook) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = failedAddressBook;
+            isWriting = false;
+            notifyAll();
+            return null;
+        }
+        return takePending();
+    }
+
+    /**
+     * Writes {@code addressBook} to storage and reports the outcome.
+     * @return true if the address book was written.
+     */
+    private boolean write(ReadOnlyAddressBook addressBook) {
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save address book: " + e);
+            statusListener.accept(MESSAGE_SAVE_FAILED + e);
+            return false;
+        }
+        statusListener.accept(String.format(MESSAGE_SAVED, LocalTime.now().format(SAVED_TIME_FORMATTER)));
+        return true;
+    }
+
+    /**
+     * Waits for the saves in progress to be written, and retries writing the address book of the last failed save,
+     * if any.
+     * @return true if every save has been written, false if the address book could not be written.
+     */
+    public synchronized boolean flush() {
+        try {
+            awaitWrites();
+            if (pendingAddressBook != null) {
+                isWriting = true;
+                writer.execute(this::writePending);
+                awaitWrites();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return pendingAddressBook == null;
+    }
+
+    private void awaitWrites() throws InterruptedException {
+        while (isWriting) {
+            wait();
+        }
+    }
+
+    /**
+     * Flushes the saves and stops the background thread.
+     * @return true if every save has been written, false if the address book could not be written.
+     */
+    public boolean close() {
+        boolean isFlushed = flush();
+        writer.shutdown();
+        return isFlushed;
+    }
+}
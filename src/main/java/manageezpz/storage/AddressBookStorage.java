@@ -43,4 +43,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Finishes any writes that are still in progress in the background, and releases the resources of the storage.
+     * Does nothing by default.
+     */
+    default void close() {}
+
 }
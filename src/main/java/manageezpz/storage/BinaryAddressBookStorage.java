@@ -0,0 +1,470 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.Time;
+import manageezpz.model.task.Todo;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, which loads much faster than json
+ * for large address books.
+ * <p>
+ * The snapshot is laid out as follows, with all numbers in big-endian order:
+ * <ul>
+ *     <li>a header of the {@link #MAGIC} number and the {@link #FORMAT_VERSION},</li>
+ *     <li>a string table holding each distinct name, phone, email and description once, as its UTF-8 length
+ *     followed by its UTF-8 bytes,</li>
+ *     <li>the persons, as fixed-width records of their id and the string table indexes of their fields,</li>
+ *     <li>the tasks, as fixed-width records of their id, type, status, priority, the string table index of their
+ *     description, their date as an epoch day, their times as minutes of the day, and the range of their assignees
+ *     in the assignee table,</li>
+ *     <li>the assignee table, holding the person ids that tasks are assigned to.</li>
+ * </ul>
+ * Files that are not binary snapshots are read as json, so that an address book can be switched to this format by
+ * changing the format in the user preferences.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary snapshot, which spell "MEZP". */
+    public static final int MAGIC = 0x4D455A50;
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary address book!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported!";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Binary address book refers to a missing string!";
+    public static final String MESSAGE_INVALID_TASK_TYPE = "Binary address book contains an unknown task type!";
+    public static final String MESSAGE_INVALID_PRIORITY = "Binary address book contains an unknown priority!";
+    public static final String MESSAGE_TRUNCATED = "Binary address book is truncated!";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final byte TYPE_TODO = 0;
+    private static final byte TYPE_DEADLINE = 1;
+    private static final byte TYPE_EVENT = 2;
+    private static final byte STATUS_DONE = 1;
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file that is not a binary snapshot is read as a json address book, along with its journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                logger.info("Reading " + filePath + " as json, as it is not a binary address book");
+                JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+                Optional<ReadOnlyAddressBook> addressBook = jsonStorage.readAddressBook();
+                jsonStorage.close();
+                return addressBook;
+            }
+
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            read(filePath, assembler);
+            return Optional.of(assembler.build());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Any journal left from when the file was a json address book is deleted, as it no longer applies.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        write(addressBook, filePath);
+        JournaledAddressBookStorage.deleteJournals(filePath);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the {@link #MAGIC} number of binary snapshots.
+     * Returns false if the file does not exist.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = new byte[Integer.BYTES];
+            return in.readNBytes(header, 0, header.length) == header.length
+                    && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads the binary snapshot at {@code filePath} into {@code assembler}.
+     * The file is mapped into memory rather than read into the heap.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a valid binary snapshot.
+     */
+    static void read(Path filePath, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            readHeader(buffer);
+            String[] strings = readStrings(buffer);
+            readPersons(buffer, strings, assembler);
+            readTasks(buffer, strings, assembler);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            // Counts and offsets read from a truncated or corrupted file may point outside of it
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    private static void readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static void readPersons(ByteBuffer buffer, String[] strings, AddressBookAssembler assembler)
+            throws IllegalValueException {
+        int personCount = buffer.getInt();
+        for (int i = 0; i < personCount; i++) {
+            int id = buffer.getInt();
+            String name = stringAt(strings, buffer.getInt());
+            String phone = stringAt(strings, buffer.getInt());
+            String email = stringAt(strings, buffer.getInt());
+            assembler.addPerson(toPerson(id, name, phone, email));
+        }
+    }
+
+    private static Person toPerson(int id, String name, String phone, String email) throws IllegalValueException {
+        if (id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(JsonAdaptedPerson.INVALID_ID_MESSAGE);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), id);
+    }
+
+    private static void readTasks(ByteBuffer buffer, String[] strings, AddressBookAssembler assembler)
+            throws IllegalValueException {
+        int taskCount = buffer.getInt();
+        // The assignee table comes after the task records, which are of a fixed width
+        ByteBuffer assigneeTable = buffer.duplicate();
+        assigneeTable.position(buffer.position() + taskCount * TaskRecord.WIDTH);
+        int[] assigneeIds = new int[assigneeTable.getInt()];
+        assigneeTable.asIntBuffer().get(assigneeIds);
+
+        AddressBook addressBook = assembler.getAddressBook();
+        for (int i = 0; i < taskCount; i++) {
+            TaskRecord taskRecord = TaskRecord.read(buffer);
+            Set<Integer> taskAssigneeIds = new LinkedHashSet<>();
+            for (int j = 0; j < taskRecord.assigneeCount; j++) {
+                int assigneeId = assigneeIds[taskRecord.assigneeOffset + j];
+                // Persons that no longer exist are dropped, as in json files
+                if (addressBook.findById(assigneeId).isPresent()) {
+                    taskAssigneeIds.add(assigneeId);
+                }
+            }
+            assembler.addTask(taskRecord.toTask(strings, taskAssigneeIds));
+        }
+    }
+
+    private static String stringAt(String[] strings, int index) throws IllegalValueException {
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+        }
+        return strings[index];
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} as a binary snapshot, replacing the file only once it has been
+     * completely written.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        StringTable strings = new StringTable();
+        for (Person person : addressBook.getPersonList()) {
+            strings.add(person.getName().fullName);
+            strings.add(person.getPhone().value);
+            strings.add(person.getEmail().value);
+        }
+        for (Task task : addressBook.getTaskList()) {
+            strings.add(task.getDescription().toString());
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeShort(FORMAT_VERSION);
+            strings.writeTo(data);
+            writePersons(addressBook.getPersonList(), strings, data);
+            writeTasks(addressBook.getTaskList(), strings, data);
+            data.flush();
+        });
+    }
+
+    private static void writePersons(List<Person> persons, StringTable strings, DataOutputStream data)
+            throws IOException {
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            data.writeInt(person.getId());
+            data.writeInt(strings.indexOf(person.getName().fullName));
+            data.writeInt(strings.indexOf(person.getPhone().value));
+            data.writeInt(strings.indexOf(person.getEmail().value));
+        }
+    }
+
+    private static void writeTasks(List<Task> tasks, StringTable strings, DataOutputStream data) throws IOException {
+        data.writeInt(tasks.size());
+        int assigneeOffset = 0;
+        for (Task task : tasks) {
+            TaskRecord.of(task, strings, assigneeOffset).writeTo(data);
+            assigneeOffset += task.getAssigneeIds().size();
+        }
+
+        data.writeInt(assigneeOffset);
+        for (Task task : tasks) {
+            for (int assigneeId : task.getAssigneeIds()) {
+                data.writeInt(assigneeId);
+            }
+        }
+    }
+
+    /**
+     * The distinct strings of an address book, each of which is written once and referred to by its index.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        void add(String string) {
+            if (!indexes.containsKey(string)) {
+                indexes.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+
+        void writeTo(DataOutputStream data) throws IOException {
+            data.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * The fixed-width record of a task.
+     */
+    private static class TaskRecord {
+        /** Number of bytes taken by each record. */
+        static final int WIDTH = 28;
+
+        private int id;
+        private byte type;
+        private byte status;
+        private byte priority;
+        private int descriptionIndex;
+        private long epochDay;
+        private short startMinute;
+        private short endMinute;
+        private int assigneeOffset;
+        private int assigneeCount;
+
+        static TaskRecord of(Task task, StringTable strings, int assigneeOffset) {
+            TaskRecord taskRecord = new TaskRecord();
+            taskRecord.id = task.getId();
+            taskRecord.status = task.isDone() ? STATUS_DONE : 0;
+            taskRecord.priority = (byte) task.getPriority().ordinal();
+            taskRecord.descriptionIndex = strings.indexOf(task.getDescription().toString());
+            taskRecord.assigneeOffset = assigneeOffset;
+            taskRecord.assigneeCount = task.getAssigneeIds().size();
+            if (task instanceof Deadline) {
+                Deadline deadline = (Deadline) task;
+                taskRecord.type = TYPE_DEADLINE;
+                taskRecord.epochDay = deadline.getDate().getEpochDay();
+                taskRecord.startMinute = (short) deadline.getTime().getMinuteOfDay();
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                taskRecord.type = TYPE_EVENT;
+                taskRecord.epochDay = event.getDate().getEpochDay();
+                taskRecord.startMinute = (short) event.getStartTime().getMinuteOfDay();
+                taskRecord.endMinute = (short) event.getEndTime().getMinuteOfDay();
+            } else {
+                taskRecord.type = TYPE_TODO;
+            }
+            return taskRecord;
+        }
+
+        static TaskRecord read(ByteBuffer buffer) {
+            TaskRecord taskRecord = new TaskRecord();
+            taskRecord.id = buffer.getInt();
+            taskRecord.type = buffer.get();
+            taskRecord.status = buffer.get();
+            taskRecord.priority = buffer.get();
+            buffer.get(); // padding
+            taskRecord.descriptionIndex = buffer.getInt();
+            taskRecord.epochDay = buffer.getInt();
+            taskRecord.startMinute = buffer.getShort();
+            taskRecord.endMinute = buffer.getShort();
+            taskRecord.assigneeOffset = buffer.getInt();
+            taskRecord.assigneeCount = buffer.getInt();
+            return taskRecord;
+        }
+
+        void writeTo(DataOutputStream data) throws IOException {
+            data.writeInt(id);
+            data.writeByte(type);
+            data.writeByte(status);
+            data.writeByte(priority);
+            data.writeByte(0); // padding
+            data.writeInt(descriptionIndex);
+            data.writeInt((int) epochDay);
+            data.writeShort(startMinute);
+            data.writeShort(endMinute);
+            data.writeInt(assigneeOffset);
+            data.writeInt(assigneeCount);
+        }
+
+        Task toTask(String[] strings, Set<Integer> assigneeIds) throws IllegalValueException {
+            if (id <= Task.UNASSIGNED_ID) {
+                throw new IllegalValueException(JsonAdaptedTask.INVALID_ID_MESSAGE_FORMAT);
+            }
+            String description = stringAt(strings, descriptionIndex);
+            if (!Description.isValidDescription(description)) {
+                throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+            }
+            if (priority < 0 || priority >= Priority.values().length) {
+                throw new IllegalValueException(MESSAGE_INVALID_PRIORITY);
+            }
+
+            boolean isDone = status == STATUS_DONE;
+            Priority taskPriority = Priority.values()[priority];
+            switch (type) {
+            case TYPE_TODO:
+                return new Todo(new Description(description), id, isDone, taskPriority, assigneeIds);
+            case TYPE_DEADLINE:
+                return new Deadline(new Description(description), toDate(epochDay), toTime(startMinute), id, isDone,
+                        taskPriority, assigneeIds);
+            case TYPE_EVENT:
+                return new Event(new Description(description), toDate(epochDay), toTime(startMinute),
+                        toTime(endMinute), id, isDone, taskPriority, assigneeIds);
+            default:
+                throw new IllegalValueException(MESSAGE_INVALID_TASK_TYPE);
+            }
+        }
+
+        private static Date toDate(long epochDay) throws IllegalValueException {
+            if (!Date.isValidEpochDay(epochDay)) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            return Date.ofEpochDay(epochDay);
+        }
+
+        private static Time toTime(short minuteOfDay) throws IllegalValueException {
+            if (!Time.isValidMinuteOfDay(minuteOfDay)) {
+                throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+            }
+            return Time.ofMinuteOfDay(minuteOfDay);
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with an append-only journal on the hard disk.
+ * <p>
+ * Instead of rewriting the whole snapshot on every save, only the persons and tasks that were added, changed or
+ * removed since the last save are appended to the journal as a single line, which is prefixed with its CRC32
+ * checksum. On reading, the journal is replayed on top of the snapshot, up to the first line that is incomplete or
+ * does not match its checksum. Once the journal grows past a size threshold, it is compacted into a new snapshot
+ * in the background.
+ * <p>
+ * Entries are numbered, and each snapshot records the number of the last entry that it includes, so that entries
+ * left over from a compaction that was interrupted are not replayed again. Changes that could not be replayed one
+ * person or task at a time, such as two persons swapping their names, are saved as a new snapshot instead.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Size of the journal in bytes beyond which it is compacted into the snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String COMPACTING_JOURNAL_EXTENSION = ".journal.old";
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path compactingJournalPath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The persons and tasks as of the last read or save, by id, or null if the snapshot has to be rewritten
+    private Map<Integer, Person> savedPersons;
+    private Map<Integer, Task> savedTasks;
+    // Sequence number of the last journal entry written or read
+    private long journalSequence;
+    private Future<?> compaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it is larger than
+     * {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = siblingOf(filePath, JOURNAL_EXTENSION);
+        this.compactingJournalPath = siblingOf(filePath, COMPACTING_JOURNAL_EXTENSION);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    private static Path siblingOf(Path filePath, String extension) {
+        return filePath.resolveSibling(filePath.getFileName() + extension);
+    }
+
+    /**
+     * Deletes the journals of the address book at {@code filePath}, if any, such as when the address book is
+     * rewritten in a format that is not journaled.
+     */
+    public static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(siblingOf(filePath, COMPACTING_JOURNAL_EXTENSION));
+        Files.deleteIfExists(siblingOf(filePath, JOURNAL_EXTENSION));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal of the address book.
+     */
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the file path of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        boolean isJournaled = filePath.equals(this.filePath);
+        if (isJournaled) {
+            awaitCompaction();
+            forgetSavedState();
+        }
+
+        boolean hasSnapshot = Files.exists(filePath);
+        boolean hasJournal = isJournaled && (Files.exists(compactingJournalPath) || Files.exists(journalPath));
+        if (!hasSnapshot && !hasJournal) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        AddressBook addressBook;
+        boolean isBinarySnapshot = false;
+        long lastSequence;
+        try {
+            isBinarySnapshot = hasSnapshot && BinaryAddressBookStorage.isBinaryFile(filePath);
+            if (isBinarySnapshot) {
+                logger.info("Reading binary address book " + filePath + ", which will be rewritten as json");
+                BinaryAddressBookStorage.read(filePath, assembler);
+            } else if (hasSnapshot) {
+                JsonAddressBookStreams.read(filePath, assembler);
+            }
+            addressBook = assembler.build();
+            lastSequence = assembler.getJournalSequence();
+            if (isJournaled) {
+                lastSequence = replay(compactingJournalPath, addressBook, lastSequence);
+                lastSequence = replay(journalPath, addressBook, lastSequence);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        // Ids given on loading an old snapshot are only kept once the snapshot is rewritten with them, and binary
+        // snapshots are rewritten as json
+        if (isJournaled) {
+            journalSequence = lastSequence;
+        }
+        if (isJournaled && !assembler.isMissingIds() && !isBinarySnapshot) {
+            rememberSavedState(addressBook);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than the file path of this storage writes a plain json file without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookStreams.write(addressBook, filePath, false);
+            return;
+        }
+
+        if (compaction != null && compaction.isDone() && !awaitCompaction()) {
+            forgetSavedState();
+        }
+
+        Optional<JsonAdaptedJournalEntry> entry = savedPersons == null
+                ? Optional.empty()
+                : diff(addressBook);
+        if (!entry.isPresent()) {
+            writeSnapshot(addressBook);
+        } else if (!entry.get().isEmpty()) {
+            append(entry.get());
+            journalSequence = entry.get().getSequence();
+            rememberSavedState(addressBook);
+            if (Files.size(journalPath) > compactionThreshold && !isCompacting()) {
+                compact(addressBook);
+            }
+        }
+    }
+
+    //// journal
+
+    /**
+     * Returns the changes from the last saved state to {@code addressBook}, or an empty Optional if the changes
+     * cannot be expressed as a journal entry, such as when persons or tasks were reordered, or when replaying them
+     * one at a time would give two persons or two tasks the same identity along the way.
+     */
+    private Optional<JsonAdaptedJournalEntry> diff(ReadOnlyAddressBook addressBook) {
+        Map<Integer, Person> persons = byId(addressBook.getPersonList(), Person::getId);
+        Map<Integer, Task> tasks = byId(addressBook.getTaskList(), Task::getId);
+        if (!isReplayableOrder(savedPersons, persons) || !isReplayableOrder(savedTasks, tasks)) {
+            return Optional.empty();
+        }
+
+        List<Person> changedPersons = findChanged(savedPersons, persons);
+        List<Integer> removedPersonIds = findRemoved(savedPersons, persons);
+        List<Task> changedTasks = findChanged(savedTasks, tasks);
+        List<Integer> removedTaskIds = findRemoved(savedTasks, tasks);
+        Function<Person, List<Object>> personKeys = JournaledAddressBookStorage::identityOf;
+        Function<Task, List<Object>> taskKeys = JournaledAddressBookStorage::identityOf;
+        if (hasIdentityClash(savedPersons, changedPersons, removedPersonIds, Person::getId, personKeys)
+                || hasIdentityClash(savedTasks, changedTasks, removedTaskIds, Task::getId, taskKeys)) {
+            return Optional.empty();
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(journalSequence + 1);
+        changedPersons.forEach(entry::addPerson);
+        removedPersonIds.forEach(entry::removePerson);
+        changedTasks.forEach(entry::addTask);
+        removedTaskIds.forEach(entry::removeTask);
+        return Optional.of(entry);
+    }
+
+    /**
+     * Returns the elements of {@code current} that were added or changed since {@code saved}, in order.
+     */
+    private static <T> List<T> findChanged(Map<Integer, T> saved, Map<Integer, T> current) {
+        // Persons and tasks are replaced rather than modified, so a changed one is a different instance
+        List<T> changed = new ArrayList<>();
+        for (Map.Entry<Integer, T> element : current.entrySet()) {
+            if (saved.get(element.getKey()) != element.getValue()) {
+                changed.add(element.getValue());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the ids of the elements of {@code saved} that are no longer in {@code current}.
+     */
+    private static <T> List<Integer> findRemoved(Map<Integer, T> saved, Map<Integer, T> current) {
+        List<Integer> removedIds = new ArrayList<>();
+        for (Integer id : saved.keySet()) {
+            if (!current.containsKey(id)) {
+                removedIds.add(id);
+            }
+        }
+        return removedIds;
+    }
+
+    /**
+     * Returns true if replaying the removal of {@code removedIds} and then the changes to {@code changed} one at a
+     * time on top of {@code saved}, as {@code JsonAdaptedJournalEntry#applyTo} does, would at some point give two
+     * elements a common identity key, which the address book rejects as a duplicate.
+     */
+    private static <T> boolean hasIdentityClash(Map<Integer, T> saved, List<T> changed, List<Integer> removedIds,
+            ToIntFunction<T> idOf, Function<T, List<Object>> keysOf) {
+        if (changed.isEmpty()) {
+            return false;
+        }
+
+        Map<Object, Integer> idsByKey = new HashMap<>();
+        saved.forEach((id, element) -> keysOf.apply(element).forEach(key -> idsByKey.put(key, id)));
+        for (Integer id : removedIds) {
+            keysOf.apply(saved.get(id)).forEach(key -> idsByKey.remove(key, id));
+        }
+        for (T element : changed) {
+            int id = idOf.applyAsInt(element);
+            T savedElement = saved.get(id);
+            if (savedElement != null) {
+                keysOf.apply(savedElement).forEach(key -> idsByKey.remove(key, id));
+            }
+            for (Object key : keysOf.apply(element)) {
+                Integer otherId = idsByKey.putIfAbsent(key, id);
+                if (otherId != null && otherId != id) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keys of which any one in common makes two persons the same, as in {@code Person#isSamePerson}.
+     */
+    private static List<Object> identityOf(Person person) {
+        return List.of(person.getName(), person.getEmail(), person.getPhone());
+    }
+
+    /**
+     * Returns the keys of which any one in common makes two tasks the same, as in {@code Task#isSameTask}.
+     */
+    private static List<Object> identityOf(Task task) {
+        return List.of(task.getDescription());
+    }
+
+    /**
+     * Returns true if replaying the changes from {@code saved} to {@code current} gives the order of
+     * {@code current}, which is the case when the elements that are kept are in the same order, and the new elements
+     * come after them.
+     */
+    private static <T> boolean isReplayableOrder(Map<Integer, T> saved, Map<Integer, T> current) {
+        Iterator<Integer> currentIds = current.keySet().iterator();
+        for (Integer savedId : saved.keySet()) {
+            if (current.containsKey(savedId) && !savedId.equals(currentIds.next())) {
+                return false;
+            }
+        }
+        while (currentIds.hasNext()) {
+            if (saved.containsKey(currentIds.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> Map<Integer, T> byId(List<T> elements, ToIntFunction<T> idOf) {
+        Map<Integer, T> elementsById = new LinkedHashMap<>();
+        for (T element : elements) {
+            elementsById.put(idOf.applyAsInt(element), element);
+        }
+        return elementsById;
+    }
+
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedPersons = byId(addressBook.getPersonList(), Person::getId);
+        savedTasks = byId(addressBook.getTaskList(), Task::getId);
+    }
+
+    private void forgetSavedState() {
+        savedPersons = null;
+        savedTasks = null;
+    }
+
+    /**
+     * Appends {@code entry} to the journal as a line made up of its checksum and its compact json.
+     */
+    private void append(JsonAdaptedJournalEntry entry) throws IOException {
+        String json = JsonUtil.toCompactJsonString(entry);
+        String line = checksumOf(json) + " " + json + System.lineSeparator();
+        FileUtil.createParentDirsOfFile(journalPath);
+        Files.write(journalPath, line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journal} that come after {@code lastSequence} to
+     * {@code addressBook}, stopping at the first entry that was not completely written.
+     *
+     * @return the sequence number of the last entry applied, or {@code lastSequence} if there is none.
+     */
+    private static long replay(Path journal, AddressBook addressBook, long lastSequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return lastSequence;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                Optional<JsonAdaptedJournalEntry> entry = parseEntry(line);
+                if (!entry.isPresent()) {
+                    logger.warning("Ignoring corrupted journal " + journal + " from line " + lineNumber);
+                    return lastSequence;
+                }
+                // Entries that are not numbered come from journals written before any snapshot was numbered
+                long sequence = entry.get().getSequence();
+                if (sequence != 0 && sequence <= lastSequence) {
+                    continue;
+                }
+                entry.get().applyTo(addressBook);
+                lastSequence = Math.max(lastSequence, sequence);
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Returns the entry on {@code line}, or an empty Optional if the line does not match its checksum.
+     */
+    private static Optional<JsonAdaptedJournalEntry> parseEntry(String line) {
+        if (line.length() <= CHECKSUM_LENGTH || line.charAt(CHECKSUM_LENGTH) != ' ') {
+            return Optional.empty();
+        }
+
+        String json = line.substring(CHECKSUM_LENGTH + 1);
+        if (!line.substring(0, CHECKSUM_LENGTH).equals(checksumOf(json))) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String checksumOf(String json) {
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return String.format("%0" + CHECKSUM_LENGTH + "x", crc.getValue());
+    }
+
+    //// snapshot
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and clears the journal.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        JsonAddressBookStreams.write(addressBook, filePath, false, journalSequence);
+        Files.deleteIfExists(compactingJournalPath);
+        Files.deleteIfExists(journalPath);
+        rememberSavedState(addressBook);
+    }
+
+    /**
+     * Moves the journal aside and writes {@code addressBook} as the new snapshot in the background.
+     * New entries go to a fresh journal in the meantime, and the moved journal is deleted once the snapshot is
+     * written. Until then, it is replayed on reading like the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal " + journalPath);
+        // The address book may change while the snapshot is written
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        long snapshotSequence = journalSequence;
+        Files.move(journalPath, compactingJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        compaction = compactor.submit(() -> {
+            // The moved journal is skipped on reading once this snapshot is written, even if it is not deleted
+            JsonAddressBookStreams.write(snapshot, filePath, false, snapshotSequence);
+            Files.delete(compactingJournalPath);
+            return null;
+        });
+    }
+
+    private boolean isCompacting() {
+        return compaction != null && !compaction.isDone();
+    }
+
+    /**
+     * Waits for the background compaction, if any, to finish.
+     * A failed compaction leaves the moved journal in place to be replayed, so it is only logged.
+     *
+     * @return false if the compaction failed, true otherwise.
+     */
+    private boolean awaitCompaction() {
+        if (compaction == null) {
+            return true;
+        }
+
+        boolean isSuccessful = false;
+        try {
+            compaction.get();
+            isSuccessful = true;
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        compaction = null;
+        return isSuccessful;
+    }
+
+    /**
+     * Waits for the background compaction, if any, to finish and stops the background thread.
+     */
+    @Override
+    public synchronized void close() {
+        awaitCompaction();
+        compactor.shutdown();
+    }
+}
@@ -0,0 +1,154 @@
+package manageezpz.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.exceptions.DuplicatePersonException;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * Jackson-friendly version of a single entry of the address book journal.
+ * An entry holds the persons and tasks that were added or changed by a command, and the ids of those that were removed.
+ * Entries are numbered in the order they are written, so that those already included in a snapshot can be skipped.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_ID_MESSAGE = "Journal entry contains a person or task without an id!";
+    public static final String MESSAGE_CONFLICTING_ENTRY = "Journal entry conflicts with the address book!";
+
+    private final long sequence;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Integer> removedPersons = new ArrayList<>();
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final List<Integer> removedTasks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") Long sequence,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("removedPersons") List<Integer> removedPersons,
+                                   @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                                   @JsonProperty("removedTasks") List<Integer> removedTasks) {
+        // Entries written before they were numbered have no sequence number
+        this.sequence = sequence == null ? 0 : sequence;
+        addAllIfPresent(this.persons, persons);
+        addAllIfPresent(this.removedPersons, removedPersons);
+        addAllIfPresent(this.tasks, tasks);
+        addAllIfPresent(this.removedTasks, removedTasks);
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedJournalEntry} with the given sequence number.
+     */
+    public JsonAdaptedJournalEntry(long sequence) {
+        this.sequence = sequence;
+    }
+
+    private static <T> void addAllIfPresent(List<T> list, List<T> elements) {
+        if (elements != null) {
+            list.addAll(elements);
+        }
+    }
+
+    /**
+     * Records {@code person} as added or changed.
+     */
+    public void addPerson(Person person) {
+        persons.add(new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Records the person with the given id as removed.
+     */
+    public void removePerson(int id) {
+        removedPersons.add(id);
+    }
+
+    /**
+     * Records {@code task} as added or changed.
+     */
+    public void addTask(Task task) {
+        tasks.add(new JsonAdaptedTask(task));
+    }
+
+    /**
+     * Records the task with the given id as removed.
+     */
+    public void removeTask(int id) {
+        removedTasks.add(id);
+    }
+
+    /**
+     * Returns the sequence number of this entry, or 0 if it was written before entries were numbered.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns true if this entry does not change anything.
+     */
+    public boolean isEmpty() {
+        return persons.isEmpty() && removedPersons.isEmpty() && tasks.isEmpty() && removedTasks.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code addressBook}.
+     * Persons and tasks are matched by id, so applying the same entry more than once has no further effect.
+     * Removals are applied first, and persons before tasks, so that the assignees of the tasks can be looked up.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            for (Integer id : removedTasks) {
+                addressBook.findTaskById(id).ifPresent(addressBook::removeTask);
+            }
+            for (Integer id : removedPersons) {
+                addressBook.findById(id).ifPresent(addressBook::removePerson);
+            }
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                applyPerson(jsonAdaptedPerson.toModelType(), addressBook);
+            }
+            for (JsonAdaptedTask jsonAdaptedTask : tasks) {
+                applyTask(jsonAdaptedTask.toModelType(addressBook), addressBook);
+            }
+        } catch (DuplicatePersonException | DuplicateTaskException e) {
+            throw new IllegalValueException(MESSAGE_CONFLICTING_ENTRY);
+        }
+    }
+
+    private void applyPerson(Person person, AddressBook addressBook) throws IllegalValueException {
+        if (!person.hasId()) {
+            throw new IllegalValueException(MISSING_ID_MESSAGE);
+        }
+        Optional<Person> existingPerson = addressBook.findById(person.getId());
+        if (existingPerson.isPresent()) {
+            addressBook.setPerson(existingPerson.get(), person);
+        } else {
+            addressBook.addPerson(person);
+        }
+    }
+
+    private void applyTask(Task task, AddressBook addressBook) throws IllegalValueException {
+        if (!task.hasId()) {
+            throw new IllegalValueException(MISSING_ID_MESSAGE);
+        }
+        Optional<Task> existingTask = addressBook.findTaskById(task.getId());
+        if (existingTask.isPresent()) {
+            addressBook.setTask(existingTask.get(), task);
+        } else {
+            addressBook.addTask(task);
+        }
+    }
+}
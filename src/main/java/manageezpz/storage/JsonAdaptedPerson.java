@@ -15,32 +15,41 @@ import manageezpz.model.person.Phone;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id should be a positive number!";
 
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String email;
-    private final int numOfTask;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * The id is missing from files saved before persons were given ids, in which case a new id is given on loading.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("numOfTask") int numOfTask) {
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.numOfTask = numOfTask;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without an id with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email) {
+        this(null, name, phone, email);
     }
 
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
-        numOfTask = source.getNumOfTasks();
     }
 
     /**
@@ -49,6 +58,11 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final int modelId = id == null ? Person.UNASSIGNED_ID : id;
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -68,14 +82,11 @@ class JsonAdaptedPerson {
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (numOfTask < 0) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
-        }
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
         final Email modelEmail = new Email(email);
-        return new Person(modelName, modelPhone, modelEmail, numOfTask);
+        return new Person(modelName, modelPhone, modelEmail, modelId);
     }
 
 }
@@ -1,14 +1,17 @@
 package manageezpz.storage;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import manageezpz.commons.exceptions.IllegalValueException;
-import manageezpz.model.person.Person;
+import manageezpz.model.AddressBook;
+import manageezpz.model.person.Name;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Description;
@@ -33,6 +36,7 @@ class JsonAdaptedTask {
     public static final String NULL_TAG_MESSAGE_FORMAT = "Task's tag cannot be null!";
     public static final String NULL_PRIORITY_MESSAGE_FORMAT = "Task's priority cannot be null!";
     public static final String INVALID_PRIORITY_MESSAGE_FORMAT = "Task's priority is invalid!";
+    public static final String INVALID_ID_MESSAGE_FORMAT = "Task's id should be a positive number!";
 
     public static final String NULL_DEADLINE_DATE_MESSAGE_FORMAT = "Deadline Task's date cannot be null!";
     public static final String INVALID_DEADLINE_DATE_MESSAGE_FORMAT = "Deadline Task's date is invalid!";
@@ -53,20 +57,30 @@ class JsonAdaptedTask {
     private String eventStartTime;
     private String eventEndTime;
     private String status;
+    private Integer id;
+    private List<Integer> assignees;
+    // Names of the assignees, which is only found in files saved before assignees were kept by id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String tag;
     private String priority;
 
     /**
-     * Constructs a {@code JsonAdaptedTask} with the given person details.
+     * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * Files saved before tasks were given ids have neither {@code id} nor {@code assignees}, but have the names
+     * of the assignees in {@code tag} instead.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("type") String type, @JsonProperty("status") String status,
+    public JsonAdaptedTask(@JsonProperty("id") Integer id,
+                           @JsonProperty("type") String type, @JsonProperty("status") String status,
                            @JsonProperty("description") String description,
                            @JsonProperty("date") String date, @JsonProperty("deadlineTime") String deadlineTime,
                            @JsonProperty("eventStartTime") String eventStartTime,
                            @JsonProperty("eventEndTime") String eventEndTime,
+                           @JsonProperty("assignees") List<Integer> assignees,
                            @JsonProperty("tag") String tag,
                            @JsonProperty("priority") String priority) {
+        this.id = id;
+        this.assignees = assignees;
         this.description = description;
         this.status = status;
         this.type = type;
@@ -78,6 +92,15 @@ class JsonAdaptedTask {
         this.priority = priority;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} in the format used before tasks were given ids,
+     * with the given task details.
+     */
+    public JsonAdaptedTask(String type, String status, String description, String date, String deadlineTime,
+                           String eventStartTime, String eventEndTime, String tag, String priority) {
+        this(null, type, status, description, date, deadlineTime, eventStartTime, eventEndTime, null, tag, priority);
+    }
+
     /**
      * Converts a given {@code Task} into this class for Jackson use.
      */
@@ -100,62 +123,66 @@ class JsonAdaptedTask {
             this.eventStartTime = "";
             this.eventEndTime = "";
         }
-        List<Person> personList = source.getAssignees();
-        StringJoiner joiner = new StringJoiner(", ");
-        personList.forEach(item -> joiner.add(item.getName().toString()));
-        this.tag = joiner.toString();
+        this.id = source.hasId() ? source.getId() : null;
+        this.assignees = new ArrayList<>(source.getAssigneeIds());
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Task} object.
+     * Assignees are looked up by id, or by name for files in the old format, against the persons already in
+     * {@code addressBook}. Assignees that are not in {@code addressBook} are left out.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Task toModelType(ObservableList<Person> persons) throws IllegalValueException {
-        handleGeneralNullChecks(description, type, status, tag, priority);
+    public Task toModelType(AddressBook addressBook) throws IllegalValueException {
+        // The tag is only needed when the assignees are not kept by id
+        handleGeneralNullChecks(description, type, status, assignees == null ? tag : "", priority);
+        handleIdChecks(id);
         Description desc = new Description(description);
         boolean isDone = status.equals("X");
+        Priority modelPriority = priority != null && !priority.isEmpty() ? Priority.valueOf(priority) : Priority.NONE;
+        int modelId = id != null ? id : Task.UNASSIGNED_ID;
+        Set<Integer> assigneeIds = assignees != null
+                ? handleAssigneesLoad(addressBook)
+                : handleTagLoad(tag, addressBook);
         if (type.equals("todo")) {
-            Todo newTodo = new Todo(desc);
-            handleLoad(newTodo, isDone, priority, tag, persons);
-            return newTodo;
+            return new Todo(desc, modelId, isDone, modelPriority, assigneeIds);
         } else if (type.equals("deadline")) {
             handleDeadlineNullChecks(date, deadlineTime);
-            Date currDeadlineDate = new Date(date);
-            Time currDeadlineTime = new Time(deadlineTime);
-            Deadline newDeadline = new Deadline(desc, currDeadlineDate, currDeadlineTime);
-            handleLoad(newDeadline, isDone, priority, tag, persons);
-            return newDeadline;
+            Date currDeadlineDate = Date.of(date);
+            Time currDeadlineTime = Time.of(deadlineTime);
+            return new Deadline(desc, currDeadlineDate, currDeadlineTime, modelId, isDone, modelPriority,
+                    assigneeIds);
         } else {
             handleEventNullChecks(date, eventStartTime, eventEndTime);
-            Date currEventDate = new Date(date);
-            Time currEventStartTime = new Time(eventStartTime);
-            Time currEventEndTime = new Time(eventEndTime);
-            Event newEvent = new Event(desc, currEventDate, currEventStartTime, currEventEndTime);
-            handleLoad(newEvent, isDone, priority, tag, persons);
-            return newEvent;
+            Date currEventDate = Date.of(date);
+            Time currEventStartTime = Time.of(eventStartTime);
+            Time currEventEndTime = Time.of(eventEndTime);
+            return new Event(desc, currEventDate, currEventStartTime, currEventEndTime, modelId, isDone,
+                    modelPriority, assigneeIds);
         }
     }
 
-    public void handleLoad(Task task, boolean isDone, String priority,
-                           String tag, ObservableList<Person> persons) {
-        if (isDone) {
-            task.setTaskDone();
-        }
-        if (priority != null && !priority.isEmpty()) {
-            task.setPriority(priority);
+    private Set<Integer> handleAssigneesLoad(AddressBook addressBook) {
+        Set<Integer> assigneeIds = new LinkedHashSet<>();
+        for (Integer assigneeId : assignees) {
+            if (assigneeId != null && addressBook.findById(assigneeId).isPresent()) {
+                assigneeIds.add(assigneeId);
+            }
         }
+        return assigneeIds;
+    }
+
+    private Set<Integer> handleTagLoad(String tag, AddressBook addressBook) {
+        Set<Integer> assigneeIds = new LinkedHashSet<>();
         String[] tagList = tag.split(",");
         for (int i = 0; i < tagList.length; i++) {
             String currentTag = tagList[i].trim();
-            for (int j = 0; j < persons.size(); j++) {
-                Person matchedPerson;
-                if (persons.get(j).getName().toString().equals(currentTag)) {
-                    matchedPerson = persons.get(j);
-                    task.addAssignees(matchedPerson);
-                }
+            if (Name.isValidName(currentTag)) {
+                addressBook.findByName(new Name(currentTag)).ifPresent(person -> assigneeIds.add(person.getId()));
             }
         }
+        return assigneeIds;
     }
 
     public void handleGeneralNullChecks(String description, String type, String status, String tag, String priority)
@@ -199,6 +226,12 @@ class JsonAdaptedTask {
         }
     }
 
+    public void handleIdChecks(Integer id) throws IllegalValueException {
+        if (id != null && id <= Task.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE_FORMAT);
+        }
+    }
+
     public void handleTagChecks(String tag) throws IllegalValueException {
         if (tag == null) {
             throw new IllegalValueException(String.format(NULL_TAG_MESSAGE_FORMAT, Tag.class.getSimpleName()));
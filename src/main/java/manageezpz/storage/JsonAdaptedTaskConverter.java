@@ -0,0 +1,94 @@
+package manageezpz.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.task.Task;
+
+/**
+ * Converts many {@code JsonAdaptedTask}s into the model's {@code Task}s at once, splitting them into chunks that are
+ * converted in parallel on the common fork/join pool.
+ * <p>
+ * Converting a task only reads the persons in the address book to look up its assignees, so the address book must not
+ * be changed while the tasks are converted.
+ */
+class JsonAdaptedTaskConverter {
+
+    /** Number of tasks below which a chunk is converted on a single thread. */
+    static final int CHUNK_SIZE = 1024;
+
+    private JsonAdaptedTaskConverter() {}
+
+    /**
+     * Converts {@code jsonAdaptedTasks} into tasks, in the same order, with their assignees looked up in
+     * {@code addressBook}.
+     *
+     * @throws IllegalValueException if any of the tasks violates the data constraints. When several tasks do, the
+     *     error of the first of them is reported, as when converting them one by one.
+     */
+    public static List<Task> toModelType(List<JsonAdaptedTask> jsonAdaptedTasks, AddressBook addressBook)
+            throws IllegalValueException {
+        Task[] tasks = new Task[jsonAdaptedTasks.size()];
+        IllegalValueException[] errors = new IllegalValueException[jsonAdaptedTasks.size()];
+        ConversionAction conversion = new ConversionAction(jsonAdaptedTasks, addressBook, tasks, errors, 0,
+                tasks.length);
+        if (tasks.length <= CHUNK_SIZE) {
+            conversion.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(conversion);
+        }
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return new ArrayList<>(Arrays.asList(tasks));
+    }
+
+    /**
+     * Converts the tasks in a range of indexes, splitting the range in half until it is at most a chunk.
+     * Each task and error is written to its own index, so no two actions write to the same element.
+     */
+    private static class ConversionAction extends RecursiveAction {
+        private final List<JsonAdaptedTask> jsonAdaptedTasks;
+        private final AddressBook addressBook;
+        private final Task[] tasks;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        ConversionAction(List<JsonAdaptedTask> jsonAdaptedTasks, AddressBook addressBook, Task[] tasks,
+                IllegalValueException[] errors, int from, int to) {
+            this.jsonAdaptedTasks = jsonAdaptedTasks;
+            this.addressBook = addressBook;
+            this.tasks = tasks;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionAction(jsonAdaptedTasks, addressBook, tasks, errors, from, middle),
+                        new ConversionAction(jsonAdaptedTasks, addressBook, tasks, errors, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    tasks[i] = jsonAdaptedTasks.get(i).toModelType(addressBook);
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package manageezpz.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,21 +11,30 @@ import java.util.logging.Logger;
 import manageezpz.commons.core.LogsCenter;
 import manageezpz.commons.exceptions.DataConversionException;
 import manageezpz.commons.exceptions.IllegalValueException;
-import manageezpz.commons.util.FileUtil;
-import manageezpz.commons.util.JsonUtil;
 import manageezpz.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person or task at a time, rather than as a whole.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes json without indentation if {@code isCompact} is true,
+     * which makes the file smaller but harder to edit by hand.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +55,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        AddressBookAssembler assembler = new AddressBookAssembler();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonAddressBookStreams.read(filePath, assembler);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
+        return Optional.of(assembler.build());
     }
 
     @Override
@@ -73,8 +87,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookStreams.write(addressBook, filePath, isCompact);
     }
 
 }
@@ -0,0 +1,140 @@
+package manageezpz.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * Reads and writes address books in the json format of {@code JsonSerializableAddressBook} one person or batch of
+ * tasks at a time, so that the whole file never has to be held in memory, whether as text or as adapted objects.
+ */
+class JsonAddressBookStreams {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Address book file does not contain a json object";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TASKS_FIELD = "tasks";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    private static final int TASK_BATCH_SIZE = 16 * JsonAdaptedTaskConverter.CHUNK_SIZE;
+
+    private JsonAddressBookStreams() {}
+
+    /**
+     * Reads the address book at {@code filePath} into {@code assembler}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public static void read(Path filePath, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            // Tasks that come before the persons can only be converted once all persons are read
+            List<JsonAdaptedTask> tasksBeforePersons = new ArrayList<>();
+            boolean isPersonsRead = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(JOURNAL_SEQUENCE_FIELD) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    assembler.setJournalSequence(parser.getLongValue());
+                } else if (valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (fieldName.equals(PERSONS_FIELD)) {
+                    readPersons(parser, assembler);
+                    isPersonsRead = true;
+                } else if (fieldName.equals(TASKS_FIELD) && isPersonsRead) {
+                    readTasks(parser, assembler);
+                } else if (fieldName.equals(TASKS_FIELD)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tasksBeforePersons.add(parser.readValueAs(JsonAdaptedTask.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            assembler.addTasks(JsonAdaptedTaskConverter.toModelType(tasksBeforePersons,
+                    assembler.getAddressBook()));
+        }
+    }
+
+    private static void readPersons(JsonParser parser, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            assembler.addPerson(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+    /**
+     * Reads the tasks in batches, each of which is converted in parallel while only the batch is held in memory.
+     */
+    private static void readTasks(JsonParser parser, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedTask> batch = new ArrayList<>(TASK_BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedTask.class));
+            if (batch.size() == TASK_BATCH_SIZE) {
+                assembler.addTasks(JsonAdaptedTaskConverter.toModelType(batch, assembler.getAddressBook()));
+                batch.clear();
+            }
+        }
+        assembler.addTasks(JsonAdaptedTaskConverter.toModelType(batch, assembler.getAddressBook()));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file only once it has been completely written.
+     *
+     * @param isCompact whether the json is written without indentation, which makes the file smaller.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, filePath, isCompact, 0);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path, boolean)}, but also records that the file includes the
+     * journal entries up to {@code journalSequence}, unless it is 0.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, long journalSequence)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)) {
+                generator.writeStartObject();
+                if (journalSequence != 0) {
+                    generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+                }
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(TASKS_FIELD);
+                for (Task task : addressBook.getTaskList()) {
+                    generator.writeObject(new JsonAdaptedTask(task));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
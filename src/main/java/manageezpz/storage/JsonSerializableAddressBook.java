@@ -1,7 +1,6 @@
 package manageezpz.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import manageezpz.commons.exceptions.IllegalValueException;
 import manageezpz.model.AddressBook;
 import manageezpz.model.ReadOnlyAddressBook;
-import manageezpz.model.person.Person;
-import manageezpz.model.task.Task;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,9 +18,10 @@ import manageezpz.model.task.Task;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
-    public static final String MESSAGE_DUPLICATE_TASKS = "Tasks list contains duplicate task(s).";
-    public static final String MESSAGE_INVALID_JSON_VALUE = "Fields in JSON files are incorrect.";
+    public static final String MESSAGE_DUPLICATE_PERSON = AddressBookAssembler.MESSAGE_DUPLICATE_PERSON;
+    public static final String MESSAGE_DUPLICATE_TASKS = AddressBookAssembler.MESSAGE_DUPLICATE_TASKS;
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = AddressBookAssembler.MESSAGE_DUPLICATE_PERSON_ID;
+    public static final String MESSAGE_DUPLICATE_TASK_ID = AddressBookAssembler.MESSAGE_DUPLICATE_TASK_ID;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
@@ -50,52 +48,17 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are loaded before the tasks, so that the assignees of each task can be looked up by id, and the
+     * tasks are then converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        HashMap<Person, Integer> hm = new HashMap<>();
+        AddressBookAssembler assembler = new AddressBookAssembler();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-            hm.put(person, 0);
-        }
-
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType(addressBook.getPersonList());
-            if (addressBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASKS);
-            }
-            addressBook.addTask(task);
-        }
-
-        handleNumOfTask(addressBook.getTaskList(), addressBook.getPersonList(), hm);
-
-        return addressBook;
-    }
-
-
-    public void handleNumOfTask(List<Task> taskList, List<Person> personList, HashMap<Person, Integer> hm)
-            throws IllegalValueException {
-        for (Task task : taskList) {
-            List<Person> assigneesList = task.getAssignees();
-            for (int i = 0; i < assigneesList.size(); i++) {
-                Person currentPerson = assigneesList.get(i);
-                if (hm.containsKey(currentPerson)) {
-                    hm.put(currentPerson, hm.get(currentPerson) + 1);
-                }
-            }
-        }
-
-        for (Person person : personList) {
-            int numOfTask = hm.get(person);
-            if (numOfTask != person.getNumOfTasks()) {
-                throw new IllegalValueException(MESSAGE_INVALID_JSON_VALUE);
-            }
+            assembler.addPerson(jsonAdaptedPerson.toModelType());
         }
+        assembler.addTasks(JsonAdaptedTaskConverter.toModelType(tasks, assembler.getAddressBook()));
+        return assembler.build();
     }
 }
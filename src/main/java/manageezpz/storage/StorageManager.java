@@ -77,4 +77,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void close() {
+        addressBookStorage.close();
+    }
+
 }
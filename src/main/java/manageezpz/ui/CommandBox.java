@@ -1,8 +1,16 @@
 package manageezpz.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import manageezpz.logic.commands.CommandResult;
 import manageezpz.logic.commands.exceptions.CommandException;
@@ -10,6 +18,8 @@ import manageezpz.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * It suggests completions of the command word and employee names being typed in a popup, and completes them when
+ * the Tab key is pressed.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,18 +27,36 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ContextMenu suggestionPopup = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CompletionProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.completionProvider = completionProvider;
+        // calls #setStyleToDefault() and #showSuggestions() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            showSuggestions();
+        });
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleTabPressed();
+                event.consume();
+            }
+        });
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                suggestionPopup.hide();
+            }
+        });
     }
 
     /**
@@ -36,6 +64,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        suggestionPopup.hide();
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
@@ -49,6 +78,67 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Completes the command text as far as all its completions agree, or to its only completion.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        List<String> completions = completionProvider.getCompletions(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        String commonPrefix = getCommonPrefix(completions);
+        if (commonPrefix.length() > commandText.length()) {
+            setCommandText(commonPrefix);
+        } else {
+            // Also corrects the case of what was typed, such as a command word typed in lower case
+            setCommandText(completions.get(0));
+        }
+    }
+
+    /**
+     * Shows the completions of the command text in a popup under the command box, or hides the popup if there are
+     * none other than the command text itself.
+     */
+    private void showSuggestions() {
+        String commandText = commandTextField.getText();
+        List<String> completions = completionProvider.getCompletions(commandText);
+        if (completions.isEmpty() || completions.equals(List.of(commandText))) {
+            suggestionPopup.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> setCommandText(completion));
+            items.add(item);
+        }
+        suggestionPopup.getItems().setAll(items);
+        if (!suggestionPopup.isShowing() && commandTextField.getScene() != null) {
+            suggestionPopup.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void setCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+    }
+
+    private static String getCommonPrefix(List<String> texts) {
+        String commonPrefix = texts.get(0);
+        for (String text : texts) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < text.length()
+                    && commonPrefix.charAt(length) == text.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +172,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete commands being typed.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the completed command texts of the command text typed so far.
+         *
+         * @see manageezpz.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
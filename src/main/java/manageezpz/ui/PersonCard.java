@@ -1,5 +1,6 @@
 package manageezpz.ui;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -37,16 +38,16 @@ public class PersonCard extends UiPart<Region> {
     private Label numOfTasks;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, index and number of assigned tasks to display.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, ReadOnlyIntegerProperty numOfAssignedTasks) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         email.setText(person.getEmail().value);
-        numOfTasks.setText(person.getNumOfTasks() + " assigned tasks");
+        numOfTasks.textProperty().bind(numOfAssignedTasks.asString("%d assigned tasks"));
     }
 
     @Override
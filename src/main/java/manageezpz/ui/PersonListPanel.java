@@ -1,7 +1,9 @@
 package manageezpz.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -24,14 +26,19 @@ public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    private final Function<Person, ReadOnlyIntegerProperty> numOfTasksLookup;
+
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, and the function used to look up
+     * the number of tasks assigned to each person.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList,
+                           Function<Person, ReadOnlyIntegerProperty> numOfTasksLookup) {
         super(FXML);
+        this.numOfTasksLookup = numOfTasksLookup;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
@@ -84,7 +91,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, numOfTasksLookup.apply(person)).getRoot());
             }
         }
     }
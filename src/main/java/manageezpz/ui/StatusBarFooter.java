@@ -3,6 +3,7 @@ package manageezpz.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -16,6 +17,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label saveStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +28,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the status of saving the data, which may be called from any thread.
+     */
+    public void setSaveStatus(String status) {
+        Platform.runLater(() -> saveStatus.setText(status));
+    }
+
 }
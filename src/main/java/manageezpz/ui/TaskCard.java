@@ -1,8 +1,8 @@
 package manageezpz.ui;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -14,6 +14,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
 import manageezpz.model.task.Todo;
 
@@ -24,6 +25,9 @@ public class TaskCard extends UiPart<Region> {
 
     private static final String FXML = "TaskListCard.fxml";
 
+    // Icons of each priority, which are loaded once when first shown and then shared by all cards
+    private static final Map<Priority, Image> PRIORITY_ICONS = new EnumMap<>(Priority.class);
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -33,6 +37,7 @@ public class TaskCard extends UiPart<Region> {
      */
 
     public final Task task;
+    private final String assigneesLabel;
 
     @FXML
     private HBox cardPane;
@@ -64,11 +69,12 @@ public class TaskCard extends UiPart<Region> {
     private Label statusIsDone;
 
     /**
-     * Creates a {@code TaskCard} with the given {@code Task} and index to display.
+     * Creates a {@code TaskCard} with the given {@code Task}, the names of its assignees and index to display.
      */
-    public TaskCard(Task task, int displayedIndex) {
+    public TaskCard(Task task, int displayedIndex, String assigneesLabel) {
         super(FXML);
         this.task = task;
+        this.assigneesLabel = assigneesLabel;
 
         id.setText(displayedIndex + ". ");
         description.setText(task.getDescription().description);
@@ -88,13 +94,8 @@ public class TaskCard extends UiPart<Region> {
      * Sets the text of employeesTag {@code Label}.
      */
     private void setEmployeeTag() {
-        if (!task.getAssignees().isEmpty()) {
-            String assigneesNames = task.getAssignees()
-                    .stream()
-                    .flatMap(person -> Stream.of(person.getName().fullName))
-                    .collect(Collectors.joining(", "));
-
-            employeesTag.setText(assigneesNames);
+        if (!assigneesLabel.isEmpty()) {
+            employeesTag.setText(assigneesLabel);
         }
     }
 
@@ -102,43 +103,42 @@ public class TaskCard extends UiPart<Region> {
      * Sets the image of priorityTagIcon {@code ImageView} and the text of priorityTag {@code Label}.
      */
     private void setPriorityTagIconAndPriorityTag() {
-        Image priorityIcon;
-
-        switch (task.getPriority().name()) {
-        case "LOW":
-            priorityIcon = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/priorities_low.png")));
-            priorityTagIcon.setImage(priorityIcon);
-            priorityTag.setText(task.getPriority().name());
+        switch (task.getPriority()) {
+        case LOW:
+            setPriorityTag("/images/priorities_low.png");
             break;
-        case "MEDIUM":
-            priorityIcon = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/priorities_medium.png")));
-            priorityTagIcon.setImage(priorityIcon);
-            priorityTag.setText(task.getPriority().name());
+        case MEDIUM:
+            setPriorityTag("/images/priorities_medium.png");
             break;
-        case "HIGH":
-            priorityIcon = new Image(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/images/priorities_high.png")));
-            priorityTagIcon.setImage(priorityIcon);
-            priorityTag.setText(task.getPriority().name());
+        case HIGH:
+            setPriorityTag("/images/priorities_high.png");
             break;
-        case "NONE":
+        case NONE:
             break;
         default:
             throw new RuntimeException("Invalid Task Priority");
         }
     }
 
+    /**
+     * Sets the priorityTagIcon {@code ImageView} to the icon at {@code iconPath}, which is only loaded for the first
+     * card with the priority of this task, and the text of priorityTag {@code Label}.
+     */
+    private void setPriorityTag(String iconPath) {
+        Image priorityIcon = PRIORITY_ICONS.computeIfAbsent(task.getPriority(), priority ->
+                new Image(Objects.requireNonNull(getClass().getResourceAsStream(iconPath))));
+        priorityTagIcon.setImage(priorityIcon);
+        priorityTag.setText(task.getPriority().name());
+    }
+
     /**
      * Sets the text of statusIsDone {@code Label}.
      */
     private void setStatusIsDone() {
+        statusIsDone.setText(task.getStatusLabel());
         if (task.isDone()) {
-            statusIsDone.setText("Done");
             statusIsDone.getStyleClass().add("cell_completion_done_label");
         } else {
-            statusIsDone.setText("Not Done");
             statusIsDone.getStyleClass().add("cell_completion_not_done_label");
         }
     }
@@ -153,12 +153,12 @@ public class TaskCard extends UiPart<Region> {
         }
 
         // Remove assignees row if there are no employees assigned to the task
-        if (task.getAssignees().isEmpty()) {
+        if (assigneesLabel.isEmpty()) {
             removeRow(detailsPane, GridPane.getRowIndex(employeesTagLabel));
         }
 
         // Remove priority row if there are no priority tagged to the task
-        if (task.getPriority().name().equals("NONE")) {
+        if (task.getPriority() == Priority.NONE) {
             removeRow(detailsPane, GridPane.getRowIndex(priorityTagLabel));
         }
     }
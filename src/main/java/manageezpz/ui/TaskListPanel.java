@@ -1,13 +1,16 @@
 package manageezpz.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
 
 /**
@@ -18,16 +21,23 @@ public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
 
+    private final Function<Task, String> assigneesLabelLookup;
+
     @FXML
     private ListView<Task> taskListView;
 
     /**
-     * Creates a {@code TaskListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TaskListPanel} with the given {@code ObservableList}, and the function used to look up
+     * the names of the assignees of each task. As tasks only refer to their assignees, the panel is redrawn whenever
+     * {@code personList} changes so that edited assignees are shown.
      */
-    public TaskListPanel(ObservableList<Task> taskList) {
+    public TaskListPanel(ObservableList<Task> taskList, Function<Task, String> assigneesLabelLookup,
+                         ObservableList<Person> personList) {
         super(FXML);
+        this.assigneesLabelLookup = assigneesLabelLookup;
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
+        personList.addListener((ListChangeListener<Person>) change -> taskListView.refresh());
     }
 
     /**
@@ -42,7 +52,7 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                setGraphic(new TaskCard(task, getIndex() + 1, assigneesLabelLookup.apply(task)).getRoot());
             }
         }
     }
@@ -0,0 +1,34 @@
+package manageezpz.commons.core;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    @Test
+    public void constructor_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhaseTimer(null));
+    }
+
+    @Test
+    public void time_phase_returnsResultAndRecordsPhase() {
+        PhaseTimer timer = new PhaseTimer("Startup");
+        assertEquals("result", timer.time("Loading", () -> "result"));
+        timer.mark("Shown");
+
+        String summary = timer.getSummary();
+        assertTrue(summary.matches("Startup: Loading took \\d+ ms, Shown at \\d+ ms"), summary);
+    }
+
+    @Test
+    public void time_failingPhase_recordsPhase() {
+        PhaseTimer timer = new PhaseTimer("Startup");
+        assertThrows(IllegalStateException.class, () -> timer.time("Loading", () -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(timer.getSummary().startsWith("Startup: Loading took "));
+    }
+}
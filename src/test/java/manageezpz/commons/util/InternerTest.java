@@ -0,0 +1,61 @@
+package manageezpz.commons.util;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Interner<String>(0));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("value");
+        String second = new String("value");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_full_returnsNewValuesAsIs() {
+        Interner<String> interner = new Interner<>(1);
+        String first = new String("first");
+        String second = new String("second");
+        interner.intern(first);
+
+        assertSame(second, interner.intern(second));
+        assertNotSame(second, interner.intern(new String("second")));
+        assertSame(first, interner.intern(new String("first")));
+    }
+
+    @Test
+    public void intern_equalValuesInParallel_returnsOneInstance() {
+        Interner<String> interner = new Interner<>();
+        List<String> instances = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> interner.intern(new String("value" + i % 10)))
+                .collect(Collectors.toList());
+
+        for (String instance : instances) {
+            assertSame(interner.intern(instance), instance);
+        }
+        assertEquals(10, interner.size());
+    }
+}
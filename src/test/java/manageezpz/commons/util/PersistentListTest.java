@@ -0,0 +1,204 @@
+package manageezpz.commons.util;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void changes_earlierVersionsUnchanged() {
+        PersistentList<String> empty = PersistentList.empty();
+        PersistentList<String> abc = empty.plus("a").plus("b").plus("c");
+        PersistentList<String> axc = abc.with(1, "x");
+        PersistentList<String> ac = abc.minus(1);
+        PersistentList<String> zabc = abc.plus(0, "z");
+
+        assertTrue(empty.isEmpty());
+        assertEquals(List.of("a", "b", "c"), abc.toList());
+        assertEquals(List.of("a", "x", "c"), axc.toList());
+        assertEquals(List.of("a", "c"), ac.toList());
+        assertEquals(List.of("z", "a", "b", "c"), zabc.toList());
+        assertEquals("b", abc.get(1));
+        assertEquals(PersistentList.of(List.of("a", "b", "c")), abc);
+        assertNotEquals(abc, axc);
+        assertFalse(ac.equals(abc));
+    }
+
+    @Test
+    public void asList_laterChanges_viewUnchanged() {
+        PersistentList<String> abc = PersistentList.of(List.of("a", "b", "c"));
+        List<String> view = abc.asList();
+        abc.with(0, "x").minus(1);
+        assertEquals(List.of("a", "b", "c"), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add("d"));
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual.toList());
+        assertEquals(PersistentList.of(expected), actual);
+        assertEquals(PersistentList.of(expected).hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void diff_randomChanges_turnsIntoTarget() {
+        Random random = new Random(2103);
+        PersistentList<String> source = PersistentList.empty();
+        for (int i = 0; i < 200; i++) {
+            source = source.plus(i + "=0");
+        }
+
+        int nextKey = 200;
+        for (int round = 0; round < 50; round++) {
+            PersistentList<String> target = source;
+            for (int change = 0; change < 1 + random.nextInt(10); change++) {
+                int index = random.nextInt(target.size());
+                int operation = random.nextInt(4);
+                if (operation == 0) {
+                    target = target.with(index, keyOf(target.get(index)) + "=" + round);
+                } else if (operation == 1 && target.size() > 1) {
+                    target = target.minus(index);
+                } else if (operation == 2) {
+                    target = target.plus(index, nextKey++ + "=" + round);
+                } else {
+                    target = target.plus(nextKey++ + "=" + round);
+                }
+            }
+            assertEquals(target.toList(), applyDiff(source, target));
+            source = target;
+        }
+    }
+
+    @Test
+    public void diff_reorderedElements_turnsIntoTarget() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i + "=0");
+        }
+        PersistentList<String> source = PersistentList.of(elements);
+        Collections.shuffle(elements, new Random(2103));
+        PersistentList<String> target = PersistentList.of(elements);
+
+        assertEquals(target.toList(), applyDiff(source, target));
+        assertEquals(List.of(), applyDiff(source, PersistentList.empty()));
+        assertEquals(source.toList(), applyDiff(PersistentList.empty(), source));
+    }
+
+    @Test
+    public void diff_oneReplacement_skipsSharedElements() {
+        PersistentList<String> source = PersistentList.empty();
+        for (int i = 0; i < 10000; i++) {
+            source = source.plus(i + "=0");
+        }
+        PersistentList<String> target = source.with(5000, "5000=1");
+        AtomicInteger keysCompared = new AtomicInteger();
+        List<String> changes = new ArrayList<>();
+
+        source.diff(target, element -> {
+            keysCompared.incrementAndGet();
+            return keyOf(element);
+        }, element -> true, new PersistentList.ChangeHandler<>() {
+            @Override
+            public void inserted(int index, String element) {
+                changes.add("inserted " + element);
+            }
+
+            @Override
+            public void removed(int index, String element) {
+                changes.add("removed " + element);
+            }
+
+            @Override
+            public void replaced(int index, String oldElement, String newElement) {
+                changes.add("replaced " + index + " " + oldElement + " " + newElement);
+            }
+        });
+
+        assertEquals(List.of("replaced 5000 5000=0 5000=1"), changes);
+        assertEquals(2, keysCompared.get());
+    }
+
+    private static String keyOf(String element) {
+        return element.substring(0, element.indexOf('='));
+    }
+
+    /**
+     * Returns the elements of {@code source} with the changes found by diffing it with {@code target} applied.
+     */
+    private static List<String> applyDiff(PersistentList<String> source, PersistentList<String> target) {
+        Set<String> sourceKeys = new HashSet<>();
+        source.forEach(element -> sourceKeys.add(keyOf(element)));
+        List<String> elements = source.toList();
+        source.diff(target, PersistentListTest::keyOf, element -> sourceKeys.contains(keyOf(element)),
+                new PersistentList.ChangeHandler<>() {
+                    @Override
+                    public void inserted(int index, String element) {
+                        elements.add(index, element);
+                    }
+
+                    @Override
+                    public void removed(int index, String element) {
+                        assertEquals(element, elements.remove(index));
+                    }
+
+                    @Override
+                    public void replaced(int index, String oldElement, String newElement) {
+                        assertEquals(keyOf(oldElement), keyOf(newElement));
+                        assertEquals(oldElement, elements.set(index, newElement));
+                    }
+                });
+        return elements;
+    }
+}
@@ -0,0 +1,70 @@
+package manageezpz.commons.util;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @BeforeEach
+    public void setUp() {
+        for (String word : List.of("Alex Yeoh", "Alice Pauline", "alex", "Bernice Yu", "Al")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void findWithPrefix_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.findWithPrefix("a", -1));
+    }
+
+    @Test
+    public void findWithPrefix_prefixIgnoringCase_findsWordsInOrder() {
+        assertEquals(List.of("Al", "alex", "Alex Yeoh", "Alice Pauline"), trie.findWithPrefix("AL", 10));
+        assertEquals(List.of("alex", "Alex Yeoh"), trie.findWithPrefix("alex", 10));
+        assertEquals(List.of("Alex Yeoh"), trie.findWithPrefix("alex ", 10));
+        assertEquals(List.of(), trie.findWithPrefix("alexa", 10));
+    }
+
+    @Test
+    public void findWithPrefix_limit_findsFirstWords() {
+        assertEquals(List.of("Al", "alex"), trie.findWithPrefix("", 2));
+        assertEquals(List.of(), trie.findWithPrefix("a", 0));
+    }
+
+    @Test
+    public void add_existingWord_notAddedAgain() {
+        assertFalse(trie.add("Alex Yeoh"));
+        assertTrue(trie.add("ALEX"));
+        assertEquals(6, trie.size());
+        assertEquals(List.of("ALEX", "alex"), trie.findWithPrefix("alex", 2));
+    }
+
+    @Test
+    public void remove_word_prunesEmptyBranches() {
+        assertFalse(trie.remove("ALEX YEOH"));
+        assertTrue(trie.remove("Alex Yeoh"));
+        assertFalse(trie.contains("Alex Yeoh"));
+        assertEquals(List.of("alex"), trie.findWithPrefix("alex", 10));
+
+        assertTrue(trie.remove("alex"));
+        assertTrue(trie.remove("Al"));
+        assertEquals(List.of("Alice Pauline"), trie.findWithPrefix("a", 10));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    public void clear_allWordsRemoved() {
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.findWithPrefix("", 10));
+    }
+}
@@ -1,7 +1,9 @@
 package manageezpz.commons.util;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
@@ -123,6 +125,53 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc@1", StringUtil.foldCase("aBC@1"));
+        assertEquals(StringUtil.foldCase("BBB"), StringUtil.foldCase("bbb"));
+        assertNotEquals(StringUtil.foldCase("bbb"), StringUtil.foldCase("bbbb"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // EP: equal words
+        assertEquals(0, StringUtil.editDistance("", "")); // Boundary value
+        assertEquals(0, StringUtil.editDistance("book", "book"));
+
+        // EP: empty word
+        assertEquals(4, StringUtil.editDistance("", "book"));
+        assertEquals(4, StringUtil.editDistance("book", ""));
+
+        // EP: single edits
+        assertEquals(1, StringUtil.editDistance("book", "bok")); // Deletion
+        assertEquals(1, StringUtil.editDistance("book", "brook")); // Insertion
+        assertEquals(1, StringUtil.editDistance("book", "boot")); // Replacement
+
+        // EP: multiple edits, in either order of the words
+        assertEquals(2, StringUtil.editDistance("meeting", "meetnig"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("sitting", "kitten"));
+
+        // EP: case sensitive
+        assertEquals(1, StringUtil.editDistance("Book", "book"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
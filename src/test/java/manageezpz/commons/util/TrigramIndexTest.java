@@ -0,0 +1,89 @@
+package manageezpz.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private static final List<String> TEXTS = List.of("Team meeting", "Meet client", "Buy milk", "Go to meetings",
+            "Read book");
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < TEXTS.size(); i++) {
+            index.add(i, TEXTS.get(i));
+        }
+    }
+
+    @Test
+    public void findMatches_misspeltKeyword_findsCloseWords() {
+        Map<Integer, Double> matches = index.findMatches(List.of("meetnig"));
+
+        // "meeting" is two edits away, "meetings" three, and "meet" is too short
+        assertEquals(List.of(0), List.copyOf(matches.keySet()));
+    }
+
+    @Test
+    public void findMatches_shortKeyword_fewerEditsAllowed() {
+        // Keywords of up to five characters allow a single edit
+        assertEquals(List.of(1), List.copyOf(index.findMatches(List.of("meat")).keySet()));
+        assertTrue(index.findMatches(List.of("mlik")).isEmpty());
+        // Keywords of up to two characters must match exactly
+        assertEquals(List.of(3), List.copyOf(index.findMatches(List.of("GO")).keySet()));
+        assertTrue(index.findMatches(List.of("og")).isEmpty());
+    }
+
+    @Test
+    public void findMatches_closerWords_scoreHigher() {
+        Map<Integer, Double> matches = index.findMatches(List.of("meeting"));
+
+        assertEquals(2, matches.size());
+        assertTrue(matches.get(0) > matches.get(3));
+    }
+
+    @Test
+    public void findMatches_moreKeywordsMatched_scoreHigher() {
+        Map<Integer, Double> matches = index.findMatches(List.of("team", "meeting"));
+
+        assertTrue(matches.get(0) > matches.get(3));
+        assertEquals(matches.get(0), index.findMatches(List.of("team")).get(0)
+                + index.findMatches(List.of("meeting")).get(0), 1e-9);
+    }
+
+    @Test
+    public void findMatches_sameScoresAsScoreText() {
+        for (String keyword : List.of("meetnig", "meet", "Bok", "milk", "xyz", "to")) {
+            Map<Integer, Double> matches = index.findMatches(List.of(keyword, "client"));
+            for (int i = 0; i < TEXTS.size(); i++) {
+                assertEquals(TrigramIndex.scoreText(List.of(keyword, "client"), TEXTS.get(i)),
+                        matches.getOrDefault(i, 0.0), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void remove_removedText_notFound() {
+        long version = index.getVersion();
+        index.remove(0, TEXTS.get(0));
+
+        assertNotEquals(version, index.getVersion());
+        assertEquals(List.of(3), List.copyOf(index.findMatches(List.of("meeting")).keySet()));
+        assertTrue(index.findMatches(List.of("team")).isEmpty());
+    }
+
+    @Test
+    public void clear_allTextsRemoved() {
+        index.clear();
+
+        assertTrue(index.findMatches(List.of("meeting", "book")).isEmpty());
+    }
+}
@@ -8,29 +8,49 @@ import static manageezpz.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static manageezpz.logic.commands.DeleteEmployeeCommand.MESSAGE_USAGE;
 import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.AMY;
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import manageezpz.logic.commands.AddEmployeeCommand;
+import manageezpz.logic.commands.ClearCommand;
 import manageezpz.logic.commands.CommandResult;
 import manageezpz.logic.commands.ListTaskCommand;
+import manageezpz.logic.commands.RedoCommand;
+import manageezpz.logic.commands.UndoCommand;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.AddressBook;
 import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.ReadOnlyAddressBook;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.exceptions.DuplicatePersonException;
+import manageezpz.model.task.Task;
+import manageezpz.storage.AddressBookSaver;
 import manageezpz.storage.JsonAddressBookStorage;
 import manageezpz.storage.JsonUserPrefsStorage;
 import manageezpz.storage.StorageManager;
 import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -69,22 +89,169 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportsSaveStatus() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        AddressBookSaver addressBookSaver = setUpIoExceptionThrowingSaver();
+        List<String> saveStatuses = new ArrayList<>();
+        logic.setSaveStatusListener(saveStatuses::add);
 
-        // Execute add command
+        // Execute add command, which succeeds even though it cannot be saved
         String addEmployeeCommand = AddEmployeeCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addEmployeeCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addEmployeeCommand, String.format(AddEmployeeCommand.MESSAGE_SUCCESS, expectedPerson),
+                expectedModel);
+
+        assertFalse(addressBookSaver.flush());
+        String expectedStatus = AddressBookSaver.MESSAGE_SAVE_FAILED + DUMMY_IO_EXCEPTION;
+        assertEquals(expectedStatus, saveStatuses.get(saveStatuses.size() - 1));
+    }
+
+    @Test
+    public void execute_unchangedAddressBook_notSaved() throws Exception {
+        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
+        AddressBookSaver addressBookSaver = setUpIoExceptionThrowingSaver();
+        List<String> saveStatuses = new ArrayList<>();
+        logic.setSaveStatusListener(saveStatuses::add);
+
+        // Listing does not change the address book, so the failing save is never called
+        assertCommandSuccess(ListTaskCommand.COMMAND_WORD, ListTaskCommand.MESSAGE_ALL_SUCCESS, new ModelManager());
+        assertTrue(addressBookSaver.flush());
+        assertTrue(saveStatuses.isEmpty());
+    }
+
+    @Test
+    public void populateAddressBook_stepsQueued_commandsRejectedUntilPopulated() throws Exception {
+        AddressBookSaver addressBookSaver = setUpIoExceptionThrowingSaver();
+        List<String> saveStatuses = new ArrayList<>();
+        logic.setSaveStatusListener(saveStatuses::add);
+        AddressBook addressBook = getTypicalAddressBookTasks();
+        Deque<Runnable> steps = new ArrayDeque<>();
+
+        CompletableFuture<Void> populated = logic.populateAddressBook(addressBook, steps::add);
+        assertCommandException(ListTaskCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+
+        // Persons are shown before any of the tasks
+        steps.poll().run();
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+        assertEquals(0, model.getAddressBook().getTaskList().size());
+        while (!steps.isEmpty()) {
+            steps.poll().run();
+        }
+        assertTrue(populated.isDone());
+        assertEquals(addressBook, model.getAddressBook());
+
+        // The populated address book is taken to be saved, so the failing save is never called
+        assertCommandSuccess(ListTaskCommand.COMMAND_WORD, ListTaskCommand.MESSAGE_ALL_SUCCESS,
+                new ModelManager(addressBook, new UserPrefs()));
+        assertTrue(addressBookSaver.flush());
+        assertTrue(saveStatuses.isEmpty());
+
+        // Loading the address book cannot be undone
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_beforePopulated_rejectedAndNotSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("loadingAddressBook.json");
+        AddressBookSaver addressBookSaver = new AddressBookSaver(new StorageManager(
+                new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json"))));
+        logic = new LogicManager(model, addressBookSaver, false);
+
+        // The address book is still being loaded, so the empty one in the model must not be saved
+        assertCommandException(ClearCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+        assertTrue(addressBookSaver.flush());
+        assertFalse(Files.exists(addressBookFilePath));
+
+        Deque<Runnable> steps = new ArrayDeque<>();
+        logic.populateAddressBook(getTypicalAddressBookTasks(), steps::add);
+        while (!steps.isEmpty()) {
+            steps.poll().run();
+        }
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTrue(addressBookSaver.flush());
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void populateAddressBook_stepFails_commandsStillRejectedAndNotSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("failedAddressBook.json");
+        AddressBookSaver addressBookSaver = new AddressBookSaver(new StorageManager(
+                new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("failedUserPrefs.json"))));
+        logic = new LogicManager(model, addressBookSaver, false);
+        // Duplicate persons, such as from a corrupted data file, fail the step that adds the persons
+        ReadOnlyAddressBook corruptedAddressBook = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableArrayList(AMY, AMY);
+            }
+
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return FXCollections.observableArrayList();
+            }
+        };
+        Deque<Runnable> steps = new ArrayDeque<>();
+
+        CompletableFuture<Void> populated = logic.populateAddressBook(corruptedAddressBook, steps::add);
+        while (!steps.isEmpty()) {
+            steps.poll().run();
+        }
+        assertTrue(populated.isCompletedExceptionally());
+
+        // The partly populated address book must not be saved over the data file
+        assertCommandException(ClearCommand.COMMAND_WORD,
+                String.format(LogicManager.MESSAGE_LOADING_FAILED, new DuplicatePersonException()));
+        assertTrue(addressBookSaver.flush());
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void populateAddressBook_manyTasks_addedInChunks() {
+        AddressBook addressBook = new AddressBook();
+        int taskCount = 2 * LogicManager.TASKS_PER_POPULATE_STEP + 1;
+        for (int i = 0; i < taskCount; i++) {
+            addressBook.addTask(new TodoBuilder().withDescription("Task " + i).build());
+        }
+        List<Runnable> steps = new ArrayList<>();
+
+        logic.populateAddressBook(addressBook, steps::add);
+        for (int i = 0; i < steps.size(); i++) {
+            steps.get(i).run();
+        }
+
+        // One step for the persons, and one for each chunk of tasks
+        assertEquals(4, steps.size());
+        assertEquals(addressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_undoAndRedo_restoresAddressBook() throws Exception {
+        String addEmployeeCommand = AddEmployeeCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY;
+        logic.execute(addEmployeeCommand);
+        logic.execute(ListTaskCommand.COMMAND_WORD);
+
+        // Commands that do not change the address book are not undone
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).build());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    private AddressBookSaver setUpIoExceptionThrowingSaver() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        AddressBookSaver addressBookSaver = new AddressBookSaver(new StorageManager(addressBookStorage,
+                userPrefsStorage));
+        logic = new LogicManager(model, addressBookSaver);
+        return addressBookSaver;
     }
 
     @Test
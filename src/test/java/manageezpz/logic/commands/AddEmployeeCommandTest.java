@@ -9,23 +9,36 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
+import manageezpz.commons.util.PrefixTrie;
+import manageezpz.commons.util.TrigramIndex;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.AddressBook;
 import manageezpz.model.Model;
 import manageezpz.model.ReadOnlyAddressBook;
 import manageezpz.model.ReadOnlyUserPrefs;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskAttributeIndex;
+import manageezpz.model.task.TaskDateIndex;
+import manageezpz.model.task.TaskKeywordIndex;
 import manageezpz.model.task.Todo;
 import manageezpz.testutil.PersonBuilder;
 
@@ -130,28 +143,73 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearAddressBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deletePerson(Person target) {
+        public Optional<Person> findByName(Name name) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void setPerson(Person target, Person editedPerson) {
+        public Optional<Person> findByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void increaseNumOfTasks(Person person) {
+        public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void decreaseNumOfTasks(Person person) {
+        public ReadOnlyIntegerProperty getNumOfTasksProperty(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -165,11 +223,26 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPersonDisplayed(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTask(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTodo(Todo todo) {
             throw new AssertionError("This method should not be called.");
@@ -190,6 +263,11 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Task> getFilteredTaskList() {
             throw new AssertionError("This method should not be called.");
@@ -221,22 +299,67 @@ public class AddEmployeeCommandTest {
         }
 
         @Override
-        public boolean hasPriority(Task task) {
+        public List<Task> getTasksAssignedTo(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void setTask(Task target, Task editedTask) {
+        public List<Person> getAssignees(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteTask(Task task) {
+        public String getAssigneesLabel(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
+        public TaskKeywordIndex getTaskKeywordIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskDateIndex getTaskDateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public BitSet findTaskIdsAssignedTo(int personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskAttributeIndex getTaskAttributeIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TrigramIndex getTaskTrigramIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TrigramIndex getPersonTrigramIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PrefixTrie getPersonNameTrie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPriority(Task task) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTask(Task target, Task editedTask) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTask(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
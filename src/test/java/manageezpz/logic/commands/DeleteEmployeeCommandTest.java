@@ -59,26 +59,22 @@ public class DeleteEmployeeCommandTest {
         Task taskEvent = new EventBuilder().withDescription("Meeting with Client")
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
-        // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-
-        // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-
-        // Add persons to the new address book
+        // Add persons to the new address book, which gives them the ids that tasks refer to them by
         model.addPerson(personAlex);
         model.addPerson(personBernice);
         model.addPerson(personCharlotte);
+        personAlex = model.findByName(personAlex.getName()).get();
+        personCharlotte = model.findByName(personCharlotte.getName()).get();
+
+        // Tag tasks to Alex
+        taskToDo = taskToDo.withAssignee(personAlex);
+        taskDeadline = taskDeadline.withAssignee(personAlex);
+        taskEvent = taskEvent.withAssignee(personAlex);
+
+        // Tag tasks to Charlotte
+        taskToDo = taskToDo.withAssignee(personCharlotte);
+        taskDeadline = taskDeadline.withAssignee(personCharlotte);
+        taskEvent = taskEvent.withAssignee(personCharlotte);
 
         // Add tasks to the new address book
         model.addTask(taskToDo);
@@ -94,8 +90,8 @@ public class DeleteEmployeeCommandTest {
         DeleteEmployeeCommand deleteEmployeeCommand = new DeleteEmployeeCommand(INDEX_FIRST);
 
         assertEquals(model.getFilteredPersonList().size(), 3);
-        assertEquals(personToDelete.getNumOfTasks(), 3);
-        assertEquals(modelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(model.getNumOfTasksProperty(personToDelete).get(), 3);
+        assertEquals(model.getAssignees(modelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Alex Yeoh; Phone: 87438807; Email: alexyeoh@example.com, "
                         + "Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
@@ -106,7 +102,7 @@ public class DeleteEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToDelete))
+                .filter(task -> task.isAssignedTo(personToDelete))
                 .collect(Collectors.toList());
 
         for (Task task : affectedTaskList) {
@@ -116,11 +112,14 @@ public class DeleteEmployeeCommandTest {
         expectedModel.deletePerson(personToDelete);
 
         assertEquals(expectedModel.getFilteredPersonList().size(), 2);
-        assertEquals(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
         assertCommandSuccess(deleteEmployeeCommand, model, expectedMessage, expectedModel);
@@ -146,8 +145,8 @@ public class DeleteEmployeeCommandTest {
         DeleteEmployeeCommand deleteEmployeeCommand = new DeleteEmployeeCommand(INDEX_FIRST);
 
         assertEquals(model.getFilteredPersonList().size(), 1);
-        assertEquals(personToDelete.getNumOfTasks(), 3);
-        assertEquals(modelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(model.getNumOfTasksProperty(personToDelete).get(), 3);
+        assertEquals(model.getAssignees(modelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Alex Yeoh; Phone: 87438807; Email: alexyeoh@example.com, "
                         + "Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
@@ -158,7 +157,7 @@ public class DeleteEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToDelete))
+                .filter(task -> task.isAssignedTo(personToDelete))
                 .collect(Collectors.toList());
 
         for (Task task : affectedTaskList) {
@@ -169,11 +168,14 @@ public class DeleteEmployeeCommandTest {
         showNoPerson(expectedModel);
 
         assertEquals(expectedModel.getFilteredPersonList().size(), 0);
-        assertEquals(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()).getAssignees().toString(),
+        assertEquals(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
         assertCommandSuccess(deleteEmployeeCommand, model, expectedMessage, expectedModel);
@@ -13,8 +13,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,26 +56,22 @@ public class DeleteTaskCommandTest {
         Task taskEvent = new EventBuilder().withDescription("Meeting with Client")
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
-        // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-
-        // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-
-        // Add persons to the new address book
+        // Add persons to the new address book, which gives them the ids that tasks refer to them by
         model.addPerson(personAlex);
         model.addPerson(personBernice);
         model.addPerson(personCharlotte);
+        personAlex = model.findByName(personAlex.getName()).get();
+        personCharlotte = model.findByName(personCharlotte.getName()).get();
+
+        // Tag tasks to Alex
+        taskToDo = taskToDo.withAssignee(personAlex);
+        taskDeadline = taskDeadline.withAssignee(personAlex);
+        taskEvent = taskEvent.withAssignee(personAlex);
+
+        // Tag tasks to Charlotte
+        taskToDo = taskToDo.withAssignee(personCharlotte);
+        taskDeadline = taskDeadline.withAssignee(personCharlotte);
+        taskEvent = taskEvent.withAssignee(personCharlotte);
 
         // Add tasks to the new address book
         model.addTask(taskToDo);
@@ -87,35 +81,24 @@ public class DeleteTaskCommandTest {
 
     @Test
     public void execute_validIndexUnfilteredList_success() {
-        List<Person> modelFullPersonList = model.getAddressBook().getPersonList();
-
         Task taskToDelete = model.getFilteredTaskList().get(INDEX_FIRST.getZeroBased());
         DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(INDEX_FIRST);
 
         assertEquals(model.getFilteredTaskList().size(), 3);
-        assertEquals(modelFullPersonList.get(INDEX_FIRST.getZeroBased()).getNumOfTasks(), 3);
-        assertEquals(modelFullPersonList.get(INDEX_SECOND.getZeroBased()).getNumOfTasks(), 0);
-        assertEquals(modelFullPersonList.get(INDEX_THIRD.getZeroBased()).getNumOfTasks(), 3);
+        assertEquals(getNumOfTasks(model, INDEX_FIRST), 3);
+        assertEquals(getNumOfTasks(model, INDEX_SECOND), 0);
+        assertEquals(getNumOfTasks(model, INDEX_THIRD), 3);
 
         String expectedMessage = String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete);
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
-        List<Person> expectedModelFullPersonList = expectedModel.getAddressBook().getPersonList();
-
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
-
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = expectedModelFullPersonList.get(expectedModelFullPersonList.indexOf(person));
-            expectedModel.decreaseNumOfTasks(personToUpdate);
-        }
-
         expectedModel.deleteTask(taskToDelete);
 
         assertEquals(expectedModel.getFilteredTaskList().size(), 2);
-        assertEquals(expectedModelFullPersonList.get(INDEX_FIRST.getZeroBased()).getNumOfTasks(), 2);
-        assertEquals(expectedModelFullPersonList.get(INDEX_SECOND.getZeroBased()).getNumOfTasks(), 0);
-        assertEquals(expectedModelFullPersonList.get(INDEX_THIRD.getZeroBased()).getNumOfTasks(), 2);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_FIRST), 2);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_SECOND), 0);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_THIRD), 2);
 
         assertCommandSuccess(deleteTaskCommand, model, expectedMessage, expectedModel);
     }
@@ -132,38 +115,27 @@ public class DeleteTaskCommandTest {
 
     @Test
     public void execute_validIndexFilteredList_success() {
-        List<Person> modelFullPersonList = model.getAddressBook().getPersonList();
-
         showTaskAtIndex(model, INDEX_FIRST);
 
         Task taskToDelete = model.getFilteredTaskList().get(INDEX_FIRST.getZeroBased());
         DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(INDEX_FIRST);
 
         assertEquals(model.getFilteredTaskList().size(), 1);
-        assertEquals(modelFullPersonList.get(INDEX_FIRST.getZeroBased()).getNumOfTasks(), 3);
-        assertEquals(modelFullPersonList.get(INDEX_SECOND.getZeroBased()).getNumOfTasks(), 0);
-        assertEquals(modelFullPersonList.get(INDEX_THIRD.getZeroBased()).getNumOfTasks(), 3);
+        assertEquals(getNumOfTasks(model, INDEX_FIRST), 3);
+        assertEquals(getNumOfTasks(model, INDEX_SECOND), 0);
+        assertEquals(getNumOfTasks(model, INDEX_THIRD), 3);
 
         String expectedMessage = String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete);
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
-        List<Person> expectedModelFullPersonList = expectedModel.getAddressBook().getPersonList();
-
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
-
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = expectedModelFullPersonList.get(expectedModelFullPersonList.indexOf(person));
-            expectedModel.decreaseNumOfTasks(personToUpdate);
-        }
-
         expectedModel.deleteTask(taskToDelete);
         showNoTask(expectedModel);
 
         assertEquals(expectedModel.getFilteredTaskList().size(), 0);
-        assertEquals(expectedModelFullPersonList.get(INDEX_FIRST.getZeroBased()).getNumOfTasks(), 2);
-        assertEquals(expectedModelFullPersonList.get(INDEX_SECOND.getZeroBased()).getNumOfTasks(), 0);
-        assertEquals(expectedModelFullPersonList.get(INDEX_THIRD.getZeroBased()).getNumOfTasks(), 2);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_FIRST), 2);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_SECOND), 0);
+        assertEquals(getNumOfTasks(expectedModel, INDEX_THIRD), 2);
 
         assertCommandSuccess(deleteTaskCommand, model, expectedMessage, expectedModel);
     }
@@ -213,4 +185,8 @@ public class DeleteTaskCommandTest {
 
         assertTrue(model.getFilteredTaskList().isEmpty());
     }
+
+    private static int getNumOfTasks(Model model, Index index) {
+        return model.getNumOfTasksProperty(model.getAddressBook().getPersonList().get(index.getZeroBased())).get();
+    }
 }
@@ -67,26 +67,22 @@ public class EditEmployeeCommandTest {
         Task taskEvent = new EventBuilder().withDescription("Meeting with Client")
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
-        // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-
-        // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-
-        // Add persons to the new address book
+        // Add persons to the new address book, which gives them the ids that tasks refer to them by
         model.addPerson(personAlex);
         model.addPerson(personBernice);
         model.addPerson(personCharlotte);
+        personAlex = model.findByName(personAlex.getName()).get();
+        personCharlotte = model.findByName(personCharlotte.getName()).get();
+
+        // Tag tasks to Alex
+        taskToDo = taskToDo.withAssignee(personAlex);
+        taskDeadline = taskDeadline.withAssignee(personAlex);
+        taskEvent = taskEvent.withAssignee(personAlex);
+
+        // Tag tasks to Charlotte
+        taskToDo = taskToDo.withAssignee(personCharlotte);
+        taskDeadline = taskDeadline.withAssignee(personCharlotte);
+        taskEvent = taskEvent.withAssignee(personCharlotte);
 
         // Add tasks to the new address book
         model.addTask(taskToDo);
@@ -112,35 +108,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEdit))
+                .filter(task -> task.isAssignedTo(personToEdit))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEdit));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEdit));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEdit));
+
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -164,35 +149,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(lastPersonToEdit))
+                .filter(task -> task.isAssignedTo(lastPersonToEdit))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(lastPersonToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(lastPersonToEdit));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(lastPersonToEdit));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(lastPersonToEdit));
+
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -215,35 +189,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEdit))
+                .filter(task -> task.isAssignedTo(personToEdit))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEdit));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEdit));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEdit));
+
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -269,35 +232,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEditInFilteredList))
+                .filter(task -> task.isAssignedTo(personToEditInFilteredList))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEditInFilteredList)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEditInFilteredList));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEditInFilteredList));
+        assertFalse(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEditInFilteredList));
+
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(expectedModel.getAssignees(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
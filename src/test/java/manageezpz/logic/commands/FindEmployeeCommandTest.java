@@ -4,6 +4,8 @@ import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BENSON;
 import static manageezpz.testutil.TypicalPersons.CARL;
+import static manageezpz.testutil.TypicalPersons.DANIEL;
+import static manageezpz.testutil.TypicalPersons.ELLE;
 import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -63,6 +65,20 @@ class FindEmployeeCommandTest {
         assertEquals(expectedPeople, model.getFilteredPersonList());
     }
 
+    @Test
+    void findEmployeeCommand_withFuzzyNames_showClosestEmployeesFirst() {
+        // Meyer is an exact match for Elle Meyer and a single edit away from Meier
+        PersonMultiplePredicate predicate = new PersonMultiplePredicate(List.of("Meyer"), null, null)
+                .withFuzzyNames();
+        expectedModel.updateFilteredPersonList(predicate, predicate.getRelevanceComparator());
+        List<Person> expectedPeople = List.of(ELLE, BENSON, DANIEL);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindEmployeeCommand command = new FindEmployeeCommand(predicate);
+
+        assertCommandSuccess(command, model, message, expectedModel);
+        assertEquals(expectedPeople, model.getFilteredPersonList());
+    }
+
     @Test
     void findEmployeeCommand_withPhone_showEmployeeWithPhone() {
         PersonMultiplePredicate predicate = new PersonMultiplePredicate(null, ALICE.getPhone().toString(),
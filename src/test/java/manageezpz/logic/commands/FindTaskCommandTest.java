@@ -18,6 +18,7 @@ import static manageezpz.testutil.TypicalTasks.WEEKLY_QUIZ;
 import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
@@ -32,6 +33,7 @@ import manageezpz.model.task.Date;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
 import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQuery;
 
 class FindTaskCommandTest {
     private Model model = new ModelManager(getTypicalAddressBookTasks(), new UserPrefs());
@@ -106,6 +108,20 @@ class FindTaskCommandTest {
         assertEquals(expectedTasks2, model.getFilteredTaskList());
     }
 
+    @Test
+    void findCommand_findTaskWithFuzzyDescription_showClosestTasksFirst() {
+        // Return Book matches both misspelt words, while Read Book only matches one of them
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, List.of("bok", "Retrn"), null, null,
+                null, null).withFuzzyDescriptions();
+        expectedModel.updateFilteredTaskList(predicate, predicate.getRelevanceComparator());
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
+        List<Task> expectedTasks = List.of(RETURN_BOOK, READ_BOOK);
+        FindTaskCommand command = new FindTaskCommand(predicate);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+    }
+
     @Test
     void findCommand_findTaskWithDate_showTasksWithGivenDate() {
         Date date = new Date("2022-04-01");
@@ -137,7 +153,7 @@ class FindTaskCommandTest {
     void findCommand_findTaskWithAssignee_showTasksWithGivenAssignee() {
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
                 null, null, null, GEORGE.getName().fullName, null);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(predicate.withAssignee(GEORGE));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 4);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE, FYP_REPORT, RETURN_BOOK, HOUSE_VISTING);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -165,7 +181,7 @@ class FindTaskCommandTest {
         Date date = new Date("2022-04-01");
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(PREFIX_DEADLINE, keywords, date,
                 Priority.HIGH, GEORGE.getName().toString(), Boolean.TRUE);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(predicate.withAssignee(GEORGE));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -173,4 +189,28 @@ class FindTaskCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(expectedTasks, model.getFilteredTaskList());
     }
+
+    @Test
+    void findCommand_findTaskWithQuery_showsTasksMatchingQueryAndPlan() throws Exception {
+        TaskQuery query = TaskQuery.and(List.of(
+                TaskQuery.or(List.of(TaskQuery.hasPriority(TaskQuery.Comparison.EQUAL, Priority.HIGH),
+                        TaskQuery.hasKeyword("book"))),
+                TaskQuery.not(TaskQuery.isAssignedTo(GEORGE.getName().fullName))));
+        List<Task> expectedTasks = List.of(WEEKLY_QUIZ, READ_BOOK);
+
+        CommandResult result = new FindTaskCommand(query, false).execute(model);
+        assertEquals(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+
+        // The plan looks up the priority, keyword and assignee in the indexes
+        String explainedResult = new FindTaskCommand(query, true).execute(model).getFeedbackToUser();
+        assertTrue(explainedResult.startsWith(String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2) + "\nPlan:\n"));
+        assertTrue(explainedResult.contains("INDEX ((priority=HIGH OR desc=book) AND NOT assignee=\""
+                + GEORGE.getName().fullName + "\") -> 2 tasks"), explainedResult);
+        assertTrue(explainedResult.matches("(?s).*Evaluated in \\d+\\.\\d{3} ms"), explainedResult);
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+
+        assertNotEquals(new FindTaskCommand(query, false), new FindTaskCommand(query, true));
+        assertEquals(new FindTaskCommand(query, true), new FindTaskCommand(query, true));
+    }
 }
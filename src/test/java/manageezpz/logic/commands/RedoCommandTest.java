@@ -0,0 +1,34 @@
+package manageezpz.logic.commands;
+
+import static manageezpz.logic.commands.CommandTestUtil.assertCommandFailure;
+import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.AddressBook;
+import manageezpz.model.Model;
+import manageezpz.model.ModelManager;
+import manageezpz.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noUndoneChanges_failure() {
+        Model model = new ModelManager(getTypicalAddressBookEmployees(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneClear_clearsAddressBookAgain() {
+        Model model = new ModelManager(getTypicalAddressBookEmployees(), new UserPrefs());
+        Model expectedModel = new ModelManager();
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
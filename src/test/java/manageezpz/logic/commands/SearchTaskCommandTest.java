@@ -0,0 +1,87 @@
+package manageezpz.logic.commands;
+
+import static manageezpz.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static manageezpz.testutil.TypicalTasks.GET_A_DRINK;
+import static manageezpz.testutil.TypicalTasks.GET_DRINK;
+import static manageezpz.testutil.TypicalTasks.GET_HAIRCUT;
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.Model;
+import manageezpz.model.ModelManager;
+import manageezpz.model.UserPrefs;
+import manageezpz.model.task.TaskRelevancePredicate;
+
+class SearchTaskCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBookTasks(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBookTasks(), new UserPrefs());
+
+    @Test
+    void equals() {
+        SearchTaskCommand firstCommand = new SearchTaskCommand(List.of("Genshin"), 5);
+        SearchTaskCommand secondCommand = new SearchTaskCommand(List.of("Impact"), 5);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SearchTaskCommand(List.of("Genshin"), 5)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // different limit -> returns false
+        assertFalse(firstCommand.equals(new SearchTaskCommand(List.of("Genshin"), 6)));
+    }
+
+    @Test
+    void execute_noMatchingKeywords_noTaskFound() {
+        TaskRelevancePredicate predicate = new TaskRelevancePredicate(List.of("Genshin"), 5,
+                expectedModel.getTaskKeywordIndex());
+        expectedModel.updateFilteredTaskList(predicate, predicate.getRelevanceComparator());
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 0);
+        SearchTaskCommand command = new SearchTaskCommand(List.of("Genshin"), 5);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    void execute_multipleKeywords_mostRelevantTasksFirst() {
+        // Get Drink has both words and is shorter than get a drink, while Get Haircut only has one of them
+        TaskRelevancePredicate predicate = new TaskRelevancePredicate(List.of("get", "drink"),
+                SearchTaskCommand.DEFAULT_LIMIT, expectedModel.getTaskKeywordIndex());
+        expectedModel.updateFilteredTaskList(predicate, predicate.getRelevanceComparator());
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
+        SearchTaskCommand command = new SearchTaskCommand(List.of("get", "drink"), SearchTaskCommand.DEFAULT_LIMIT);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(GET_DRINK, GET_A_DRINK, GET_HAIRCUT), model.getFilteredTaskList());
+    }
+
+    @Test
+    void execute_limit_onlyMostRelevantTasksFound() {
+        TaskRelevancePredicate predicate = new TaskRelevancePredicate(List.of("get", "drink"), 2,
+                expectedModel.getTaskKeywordIndex());
+        expectedModel.updateFilteredTaskList(predicate, predicate.getRelevanceComparator());
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
+        SearchTaskCommand command = new SearchTaskCommand(List.of("get", "drink"), 2);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(GET_DRINK, GET_A_DRINK), model.getFilteredTaskList());
+    }
+}
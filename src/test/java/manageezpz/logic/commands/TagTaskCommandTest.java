@@ -16,7 +16,6 @@ import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.task.Task;
-import manageezpz.model.task.Todo;
 import manageezpz.testutil.TodoBuilder;
 import manageezpz.testutil.TypicalTasks;
 
@@ -31,12 +30,12 @@ public class TagTaskCommandTest {
     @Test
     public void tagTaskCommand_success_assertEquals() throws CommandException, ParseException {
 
-        Todo sameTodo = new TodoBuilder().withDescription("Weekly Quiz").build();
+        Task sameTodo = new TodoBuilder().withDescription("Weekly Quiz").build();
         model.addPerson(BOB);
-        sameTodo.addAssignees(BOB);
+        sameTodo = sameTodo.withAssignee(BOB);
         Index index = ParserUtil.parseIndex("1");
         Task task = model.getAddressBook().getTaskList().get(index.getZeroBased());
-        if (task.getAssignees().contains(BOB)) {
+        if (task.isAssignedTo(BOB)) {
             model.untagEmployeeFromTask(task, BOB);
         }
         TagTaskCommand tagTaskCommand = new TagTaskCommand(index, BOB.getName().toString());
@@ -0,0 +1,42 @@
+package manageezpz.logic.commands;
+
+import static manageezpz.logic.commands.CommandTestUtil.assertCommandFailure;
+import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.AddressBook;
+import manageezpz.model.Model;
+import manageezpz.model.ModelManager;
+import manageezpz.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_failure() {
+        Model model = new ModelManager(getTypicalAddressBookEmployees(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_clearedAddressBook_restoresAddressBook() {
+        Model model = new ModelManager(getTypicalAddressBookEmployees(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBookEmployees(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_zeroHistoryDepth_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        Model model = new ModelManager(getTypicalAddressBookEmployees(), userPrefs);
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -17,7 +17,6 @@ import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.task.Task;
-import manageezpz.model.task.Todo;
 import manageezpz.testutil.TodoBuilder;
 import manageezpz.testutil.TypicalTasks;
 
@@ -30,13 +29,13 @@ public class UntagTaskCommandTest {
     public void untagTaskCommand_success_assertEquals() throws CommandException, ParseException {
 
         // Create a Todo task.
-        Todo sameTodo = new TodoBuilder().withDescription("Weekly Quiz").build();
+        Task sameTodo = new TodoBuilder().withDescription("Weekly Quiz").build();
 
         // Populate model's UniquePersonList
         model.addPerson(BOB);
 
         // Add Bob to created Todo Task.
-        sameTodo.addAssignees(BOB);
+        sameTodo = sameTodo.withAssignee(BOB);
 
         // Get the Same task in model's UniqueTaskList.
         Index index = ParserUtil.parseIndex("1");
@@ -46,7 +45,7 @@ public class UntagTaskCommandTest {
         model.tagEmployeeToTask(task, BOB);
 
         // Simulate untag task for both, compare results.
-        if (task.getAssignees().contains(BOB)) {
+        if (task.isAssignedTo(BOB)) {
             UntagTaskCommand untagTaskCommand = new UntagTaskCommand(index, BOB.getName().toString());
             String expectedMessage = String.format(MESSAGE_UNTAG_TASK_SUCCESS,
                     BOB.getName().toString()) + sameTodo;
@@ -67,8 +66,8 @@ public class UntagTaskCommandTest {
         Task task = model.getAddressBook().getTaskList().get(index.getZeroBased());
 
         // If task is already assigned with Person Bob, untag first.
-        if (task.getAssignees().contains(BOB)) {
-            task.removeAssigned(BOB);
+        if (task.isAssignedTo(BOB)) {
+            task = model.untagEmployeeFromTask(task, BOB);
         }
 
         // Simulate untag task
@@ -0,0 +1,54 @@
+package manageezpz.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import manageezpz.commons.util.PrefixTrie;
+
+class CommandCompleterTest {
+    private final CommandCompleter completer = new CommandCompleter();
+    private final PrefixTrie names = new PrefixTrie();
+
+    @BeforeEach
+    void setNames() {
+        names.add("Alex Yeoh");
+        names.add("Alice Pauline");
+        names.add("Bernice Yu");
+    }
+
+    @Test
+    void getCompletions_emptyText_noCompletions() {
+        assertEquals(List.of(), completer.getCompletions("  ", names));
+    }
+
+    @Test
+    void getCompletions_commandWord_completesCommandWords() {
+        assertEquals(List.of("tagPriority ", "tagTask "), completer.getCompletions("tag", names));
+        assertEquals(List.of(" untagTask "), completer.getCompletions(" UNT", names));
+        assertEquals(List.of(), completer.getCompletions("tags", names));
+    }
+
+    @Test
+    void getCompletions_nameOption_completesNames() {
+        assertEquals(List.of("tagTask 1 n/Alex Yeoh", "tagTask 1 n/Alice Pauline"),
+                completer.getCompletions("tagTask 1 n/al", names));
+        assertEquals(List.of("findTask desc/work assignees/ Bernice Yu"),
+                completer.getCompletions("findTask desc/work assignees/ b", names));
+        assertEquals(List.of("untagTask 2 n/Alex Yeoh"), completer.getCompletions("untagTask 2 n/alex ", names));
+    }
+
+    @Test
+    void getCompletions_optionAfterName_noCompletions() {
+        assertEquals(List.of(), completer.getCompletions("editEmployee 1 n/Alex p/9", names));
+        assertEquals(List.of(), completer.getCompletions("tagTask 1", names));
+    }
+
+    @Test
+    void getCompletions_newEmployee_noCompletions() {
+        assertEquals(List.of(), completer.getCompletions("addEmployee n/Al", names));
+    }
+}
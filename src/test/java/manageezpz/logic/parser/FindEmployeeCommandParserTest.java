@@ -4,6 +4,7 @@ import static manageezpz.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static manageezpz.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static manageezpz.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -28,6 +29,9 @@ class FindEmployeeCommandParserTest {
             FindEmployeeCommand.INVALID_PHONE + FindEmployeeCommand.MESSAGE_USAGE);
     private static final String INVALID_EMAIL_MESSAGE = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
             FindEmployeeCommand.INVALID_EMAIL + FindEmployeeCommand.MESSAGE_USAGE);
+    private static final String FUZZY_WITHOUT_NAME_MESSAGE = String.format(
+            Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindEmployeeCommand.FUZZY_WITHOUT_NAME + FindEmployeeCommand.MESSAGE_USAGE);
 
     private FindEmployeeCommandParser parser;
 
@@ -69,6 +73,23 @@ class FindEmployeeCommandParserTest {
         assertParseSuccess(parser, userInput, command);
     }
 
+    @Test
+    void findEmployeeCommandParser_fuzzyNames_findCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_NAME.getPrefix(), VALID_NAME_AMY,
+                PREFIX_FUZZY.getPrefix());
+        List<String> names = List.of((VALID_NAME_AMY).split(" "));
+        PersonMultiplePredicate predicate = new PersonMultiplePredicate(names, null, null).withFuzzyNames();
+        FindEmployeeCommand command = new FindEmployeeCommand(predicate);
+        assertParseSuccess(parser, userInput, command);
+    }
+
+    @Test
+    void findEmployeeCommandParser_fuzzyWithoutName_throwParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_PHONE.getPrefix(), VALID_PHONE_AMY,
+                PREFIX_FUZZY.getPrefix());
+        assertParseFailure(parser, userInput, FUZZY_WITHOUT_NAME_MESSAGE);
+    }
+
     @Test
     void findEmployeeCommandParser_emptyPhone_throwParseException() {
         String userInput = String.join(" ", EMPTY_STRING, PREFIX_PHONE.getPrefix());
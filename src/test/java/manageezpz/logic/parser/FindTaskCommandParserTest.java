@@ -13,12 +13,20 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_ASSIGNEES;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_OVERDUE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_QUERY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TO_DATE;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +35,7 @@ import manageezpz.logic.commands.FindTaskCommand;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQuery;
 
 class FindTaskCommandParserTest {
     private static final String EMPTY_STRING = "";
@@ -54,6 +63,18 @@ class FindTaskCommandParserTest {
     private static final String MORE_THAN_ONE_TASK_TYPE_ERROR_MESSAGE =
             String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
             FindTaskCommand.MORE_THAN_ONE_TASK_TYPE + FindTaskCommand.MESSAGE_USAGE);
+    private static final String FROM_DATE_AFTER_TO_DATE_ERROR_MESSAGE =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindTaskCommand.FROM_DATE_AFTER_TO_DATE + FindTaskCommand.MESSAGE_USAGE);
+    private static final String QUERY_WITH_OTHER_OPTIONS_ERROR_MESSAGE =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindTaskCommand.QUERY_WITH_OTHER_OPTIONS + FindTaskCommand.MESSAGE_USAGE);
+    private static final String EXPLAIN_WITHOUT_QUERY_ERROR_MESSAGE =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindTaskCommand.EXPLAIN_WITHOUT_QUERY + FindTaskCommand.MESSAGE_USAGE);
+    private static final String FUZZY_WITHOUT_DESCRIPTION_ERROR_MESSAGE =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindTaskCommand.FUZZY_WITHOUT_DESCRIPTION + FindTaskCommand.MESSAGE_USAGE);
 
     private FindTaskCommandParser parser;
 
@@ -104,6 +125,22 @@ class FindTaskCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    void findTaskCommandParser_fuzzyDescription_findTaskCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_DESCRIPTION.toString(), VALID_TASK_DESCRIPTION,
+                PREFIX_FUZZY.toString());
+        TaskMultiplePredicate expectedPredicate = new TaskMultiplePredicate(null, LIST_DESCRIPTIONS, null,
+                null, null, null).withFuzzyDescriptions();
+        FindTaskCommand expectedCommand = new FindTaskCommand(expectedPredicate);
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    void findTaskCommandParser_fuzzyWithoutDescription_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_TODO.toString(), PREFIX_FUZZY.toString());
+        assertParseFailure(parser, userInput, FUZZY_WITHOUT_DESCRIPTION_ERROR_MESSAGE);
+    }
+
     @Test
     void findTaskCommandParser_noDate_throwsParseException() {
         String userInput = String.join(" ", EMPTY_STRING, PREFIX_DATE.toString());
@@ -132,6 +169,35 @@ class FindTaskCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    void findTaskCommandParser_invalidFromDate_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_FROM_DATE.toString(), INVALID_DATE);
+        assertParseFailure(parser, userInput, INVALID_DATE_ERROR_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_fromDateAfterToDate_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_FROM_DATE.toString(), "2022-05-02",
+                PREFIX_TO_DATE.toString(), "2022-05-01");
+        assertParseFailure(parser, userInput, FROM_DATE_AFTER_TO_DATE_ERROR_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_todoWithOverdueOption_throwParseError() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_TODO.toString(), PREFIX_OVERDUE.toString());
+        assertParseFailure(parser, userInput, TODO_DATE_ERROR_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_validDateRange_findTaskCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_FROM_DATE.toString(), "2022-05-01",
+                PREFIX_TO_DATE.toString(), "2022-05-07", PREFIX_OVERDUE.toString());
+        TaskMultiplePredicate expectedPredicate = new TaskMultiplePredicate(null, null, null, null, null, null,
+                new Date("2022-05-01"), new Date("2022-05-07"), true);
+        FindTaskCommand expectedCommand = new FindTaskCommand(expectedPredicate);
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
     @Test
     void findTaskCommandParser_emptyPriority_throwParseException() {
         String userInput = String.join(" ", EMPTY_STRING, PREFIX_PRIORITY.toString());
@@ -207,4 +273,36 @@ class FindTaskCommandParserTest {
         FindTaskCommand expectedCommand = new FindTaskCommand(expectedPredicate);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    void findTaskCommandParser_validQuery_findTaskCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_QUERY.toString(),
+                "priority>=MEDIUM AND NOT desc=book", PREFIX_EXPLAIN.toString());
+        TaskQuery expectedQuery = TaskQuery.and(List.of(
+                TaskQuery.hasPriority(TaskQuery.Comparison.GREATER_OR_EQUAL, Priority.MEDIUM),
+                TaskQuery.not(TaskQuery.hasKeyword("book"))));
+        assertParseSuccess(parser, userInput, new FindTaskCommand(expectedQuery, true));
+    }
+
+    @Test
+    void findTaskCommandParser_invalidQuery_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_QUERY.toString(), "priority=URGENT");
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+                String.format(FindTaskCommand.INVALID_QUERY, "Priority should be NONE, LOW, MEDIUM or HIGH")
+                + FindTaskCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, userInput, expectedMessage);
+    }
+
+    @Test
+    void findTaskCommandParser_queryWithOtherOptions_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_TODO.toString(), PREFIX_QUERY.toString(),
+                "desc=book");
+        assertParseFailure(parser, userInput, QUERY_WITH_OTHER_OPTIONS_ERROR_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_explainWithoutQuery_throwsParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_TODO.toString(), PREFIX_EXPLAIN.toString());
+        assertParseFailure(parser, userInput, EXPLAIN_WITHOUT_QUERY_ERROR_MESSAGE);
+    }
 }
@@ -0,0 +1,40 @@
+package manageezpz.logic.parser;
+
+import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TOP;
+import static manageezpz.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static manageezpz.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.logic.commands.SearchTaskCommand;
+
+class SearchTaskCommandParserTest {
+    private final SearchTaskCommandParser parser = new SearchTaskCommandParser();
+
+    @Test
+    void parse_noKeywords_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT_BIND, SearchTaskCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TOP.getPrefix() + "5", expectedMessage);
+    }
+
+    @Test
+    void parse_invalidLimit_failure() {
+        String expectedMessage = SearchTaskCommand.INVALID_LIMIT + SearchTaskCommand.MESSAGE_USAGE;
+        assertParseFailure(parser, " book " + PREFIX_TOP.getPrefix() + "0", expectedMessage);
+        assertParseFailure(parser, " book " + PREFIX_TOP.getPrefix() + "-1", expectedMessage);
+        assertParseFailure(parser, " book " + PREFIX_TOP.getPrefix() + "five", expectedMessage);
+        assertParseFailure(parser, " book " + PREFIX_TOP.getPrefix(), expectedMessage);
+    }
+
+    @Test
+    void parse_validArgs_returnsSearchTaskCommand() {
+        assertParseSuccess(parser, " \n Return \t book  ",
+                new SearchTaskCommand(List.of("Return", "book"), SearchTaskCommand.DEFAULT_LIMIT));
+        assertParseSuccess(parser, " Return book " + PREFIX_TOP.getPrefix() + "3",
+                new SearchTaskCommand(List.of("Return", "book"), 3));
+    }
+}
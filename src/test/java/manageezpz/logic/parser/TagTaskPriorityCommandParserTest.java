@@ -29,7 +29,7 @@ import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.task.Priority;
-import manageezpz.model.task.Todo;
+import manageezpz.model.task.Task;
 import manageezpz.testutil.TodoBuilder;
 import manageezpz.testutil.TypicalTasks;
 
@@ -46,8 +46,8 @@ public class TagTaskPriorityCommandParserTest {
         // Setup Priority
         Priority priority = Priority.valueOf("HIGH");
 
-        Todo expectedTodo = new TodoBuilder().withDescription(VALID_TASK_DESCRIPTION).build();
-        expectedTodo.setPriority(priority);
+        Task expectedTodo = new TodoBuilder().withDescription(VALID_TASK_DESCRIPTION).build()
+                .withPriority(priority);
 
         // whitespace only preamble
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_TAG_PRIORITY,
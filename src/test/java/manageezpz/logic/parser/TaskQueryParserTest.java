@@ -0,0 +1,68 @@
+package manageezpz.logic.parser;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.TaskQuery;
+import manageezpz.model.task.TaskQuery.Comparison;
+import manageezpz.model.task.Todo;
+
+public class TaskQueryParserTest {
+
+    @Test
+    public void parse_singleClause_success() throws Exception {
+        assertEquals(TaskQuery.ofType(Todo.class), TaskQueryParser.parse("type=todo"));
+        assertEquals(TaskQuery.hasKeyword("Book"), TaskQueryParser.parse(" desc = Book "));
+        assertEquals(TaskQuery.isDated(Comparison.LESS_OR_EQUAL, new Date("2022-04-01")),
+                TaskQueryParser.parse("date<=2022-04-01"));
+        assertEquals(TaskQuery.hasPriority(Comparison.GREATER, Priority.LOW),
+                TaskQueryParser.parse("priority > low"));
+        assertEquals(TaskQuery.isMarked(true), TaskQueryParser.parse("isMarked=TRUE"));
+        assertEquals(TaskQuery.isAssignedTo("Alex Yeoh"), TaskQueryParser.parse("assignee=\"Alex Yeoh\""));
+        assertEquals(TaskQuery.isOverdue(Date.getTodayDate()), TaskQueryParser.parse("overdue"));
+    }
+
+    @Test
+    public void parse_operators_notBindsTighterThanAndThanOr() throws Exception {
+        TaskQuery todo = TaskQuery.ofType(Todo.class);
+        TaskQuery deadline = TaskQuery.ofType(Deadline.class);
+        TaskQuery marked = TaskQuery.isMarked(true);
+
+        assertEquals(TaskQuery.or(List.of(todo, TaskQuery.and(List.of(deadline, TaskQuery.not(marked))))),
+                TaskQueryParser.parse("type=todo OR type=deadline and NOT isMarked=true"));
+        assertEquals(TaskQuery.and(List.of(TaskQuery.or(List.of(todo, deadline)), marked)),
+                TaskQueryParser.parse("(type=todo OR type=deadline) AND isMarked=true"));
+        assertEquals(TaskQuery.not(TaskQuery.not(todo)), TaskQueryParser.parse("NOT NOT type=todo"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, "The query ends unexpectedly", () -> TaskQueryParser.parse(" "));
+        assertThrows(ParseException.class, "The query ends unexpectedly", () ->
+                TaskQueryParser.parse("type=todo AND"));
+        assertThrows(ParseException.class, "Missing ) in the query", () -> TaskQueryParser.parse("(type=todo"));
+        assertThrows(ParseException.class, "Unexpected desc in the query", () ->
+                TaskQueryParser.parse("type=todo desc=book"));
+        assertThrows(ParseException.class, "Unexpected \"Alex in the query", () ->
+                TaskQueryParser.parse("assignee=\"Alex"));
+        assertThrows(ParseException.class, "Expected a comparison after desc in the query", () ->
+                TaskQueryParser.parse("desc book"));
+        assertThrows(ParseException.class, "Unknown clause name in the query", () ->
+                TaskQueryParser.parse("name=book"));
+        assertThrows(ParseException.class, "Only date and priority can be compared with <, <=, > and >=", () ->
+                TaskQueryParser.parse("desc>book"));
+        assertThrows(ParseException.class, "Each desc= clause should have a single word", () ->
+                TaskQueryParser.parse("desc=\"read book\""));
+        assertThrows(ParseException.class, Date.MESSAGE_CONSTRAINTS, () -> TaskQueryParser.parse("date=2022-13-01"));
+        assertThrows(ParseException.class, "Type should be todo, deadline or event", () ->
+                TaskQueryParser.parse("type=meeting"));
+    }
+}
@@ -0,0 +1,118 @@
+package manageezpz.model;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.ALICE;
+import static manageezpz.testutil.TypicalPersons.BENSON;
+import static manageezpz.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+import manageezpz.testutil.TodoBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_negativeDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(addressBook, -1));
+    }
+
+    @Test
+    public void undoRedo_committedChanges_restoresStates() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 5);
+        assertFalse(history.canUndo());
+        assertFalse(history.commit());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(history.commit());
+        Task readBook = new TodoBuilder().withDescription("Read Book").build();
+        addressBook.addTask(readBook);
+        addressBook.addPerson(BENSON);
+        assertTrue(history.commit());
+
+        history.undo();
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertTrue(addressBook.getTaskList().isEmpty());
+        assertFalse(addressBook.hasTask(readBook));
+        assertTrue(history.canRedo());
+
+        history.undo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+
+        history.redo();
+        history.redo();
+        assertEquals(List.of(ALICE, BENSON), addressBook.getPersonList());
+        assertTrue(addressBook.hasTask(readBook));
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undo_uncommittedChange_undoesChange() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 5);
+        addressBook.addPerson(ALICE);
+        assertTrue(history.canUndo());
+
+        history.undo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+        history.redo();
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsUndoneChanges() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 5);
+        addressBook.addPerson(ALICE);
+        history.commit();
+        history.undo();
+
+        addressBook.addPerson(BENSON);
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+        history.undo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_forgetsOldestChange() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 2);
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            addressBook.addPerson(person);
+            history.commit();
+        }
+
+        history.undo();
+        history.undo();
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void canUndo_zeroDepth_returnsFalse() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 0);
+        addressBook.addPerson(ALICE);
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void clear_changesCommitted_nothingToUndo() {
+        AddressBookHistory history = new AddressBookHistory(addressBook, 5);
+        addressBook.addPerson(ALICE);
+        history.commit();
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+}
@@ -2,10 +2,12 @@ package manageezpz.model;
 
 import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.ALICE;
+import static manageezpz.testutil.TypicalPersons.BENSON;
 import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import manageezpz.model.person.Person;
@@ -22,6 +25,7 @@ import manageezpz.model.person.exceptions.DuplicatePersonException;
 import manageezpz.model.task.Task;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
 import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
 
 public class AddressBookTest {
 
@@ -82,6 +86,73 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_changes_incremented() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        addressBook.addTask(READ_BOOK);
+        assertEquals(version + 2, addressBook.getVersion());
+
+        Task storedTask = addressBook.getTaskList().get(0);
+        addressBook.markTask(storedTask);
+        assertEquals(version + 3, addressBook.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addTask(READ_BOOK);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        addressBook.addPerson(BENSON);
+        addressBook.removeTask(addressBook.getTaskList().get(0));
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(READ_BOOK), snapshot.getTaskList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getNumOfTasksProperty_personRemoved_countDropped() {
+        addressBook.addPerson(ALICE);
+        addressBook.addTask(new TodoBuilder(READ_BOOK).withAssignees(ALICE).build());
+        ReadOnlyIntegerProperty aliceCount = addressBook.getNumOfTasksProperty(ALICE);
+        assertEquals(1, aliceCount.get());
+        assertEquals(0, addressBook.getNumOfTasksProperty(BENSON).get());
+
+        addressBook.removePerson(ALICE);
+        assertEquals(0, addressBook.getNumOfTasksProperty(ALICE).get());
+        addressBook.addPerson(ALICE);
+        assertNotSame(aliceCount, addressBook.getNumOfTasksProperty(ALICE));
+        assertEquals(1, addressBook.getNumOfTasksProperty(ALICE).get());
+    }
+
+    @Test
+    public void getVersion_queries_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.findByName(ALICE.getName());
+        addressBook.getTasksAssignedTo(ALICE);
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getAssigneesLabel_assigneeEdited_updated() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addTask(new TodoBuilder().withDescription("Prepare slides").build());
+        Task task = addressBook.getTaskList().get(0);
+        assertEquals("", addressBook.getAssigneesLabel(task));
+
+        task = addressBook.tagEmployeeToTask(task, ALICE);
+        task = addressBook.tagEmployeeToTask(task, BENSON);
+        assertEquals("Alice Pauline, Benson Meier", addressBook.getAssigneesLabel(task));
+
+        Person storedAlice = addressBook.findByName(ALICE.getName()).get();
+        addressBook.setPerson(storedAlice, new PersonBuilder(storedAlice).withName("Alice Tan").build());
+        assertEquals("Alice Tan, Benson Meier", addressBook.getAssigneesLabel(task));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -5,6 +5,7 @@ import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BENSON;
 import static manageezpz.testutil.TypicalTasks.GET_DRINK;
+import static manageezpz.testutil.TypicalTasks.GO_FOR_RUN;
 import static manageezpz.testutil.TypicalTasks.HOUSE_VISTING;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
@@ -16,12 +17,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.model.person.PersonMultiplePredicate;
 import manageezpz.model.task.Priority;
+import manageezpz.model.task.TaskMultiplePredicate;
 import manageezpz.model.task.Task;
 import manageezpz.testutil.AddressBookBuilder;
 
@@ -212,8 +215,10 @@ public class ModelManagerTest {
     public void tagEmployeeToTask_employeeAndTaskInAddressBook_returnsTrue() {
         modelManager.addPerson(ALICE);
         modelManager.addTask(READ_BOOK);
-        modelManager.tagEmployeeToTask(READ_BOOK, ALICE);
-        assertTrue(modelManager.isEmployeeTaggedToTask(READ_BOOK, ALICE));
+        Task taggedTask = modelManager.tagEmployeeToTask(READ_BOOK, ALICE);
+        assertTrue(modelManager.isEmployeeTaggedToTask(taggedTask, ALICE));
+        assertEquals(List.of(taggedTask), modelManager.getTasksAssignedTo(ALICE));
+        assertEquals(List.of(ALICE), modelManager.getAssignees(taggedTask));
     }
 
     @Test
@@ -244,4 +249,23 @@ public class ModelManagerTest {
         Task updatedTask = modelManager.unmarkTask(READ_BOOK);
         assertTrue(!updatedTask.isDone());
     }
+
+    @Test
+    public void updateFilteredTaskList_repeatedPredicate_sameTasksAfterEdits() {
+        modelManager.addTask(READ_BOOK);
+        modelManager.addTask(GO_FOR_RUN);
+        modelManager.tagPriorityToTask(READ_BOOK, Priority.HIGH);
+        TaskMultiplePredicate highPriority = new TaskMultiplePredicate(null, null, null, Priority.HIGH, null, null);
+        modelManager.updateFilteredTaskList(highPriority);
+        List<Task> highPriorityTasks = List.copyOf(modelManager.getFilteredTaskList());
+        assertEquals(1, highPriorityTasks.size());
+
+        // The repeated predicate finds the same tasks from the cache
+        modelManager.updateFilteredTaskList(new TaskMultiplePredicate(null, null, null, Priority.HIGH, null, null));
+        assertEquals(highPriorityTasks, modelManager.getFilteredTaskList());
+
+        // Tasks edited after the lookup are tested on the predicate itself
+        modelManager.tagPriorityToTask(GO_FOR_RUN, Priority.HIGH);
+        assertEquals(2, modelManager.getFilteredTaskList().size());
+    }
 }
@@ -0,0 +1,89 @@
+package manageezpz.model;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryResultCacheTest {
+    private final Predicate<Integer> isEven = new NumberPredicate(2, 0);
+    private final Predicate<Integer> isOdd = new NumberPredicate(2, 1);
+    private long version;
+    private final QueryResultCache<Integer> cache = new QueryResultCache<>(number -> number, () -> version, 2);
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache<Integer>(number -> number, () -> 0,
+                0));
+    }
+
+    @Test
+    public void get_cachedPredicate_looksUpMatches() {
+        assertNull(cache.get(isEven));
+        cache.put(isEven, List.of(2, 4));
+
+        // An equal predicate finds the cached matches, without testing the predicate
+        Predicate<Integer> cachedPredicate = cache.get(new NumberPredicate(2, 0));
+        assertTrue(cachedPredicate.test(4));
+        assertFalse(cachedPredicate.test(6));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // Once the address book changes, the predicate is tested instead and the cache is cleared
+        version++;
+        assertTrue(cachedPredicate.test(6));
+        assertNull(cache.get(isEven));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        Predicate<Integer> isMultipleOfThree = new NumberPredicate(3, 0);
+        cache.put(isEven, List.of(2));
+        cache.put(isOdd, List.of(1));
+        cache.get(isEven);
+        cache.put(isMultipleOfThree, List.of(3));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(isOdd));
+        assertNotNull(cache.get(isEven));
+        assertNotNull(cache.get(isMultipleOfThree));
+    }
+
+    /**
+     * A predicate for the numbers that leave a given remainder when divided by a given divisor.
+     */
+    private static class NumberPredicate implements Predicate<Integer> {
+        private final int divisor;
+        private final int remainder;
+
+        NumberPredicate(int divisor, int remainder) {
+            this.divisor = divisor;
+            this.remainder = remainder;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            return number % divisor == remainder;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof NumberPredicate && divisor == ((NumberPredicate) other).divisor
+                    && remainder == ((NumberPredicate) other).remainder;
+        }
+
+        @Override
+        public int hashCode() {
+            return divisor * 31 + remainder;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -77,15 +78,15 @@ public class PersonTest {
     }
 
     @Test
-    public void increaseTaskCount_validPerson_success() {
-        ALICE.increaseTaskCount();
-        assertEquals(1, ALICE.getNumOfTasks());
-    }
-
-    @Test
-    public void decreaseTaskCount_validPerson_success() {
-        ALICE.increaseTaskCount();
-        ALICE.decreaseTaskCount();
-        assertEquals(0, ALICE.getNumOfTasks());
+    public void withId() {
+        // same id -> returns same person
+        assertSame(ALICE, ALICE.withId(ALICE.getId()));
+
+        // different id -> returns equal person with the new id, and leaves the original unchanged
+        Person aliceWithId = ALICE.withId(ALICE.getId() + 10);
+        assertEquals(ALICE.getId() + 10, aliceWithId.getId());
+        assertEquals(ALICE, aliceWithId);
+        assertEquals(ALICE.hashCode(), aliceWithId.hashCode());
+        assertFalse(ALICE.getId() == aliceWithId.getId());
     }
 }
@@ -1,18 +1,23 @@
 package manageezpz.model.person;
 
+import static manageezpz.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
+import static manageezpz.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import manageezpz.commons.util.PersistentList;
 import manageezpz.model.person.exceptions.DuplicatePersonException;
 import manageezpz.model.person.exceptions.PersonNotFoundException;
 import manageezpz.testutil.PersonBuilder;
@@ -55,6 +60,36 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithoutId_givenUnusedId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder(BOB).withId(Person.UNASSIGNED_ID).build());
+
+        Person storedBob = uniquePersonList.findByName(BOB.getName()).get();
+        assertTrue(storedBob.hasId());
+        assertNotEquals(ALICE.getId(), storedBob.getId());
+        assertEquals(Optional.of(storedBob), uniquePersonList.findById(storedBob.getId()));
+    }
+
+    @Test
+    public void add_personWithUsedId_givenUnusedId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder(BOB).withId(ALICE.getId()).build());
+
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        assertNotEquals(ALICE.getId(), uniquePersonList.findByName(BOB.getName()).get().getId());
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsId() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withId(Person.UNASSIGNED_ID).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertEquals(ALICE.getId(), uniquePersonList.findByName(ALICE.getName()).get().getId());
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findById(ALICE.getId()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -105,6 +140,42 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesEmailWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByEmailAndPhone_editedPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findByEmail(editedAlice.getEmail()));
+        assertEquals(Optional.empty(), uniquePersonList.findByEmail(ALICE.getEmail()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findByPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void remove_existingPerson_personNoLongerFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        uniquePersonList.remove(BOB);
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -159,19 +230,48 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+    public void getNameTrie_listChanged_findsCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(List.of(ALICE.getName().fullName), uniquePersonList.getNameTrie().findWithPrefix("ali", 10));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alex Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of("Alex Pauline"), uniquePersonList.getNameTrie().findWithPrefix("al", 10));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(1, uniquePersonList.getNameTrie().size());
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(List.of(BOB.getName().fullName), uniquePersonList.getNameTrie().findWithPrefix("", 10));
     }
 
     @Test
-    public void increaseNumOfTasks_nullPerson_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.increaseNumOfTasks(null));
+    public void setPersons_snapshot_restoresPersonsAndIndexes() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        List<Person> persons = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.remove(persons.get(0));
+        uniquePersonList.setPerson(persons.get(1), new PersonBuilder(BOB).withEmail("robert@example.com").build());
+        uniquePersonList.add(new PersonBuilder(ALICE).withId(Person.UNASSIGNED_ID).build());
+
+        uniquePersonList.setPersons(snapshot);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(persons.get(0)), uniquePersonList.findById(persons.get(0).getId()));
+        assertEquals(Optional.of(persons.get(1)), uniquePersonList.findByEmail(BOB.getEmail()));
+        assertTrue(uniquePersonList.findByEmail(new Email("robert@example.com")).isEmpty());
+        assertEquals(3, uniquePersonList.getNameTrie().size());
+
+        // The positions of the restored persons are kept up to date
+        uniquePersonList.remove(persons.get(0));
+        uniquePersonList.remove(persons.get(2));
+        assertEquals(List.of(persons.get(1)), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
-    public void decreaseNumOfTasks_nullPerson_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.decreaseNumOfTasks(null));
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
 }
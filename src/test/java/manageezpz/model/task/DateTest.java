@@ -3,6 +3,7 @@ package manageezpz.model.task;
 import static manageezpz.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -37,10 +38,13 @@ public class DateTest {
         assertFalse(Date.isValidDate("1254055")); //random numbers
         assertFalse(Date.isValidDate("2022/02/20")); // "/" used instead of "-"
         assertFalse(Date.isValidDate("!@##$#%^&")); //empty String given
+        assertFalse(Date.isValidDate("0000-05-09")); //year is zero
+        assertFalse(Date.isValidDate("2023-02-29")); //not a leap year
 
         // valid date
         assertTrue(Date.isValidDate("2022-05-09"));
         assertTrue(Date.isValidDate("2024-05-09"));
+        assertTrue(Date.isValidDate("2024-02-29"));
     }
 
     @Test
@@ -48,4 +52,28 @@ public class DateTest {
         Date testDate = new Date(LocalDate.now().toString());
         assertEquals(testDate, Date.getTodayDate());
     }
+
+    @Test
+    public void getDate_validDate_sameAsGiven() {
+        Date date = new Date("2022-03-05");
+        assertEquals("2022-03-05", date.getDate());
+        assertEquals(LocalDate.of(2022, 3, 5), date.getParsedDate());
+        assertEquals(LocalDate.of(2022, 3, 5).toEpochDay(), date.getEpochDay());
+        assertEquals("Mar 05 2022", date.format(Date.DISPLAY_FORMATTER));
+    }
+
+    @Test
+    public void ofEpochDay() {
+        assertSame(Date.of("2022-03-05"), Date.ofEpochDay(LocalDate.of(2022, 3, 5).toEpochDay()));
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(LocalDate.of(0, 12, 31).toEpochDay()));
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(LocalDate.of(10000, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    public void compareTo() {
+        Date date = new Date("2022-03-05");
+        assertEquals(0, date.compareTo(new Date("2022-03-05")));
+        assertTrue(date.compareTo(new Date("2022-03-06")) < 0);
+        assertTrue(date.compareTo(new Date("2021-12-31")) > 0);
+    }
 }
@@ -12,7 +12,8 @@ public class DeadlineTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Deadline(null));
+        assertThrows(NullPointerException.class, () -> new Deadline(null, new Date("2022-11-08"),
+                new Time("1800")));
     }
 
     @Test
@@ -42,21 +43,25 @@ public class DeadlineTest {
     }
 
     @Test
-    public void setDescription_validDescription_success() {
-        testDeadline.setDescription(new Description("Finish Report"));
-        assertEquals(testDeadline.getDescription().toString(), "Finish Report");
+    public void withDescription_validDescription_success() {
+        Deadline editedDeadline = testDeadline.withDescription(new Description("Finish Report"));
+        assertEquals("Finish Report", editedDeadline.getDescription().toString());
+        assertEquals("testing", testDeadline.getDescription().toString());
     }
 
     @Test
-    public void setDate_validDate_success() {
-        testDeadline.setDate(new Date("2022-08-08"));
-        assertEquals(testDeadline.getDate().getDate(), "2022-08-08");
+    public void withDate_validDate_success() {
+        Deadline editedDeadline = testDeadline.withDate(new Date("2022-08-08"));
+        assertEquals("2022-08-08", editedDeadline.getDate().getDate());
+        assertEquals("by Aug 08 2022 6:00 PM", editedDeadline.getDateTime());
+        assertEquals("2022-11-08", testDeadline.getDate().getDate());
     }
 
     @Test
-    public void setTime_validTime_success() {
-        testDeadline.setTime(new Time("1800"));
-        assertEquals(testDeadline.getTime().getTime(), "1800");
+    public void withTime_validTime_success() {
+        Deadline editedDeadline = testDeadline.withTime(new Time("1900"));
+        assertEquals("1900", editedDeadline.getTime().getTime());
+        assertEquals("1800", testDeadline.getTime().getTime());
     }
 
 
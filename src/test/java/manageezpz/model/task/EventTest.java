@@ -12,7 +12,8 @@ public class EventTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Event(null));
+        assertThrows(NullPointerException.class, () -> new Event(null, new Date("2022-11-08"),
+                new Time("1800"), new Time("2000")));
     }
 
     @Test
@@ -47,27 +48,26 @@ public class EventTest {
     }
 
     @Test
-    public void setDescription_validDescription_success() {
-        testEvent.setDescription(new Description("Finish Report"));
-        assertEquals(testEvent.getDescription().toString(), "Finish Report");
-    }
-
-    @Test
-    public void setDate_validDate_success() {
-        testEvent.setDate(new Date("2022-08-08"));
-        assertEquals(testEvent.getDate().getDate(), "2022-08-08");
+    public void withDescription_validDescription_success() {
+        Event editedEvent = testEvent.withDescription(new Description("Finish Report"));
+        assertEquals("Finish Report", editedEvent.getDescription().toString());
+        assertEquals("testing", testEvent.getDescription().toString());
     }
 
     @Test
-    public void setStartTime_validTime_success() {
-        testEvent.setStartTime(new Time("1700"));
-        assertEquals(testEvent.getStartTime().getTime(), "1700");
+    public void withDate_validDate_success() {
+        Event editedEvent = testEvent.withDate(new Date("2022-08-08"));
+        assertEquals("2022-08-08", editedEvent.getDate().getDate());
+        assertEquals("at Aug 08 2022 6:00 PM to 8:00 PM", editedEvent.getDateTime());
+        assertEquals("at Nov 08 2022 6:00 PM to 8:00 PM", testEvent.getDateTime());
     }
 
     @Test
-    public void setEndTime_validTime_success() {
-        testEvent.setEndTime(new Time("1800"));
-        assertEquals(testEvent.getEndTime().getTime(), "1800");
+    public void withTimes_validTimes_success() {
+        Event editedEvent = testEvent.withTimes(new Time("1700"), new Time("1900"));
+        assertEquals("1700", editedEvent.getStartTime().getTime());
+        assertEquals("1900", editedEvent.getEndTime().getTime());
+        assertEquals("1800", testEvent.getStartTime().getTime());
     }
 
     @Test
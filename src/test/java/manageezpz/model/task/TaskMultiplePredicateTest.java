@@ -7,6 +7,7 @@ import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BENSON;
 import static manageezpz.testutil.TypicalPersons.CARL;
 import static manageezpz.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -19,7 +20,7 @@ import manageezpz.testutil.DeadlineBuilder;
 
 class TaskMultiplePredicateTest {
     private static final String userInput = "Play Genshin Impact";
-    private Deadline deadline;
+    private Task deadline;
 
     @BeforeEach
     void setDeadline() {
@@ -212,7 +213,7 @@ class TaskMultiplePredicateTest {
 
     @Test
     void taskMultiplePredicate_containsSamePriority_true() {
-        deadline.setPriority("HIGH");
+        deadline = deadline.withPriority(Priority.HIGH);
 
         // Same priority
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
@@ -222,7 +223,7 @@ class TaskMultiplePredicateTest {
 
     @Test
     void taskMultiplePredicate_containsDifferentPriority_false() {
-        deadline.setPriority("HIGH");
+        deadline = deadline.withPriority(Priority.HIGH);
 
         // Different priority
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
@@ -232,31 +233,32 @@ class TaskMultiplePredicateTest {
 
     @Test
     void taskMultiplePredicate_containsAssignee_true() {
-        deadline.addAssignees(ALICE);
-        deadline.addAssignees(BENSON);
-        deadline.addAssignees(CARL);
+        deadline = deadline.withAssignee(ALICE).withAssignee(BENSON).withAssignee(CARL);
 
         // Same assignee
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
-                null, null, null, ALICE.getName().toString(), null);
+                null, null, null, ALICE.getName().toString(), null).withAssignee(ALICE);
         assertTrue(predicateCombo1.test(deadline));
+
+        // Same assignee, but not looked up in the address book
+        TaskMultiplePredicate predicateCombo2 = new TaskMultiplePredicate(null,
+                null, null, null, ALICE.getName().toString(), null);
+        assertFalse(predicateCombo2.test(deadline));
     }
 
     @Test
     void taskMultiplePredicate_noContainAssignee_false() {
-        deadline.addAssignees(ALICE);
-        deadline.addAssignees(BENSON);
-        deadline.addAssignees(CARL);
+        deadline = deadline.withAssignee(ALICE).withAssignee(BENSON).withAssignee(CARL);
 
         // Different assignee
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
-                null, null, null, DANIEL.getName().toString(), null);
+                null, null, null, DANIEL.getName().toString(), null).withAssignee(DANIEL);
         assertFalse(predicateCombo1.test(deadline));
     }
 
     @Test
     void taskMultiplePredicate_containsSameIsMarked_true() {
-        deadline.setTaskDone();
+        deadline = deadline.withDone(true);
 
         // Is Marked is the same
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
@@ -266,7 +268,7 @@ class TaskMultiplePredicateTest {
 
     @Test
     void taskMultiplePredicate_containsDifferentIsMarked_false() {
-        deadline.setTaskDone();
+        deadline = deadline.withDone(true);
 
         // Is Marked boolean different
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
@@ -280,4 +282,135 @@ class TaskMultiplePredicateTest {
                 List.of("Genshin"), new Date("2022-04-01"), Priority.NONE, null, Boolean.FALSE);
         assertTrue(predicateCombo1.test(deadline));
     }
+
+    @Test
+    void taskMultiplePredicate_withKeywordIndex_sameMatchesAsWithout() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(deadline);
+        Task storedDeadline = taskList.asUnmodifiableObservableList().get(0);
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, List.of("genshin", "honkai"), null,
+                null, null, null);
+        TaskMultiplePredicate indexedPredicate = predicate.withKeywordIndex(taskList.getKeywordIndex());
+        assertTrue(indexedPredicate.test(storedDeadline));
+        assertTrue(indexedPredicate.equals(predicate));
+
+        // The index is looked up again after the task list changes
+        Deadline editedDeadline = new DeadlineBuilder().withDescription("Play Honkai").withDate("2022-04-01")
+                .withTime("0000").build();
+        taskList.setTask(storedDeadline, editedDeadline);
+        assertTrue(indexedPredicate.test(taskList.asUnmodifiableObservableList().get(0)));
+        TaskMultiplePredicate otherPredicate = new TaskMultiplePredicate(null, List.of("genshin"), null,
+                null, null, null).withKeywordIndex(taskList.getKeywordIndex());
+        assertFalse(otherPredicate.test(taskList.asUnmodifiableObservableList().get(0)));
+    }
+
+    @Test
+    void taskMultiplePredicate_dateRange() {
+        TaskMultiplePredicate withinRange = new TaskMultiplePredicate(null, null, null, null, null, null,
+                new Date("2022-04-01"), new Date("2022-04-07"), false);
+        assertTrue(withinRange.test(deadline));
+
+        TaskMultiplePredicate afterRange = new TaskMultiplePredicate(null, null, null, null, null, null,
+                null, new Date("2022-03-31"), false);
+        assertFalse(afterRange.test(deadline));
+
+        TaskMultiplePredicate todoNotInRange = new TaskMultiplePredicate(null, null, null, null, null, null,
+                new Date("2022-04-01"), null, false);
+        assertFalse(todoNotInRange.test(new Todo(new Description("Read book"))));
+    }
+
+    @Test
+    void taskMultiplePredicate_overdue() {
+        TaskMultiplePredicate overdue = new TaskMultiplePredicate(null, null, null, null, null, null,
+                null, null, true);
+        assertTrue(overdue.test(deadline));
+
+        Deadline dueToday = new DeadlineBuilder().withDescription("Submit report")
+                .withDate(Date.getTodayDate().getDate()).withTime("0000").build();
+        assertFalse(overdue.test(dueToday));
+
+        deadline = deadline.withDone(true);
+        assertFalse(overdue.test(deadline));
+    }
+
+    @Test
+    void taskMultiplePredicate_withDateIndex_sameMatchesAsWithout() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(deadline);
+        taskList.add(new DeadlineBuilder().withDescription("Submit report").withDate("2022-04-08")
+                .withTime("0000").build());
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, null, null, null, null, null,
+                new Date("2022-04-01"), new Date("2022-04-07"), true);
+        TaskMultiplePredicate indexedPredicate = predicate.withDateIndex(taskList.getDateIndex());
+        assertTrue(indexedPredicate.equals(predicate));
+        for (Task task : taskList) {
+            assertEquals(predicate.test(task), indexedPredicate.test(task));
+        }
+        assertTrue(indexedPredicate.test(taskList.asUnmodifiableObservableList().get(0)));
+        assertFalse(indexedPredicate.test(taskList.asUnmodifiableObservableList().get(1)));
+
+        // The index is looked up again after the task list changes
+        Task storedDeadline = taskList.asUnmodifiableObservableList().get(0);
+        Deadline movedDeadline = ((Deadline) storedDeadline).withDate(new Date("2022-05-01"));
+        taskList.setTask(storedDeadline, movedDeadline);
+        assertFalse(indexedPredicate.test(taskList.asUnmodifiableObservableList().get(0)));
+    }
+
+    @Test
+    void taskMultiplePredicate_withAttributeIndex_sameMatchesAsWithout() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(deadline);
+        taskList.add(new Todo(new Description("Read book")));
+        Task markedDeadline = taskList.markTask(taskList.asUnmodifiableObservableList().get(0));
+        taskList.tagPriorityToTask(markedDeadline, Priority.HIGH);
+        List<TaskMultiplePredicate> predicates = List.of(
+                new TaskMultiplePredicate(PREFIX_DEADLINE, null, null, null, null, null),
+                new TaskMultiplePredicate(null, null, null, Priority.HIGH, null, Boolean.TRUE),
+                new TaskMultiplePredicate(PREFIX_TODO, null, null, Priority.NONE, null, Boolean.FALSE),
+                new TaskMultiplePredicate(null, null, null, null, null, Boolean.TRUE, null, null, true),
+                new TaskMultiplePredicate(PREFIX_DEADLINE, List.of("genshin"), null, null, null, null,
+                        new Date("2022-04-01"), null, false));
+        for (TaskMultiplePredicate predicate : predicates) {
+            TaskMultiplePredicate indexedPredicate = predicate.withAttributeIndex(taskList.getAttributeIndex())
+                    .withKeywordIndex(taskList.getKeywordIndex()).withDateIndex(taskList.getDateIndex());
+            assertTrue(indexedPredicate.equals(predicate));
+            for (Task task : taskList) {
+                assertEquals(predicate.test(task), indexedPredicate.test(task));
+            }
+        }
+
+        // The index is looked up again after the task list changes
+        TaskMultiplePredicate notDone = new TaskMultiplePredicate(null, null, null, null, null, Boolean.FALSE)
+                .withAttributeIndex(taskList.getAttributeIndex());
+        assertFalse(notDone.test(taskList.asUnmodifiableObservableList().get(0)));
+        taskList.unmarkTask(taskList.asUnmodifiableObservableList().get(0));
+        assertTrue(notDone.test(taskList.asUnmodifiableObservableList().get(0)));
+    }
+
+    @Test
+    void taskMultiplePredicate_fuzzyDescriptions_sameMatchesWithTrigramIndex() {
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(deadline);
+        taskList.add(new Todo(new Description("Play chess")));
+        taskList.add(new Todo(new Description("Read book")));
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, List.of("Gensin", "ply"), null, null,
+                null, null).withFuzzyDescriptions();
+        TaskMultiplePredicate indexedPredicate = predicate.withTrigramIndex(taskList.getTrigramIndex())
+                .withKeywordIndex(taskList.getKeywordIndex());
+
+        assertFalse(predicate.equals(new TaskMultiplePredicate(null, List.of("Gensin", "ply"), null, null,
+                null, null)));
+        assertTrue(indexedPredicate.equals(predicate));
+        for (Task task : taskList) {
+            assertEquals(predicate.test(task), indexedPredicate.test(task));
+            assertEquals(predicate.getFuzzyScore(task), indexedPredicate.getFuzzyScore(task), 1e-9);
+        }
+
+        List<Task> tasks = taskList.asUnmodifiableObservableList();
+        assertTrue(predicate.test(tasks.get(0)));
+        assertTrue(predicate.test(tasks.get(1)));
+        assertFalse(predicate.test(tasks.get(2)));
+        // The deadline matches both keywords, so it is ordered before the todo that only matches one
+        assertTrue(predicate.getRelevanceComparator().compare(tasks.get(0), tasks.get(1)) < 0);
+    }
 }
@@ -0,0 +1,120 @@
+package manageezpz.model.task;
+
+import static manageezpz.testutil.TypicalPersons.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.person.Person;
+import manageezpz.model.task.TaskQuery.Comparison;
+import manageezpz.testutil.DeadlineBuilder;
+import manageezpz.testutil.TodoBuilder;
+
+public class TaskQueryPlanTest {
+    private final UniqueTaskList taskList = new UniqueTaskList();
+
+    @BeforeEach
+    public void setUp() {
+        taskList.add(new TodoBuilder().withDescription("Read book").build());
+        taskList.add(new TodoBuilder().withDescription("Return book").build());
+        taskList.add(new DeadlineBuilder().withDescription("Submit report").withDate("2022-04-01")
+                .withTime("1800").build());
+        taskList.add(new Event(new Description("Book club"), new Date("2022-04-05"), new Time("0900"),
+                new Time("1000")));
+        taskList.markTask(taskList.asUnmodifiableObservableList().get(1));
+        taskList.tagPriorityToTask(taskList.asUnmodifiableObservableList().get(2), Priority.HIGH);
+        taskList.tagEmployeeToTask(taskList.asUnmodifiableObservableList().get(0), ALICE);
+    }
+
+    private TaskQueryPlan indexedPlan(TaskQuery query) {
+        return new TaskQueryPlan(query, taskList.getKeywordIndex(), taskList.getDateIndex(),
+                taskList.getAttributeIndex(), taskList::findTaskIdsAssignedTo);
+    }
+
+    private static TaskQuery assignedToAlice() {
+        return TaskQuery.isAssignedTo(ALICE.getName().fullName).resolveAssignees(assignee -> ALICE.getId());
+    }
+
+    @Test
+    public void test_indexedPlan_sameMatchesAsQuery() {
+        List<TaskQuery> queries = List.of(
+                TaskQuery.hasKeyword("BOOK"),
+                TaskQuery.not(TaskQuery.ofType(Todo.class)),
+                TaskQuery.isDated(Comparison.GREATER, new Date("2022-04-01")),
+                TaskQuery.hasPriority(Comparison.GREATER_OR_EQUAL, Priority.MEDIUM),
+                TaskQuery.isOverdue(new Date("2022-04-03")),
+                TaskQuery.and(List.of(TaskQuery.hasKeyword("book"), TaskQuery.isMarked(false))),
+                TaskQuery.or(List.of(TaskQuery.isDated(Comparison.EQUAL, new Date("2022-04-05")),
+                        TaskQuery.not(TaskQuery.isAssignedTo("Alex Yeoh")))),
+                assignedToAlice(),
+                TaskQuery.or(List.of(assignedToAlice(), TaskQuery.isMarked(true))));
+        for (TaskQuery query : queries) {
+            TaskQueryPlan plan = indexedPlan(query);
+            TaskQueryPlan scanPlan = new TaskQueryPlan(query);
+            for (Task task : taskList) {
+                assertEquals(query.test(task), plan.test(task), query.toString());
+                assertEquals(query.test(task), scanPlan.test(task), query.toString());
+            }
+        }
+    }
+
+    @Test
+    public void explain_mixedQuery_smallestLookupsFirst() {
+        TaskQuery query = TaskQuery.and(List.of(TaskQuery.isDated(Comparison.LESS, new Date("2022-04-05")),
+                TaskQuery.hasKeyword("book"), TaskQuery.ofType(Todo.class)));
+        assertEquals("INDEX (date<2022-04-05 AND type=todo AND desc=book) -> 0 tasks",
+                indexedPlan(query).explain());
+
+        assertEquals(String.join("\n",
+                "AND -> est. 2% of tasks",
+                "  SCAN date<2022-04-05 -> est. 25% of tasks",
+                "  SCAN desc=book -> est. 25% of tasks",
+                "  SCAN type=todo -> est. 25% of tasks"), new TaskQueryPlan(query).explain());
+    }
+
+    @Test
+    public void explain_assigneeQuery_looksUpAssignees() {
+        TaskQuery query = TaskQuery.and(List.of(assignedToAlice(), TaskQuery.hasKeyword("book")));
+        assertEquals("INDEX (assignee=\"Alice Pauline\" AND desc=book) -> 1 tasks",
+                indexedPlan(query).explain());
+
+        // Assignees that are not employees are assigned no tasks
+        TaskQuery unknownAssignee = TaskQuery.isAssignedTo("Alex Yeoh")
+                .resolveAssignees(assignee -> Person.UNASSIGNED_ID);
+        assertEquals("INDEX assignee=\"Alex Yeoh\" -> 0 tasks", indexedPlan(unknownAssignee).explain());
+    }
+
+    @Test
+    public void test_taskListChanged_planCompiledAgain() {
+        TaskQueryPlan plan = indexedPlan(TaskQuery.isMarked(true));
+        Task readBook = taskList.asUnmodifiableObservableList().get(0);
+        assertFalse(plan.test(readBook));
+
+        Task markedReadBook = taskList.markTask(readBook);
+        assertTrue(plan.test(markedReadBook));
+        assertEquals("INDEX isMarked=true -> 2 tasks", plan.explain());
+    }
+
+    @Test
+    public void test_assigneeUntagged_planCompiledAgain() {
+        TaskQueryPlan plan = indexedPlan(assignedToAlice());
+        Task readBook = taskList.asUnmodifiableObservableList().get(0);
+        assertTrue(plan.test(readBook));
+
+        Task untaggedReadBook = taskList.untagEmployeeFromTask(readBook, ALICE);
+        assertFalse(plan.test(untaggedReadBook));
+        assertEquals("INDEX assignee=\"Alice Pauline\" -> 0 tasks", plan.explain());
+    }
+
+    @Test
+    public void equals() {
+        TaskQuery query = TaskQuery.hasKeyword("book");
+        assertEquals(new TaskQueryPlan(query), indexedPlan(TaskQuery.hasKeyword("book")));
+        assertFalse(new TaskQueryPlan(query).equals(new TaskQueryPlan(TaskQuery.hasKeyword("report"))));
+    }
+}
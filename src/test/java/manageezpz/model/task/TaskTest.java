@@ -1,12 +1,18 @@
 package manageezpz.model.task;
 
 import static manageezpz.logic.commands.CommandTestUtil.VALID_TASK_DESCRIPTION;
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.GEORGE;
 import static manageezpz.testutil.TypicalTasks.GET_A_DRINK;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import manageezpz.testutil.TodoBuilder;
@@ -51,22 +57,91 @@ public class TaskTest {
 
     }
 
+    @Test
+    public void hashCode_equalTasks_sameHashCode() {
+        Todo readBook = new TodoBuilder().build();
+        Todo readBookCopy = new TodoBuilder(readBook).build();
+        assertEquals(readBook.hashCode(), readBookCopy.hashCode());
+
+        // same description, different status -> tasks are not equal, hash codes differ
+        Task doneCopy = readBook.withDone(true);
+        assertFalse(readBookCopy.equals(doneCopy));
+        assertFalse(readBookCopy.hashCode() == doneCopy.hashCode());
+    }
+
     @Test
     public void isDone() {
-        READ_BOOK.setTaskDone();
-        assertTrue(READ_BOOK.isDone);
+        assertTrue(READ_BOOK.withDone(true).isDone());
+        assertTrue(GET_A_DRINK.withDone(true).isDone());
 
-        GET_A_DRINK.setTaskDone();
-        assertTrue(GET_A_DRINK.isDone);
+        // the original tasks are left unchanged
+        assertFalse(READ_BOOK.isDone());
+        assertFalse(GET_A_DRINK.isDone());
     }
 
     @Test
     public void isNotDone() {
-        READ_BOOK.setTaskNotDone();
-        assertFalse(READ_BOOK.isDone);
+        assertFalse(RETURN_BOOK.withDone(false).isDone());
+        assertTrue(RETURN_BOOK.isDone());
+    }
+
+    @Test
+    public void with_unchangedFields_returnsSameTask() {
+        assertSame(RETURN_BOOK, RETURN_BOOK.withDone(true));
+        assertSame(RETURN_BOOK, RETURN_BOOK.withPriority(Priority.NONE));
+        assertSame(RETURN_BOOK, RETURN_BOOK.withAssignee(GEORGE));
+        assertSame(READ_BOOK, READ_BOOK.withoutAssignee(GEORGE));
+        assertSame(READ_BOOK, READ_BOOK.withId(READ_BOOK.getId()));
+    }
+
+    @Test
+    public void with_changedFields_returnsChangedCopy() {
+        Task task = READ_BOOK.withId(3).withPriority(Priority.HIGH).withAssignee(GEORGE);
+        assertEquals(3, task.getId());
+        assertEquals(Priority.HIGH, task.getPriority());
+        assertEquals(Set.of(GEORGE.getId()), task.getAssigneeIds());
+        assertTrue(task instanceof Todo);
+        assertEquals(READ_BOOK.getDescription(), task.getDescription());
+
+        Task untagged = task.withoutAssignee(GEORGE);
+        assertTrue(untagged.getAssigneeIds().isEmpty());
+        assertEquals(Set.of(GEORGE.getId()), task.getAssigneeIds());
+
+        // the original task is left unchanged
+        assertEquals(Task.UNASSIGNED_ID, READ_BOOK.getId());
+        assertEquals(Priority.NONE, READ_BOOK.getPriority());
+        assertTrue(READ_BOOK.getAssigneeIds().isEmpty());
+    }
+
+    @Test
+    public void getAssigneeIds_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> RETURN_BOOK.getAssigneeIds().add(1));
+    }
 
-        GET_A_DRINK.setTaskNotDone();
-        assertFalse(GET_A_DRINK.isDone);
+    @Test
+    public void toString_taskChanged_formattedAgain() {
+        Todo todo = new TodoBuilder().build();
+        String notDone = todo.toString();
+        assertSame(notDone, todo.toString());
+        assertEquals(Task.STATUS_NOT_DONE, todo.getStatusLabel());
+
+        Task doneTodo = todo.withDone(true);
+        assertEquals("[T][X] " + todo.getDescription(), doneTodo.toString());
+        assertEquals(Task.STATUS_DONE, doneTodo.getStatusLabel());
+        assertSame(notDone, todo.toString());
+    }
+
+    @Test
+    public void getAssigneesLabel_versionChanged_formattedAgain() {
+        Todo todo = new TodoBuilder().build();
+        Object owner = new Object();
+        assertEquals("Alice", todo.getAssigneesLabel(owner, 1, () -> "Alice"));
+        assertEquals("Alice", todo.getAssigneesLabel(owner, 1, () -> "Bob"));
+        assertEquals("Bob", todo.getAssigneesLabel(owner, 2, () -> "Bob"));
+        assertEquals("Carl", todo.getAssigneesLabel(new Object(), 2, () -> "Carl"));
+
+        Task taggedTodo = todo.withAssignee(GEORGE);
+        assertEquals("Dave", taggedTodo.getAssigneesLabel(owner, 2, () -> "Dave"));
     }
 
 }
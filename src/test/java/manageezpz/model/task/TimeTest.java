@@ -1,7 +1,10 @@
 package manageezpz.model.task;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -38,5 +41,46 @@ public class TimeTest {
         // valid date
         assertTrue(Time.isValidTime("2000"));
         assertTrue(Time.isValidTime("1423"));
+        assertTrue(Time.isValidTime("0000"));
+        assertTrue(Time.isValidTime("2359"));
+    }
+
+    @Test
+    public void of_equalTimes_sameInstance() {
+        assertSame(Time.of("1800"), Time.of("1800"));
+        assertThrows(IllegalArgumentException.class, () -> Time.of("2459"));
+    }
+
+    @Test
+    public void equals() {
+        Time time = new Time("1800");
+        assertTrue(time.equals(time));
+        assertEquals(time, new Time("1800"));
+        assertEquals(time.hashCode(), new Time("1800").hashCode());
+        assertNotEquals(time, new Time("1801"));
+        assertFalse(time.equals(null));
+    }
+
+    @Test
+    public void getTime_validTime_sameAsGiven() {
+        Time time = new Time("0905");
+        assertEquals("0905", time.getTime());
+        assertEquals(9 * 60 + 5, time.getMinuteOfDay());
+        assertEquals("9:05 AM", time.format(Time.DISPLAY_FORMATTER));
+    }
+
+    @Test
+    public void ofMinuteOfDay() {
+        assertSame(Time.of("1800"), Time.ofMinuteOfDay(18 * 60));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(-1));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(24 * 60));
+    }
+
+    @Test
+    public void compareTo() {
+        Time time = new Time("1800");
+        assertEquals(0, time.compareTo(new Time("1800")));
+        assertTrue(time.compareTo(new Time("1801")) < 0);
+        assertTrue(time.compareTo(new Time("0959")) > 0);
     }
 }
@@ -1,19 +1,29 @@
 package manageezpz.model.task;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.ALICE;
+import static manageezpz.testutil.TypicalPersons.BOB;
+import static manageezpz.testutil.TypicalTasks.GO_FOR_RUN;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import manageezpz.commons.util.PersistentList;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
 import manageezpz.model.task.exceptions.TaskNotFoundException;
+import manageezpz.testutil.TodoBuilder;
 
 public class UniqueTaskListTest {
 
@@ -40,6 +50,24 @@ public class UniqueTaskListTest {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.add(null));
     }
 
+    @Test
+    public void addAll_newTasks_addedInOrder() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.addAll(Arrays.asList(RETURN_BOOK, GO_FOR_RUN));
+        assertEquals(Arrays.asList(READ_BOOK, RETURN_BOOK, GO_FOR_RUN), uniqueTaskList.asUnmodifiableObservableList());
+        assertTrue(uniqueTaskList.contains(GO_FOR_RUN));
+    }
+
+    @Test
+    public void addAll_duplicateTasks_throwsDuplicateTaskException() {
+        uniqueTaskList.add(READ_BOOK);
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.addAll(Arrays.asList(RETURN_BOOK,
+                READ_BOOK)));
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.addAll(Arrays.asList(RETURN_BOOK,
+                RETURN_BOOK)));
+        assertFalse(uniqueTaskList.contains(RETURN_BOOK));
+    }
+
     @Test
     public void setTask_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTask(null, RETURN_BOOK));
@@ -89,6 +117,38 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_existingTask_laterTasksCanStillBeReplaced() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(RETURN_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.remove(READ_BOOK);
+
+        Todo editedTask = new TodoBuilder().withDescription("Go for swim").build();
+        uniqueTaskList.setTask(GO_FOR_RUN, editedTask);
+
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(RETURN_BOOK);
+        expectedUniqueTaskList.add(editedTask);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(GO_FOR_RUN));
+        assertTrue(uniqueTaskList.contains(editedTask));
+    }
+
+    @Test
+    public void setTasks_list_replacesOwnListWithProvidedList() {
+        uniqueTaskList.add(READ_BOOK);
+        List<Task> taskList = Arrays.asList(RETURN_BOOK, GO_FOR_RUN);
+        uniqueTaskList.setTasks(taskList);
+
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(RETURN_BOOK);
+        expectedUniqueTaskList.add(GO_FOR_RUN);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(READ_BOOK));
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.remove(READ_BOOK));
+    }
+
     @Test
     public void setTask_nullUniqueTaskList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTasks((UniqueTaskList) null));
@@ -100,6 +160,248 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTasks));
     }
 
+    @Test
+    public void add_tasksWithoutId_givenDistinctIds() {
+        uniqueTaskList.add(new TodoBuilder(READ_BOOK).build());
+        uniqueTaskList.add(new TodoBuilder(RETURN_BOOK).build());
+
+        Task readBook = uniqueTaskList.asUnmodifiableObservableList().get(0);
+        Task returnBook = uniqueTaskList.asUnmodifiableObservableList().get(1);
+        assertTrue(readBook.hasId());
+        assertTrue(returnBook.hasId());
+        assertNotEquals(readBook.getId(), returnBook.getId());
+        assertEquals(readBook, uniqueTaskList.findById(readBook.getId()).get());
+    }
+
+    @Test
+    public void setTask_editedTask_keepsId() {
+        uniqueTaskList.add(new TodoBuilder(READ_BOOK).build());
+        Task readBook = uniqueTaskList.asUnmodifiableObservableList().get(0);
+
+        Task markedTask = uniqueTaskList.markTask(readBook);
+        assertEquals(readBook.getId(), markedTask.getId());
+
+        Task editedTask = new TodoBuilder().withDescription("Read Novel").build();
+        uniqueTaskList.setTask(markedTask, editedTask);
+        assertEquals(readBook.getId(), uniqueTaskList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void getTasksAssignedTo_taggedAndUntagged_tracksAssignedTasks() {
+        Todo readBook = new TodoBuilder(READ_BOOK).build();
+        uniqueTaskList.add(readBook);
+        uniqueTaskList.add(new TodoBuilder(RETURN_BOOK).build());
+        assertTrue(uniqueTaskList.getTasksAssignedTo(ALICE.getId()).isEmpty());
+
+        Task taggedTask = uniqueTaskList.tagEmployeeToTask(readBook, ALICE);
+        assertEquals(List.of(taggedTask), uniqueTaskList.getTasksAssignedTo(ALICE.getId()));
+        assertTrue(uniqueTaskList.getTasksAssignedTo(BOB.getId()).isEmpty());
+
+        Task markedTask = uniqueTaskList.markTask(taggedTask);
+        assertEquals(List.of(markedTask), uniqueTaskList.getTasksAssignedTo(ALICE.getId()));
+
+        Task untaggedTask = uniqueTaskList.untagEmployeeFromTask(markedTask, ALICE);
+        assertTrue(uniqueTaskList.getTasksAssignedTo(ALICE.getId()).isEmpty());
+        assertFalse(untaggedTask.isAssignedTo(ALICE));
+        assertTrue(markedTask.isAssignedTo(ALICE));
+    }
+
+    @Test
+    public void getTasksAssignedTo_taskRemoved_taskNoLongerAssigned() {
+        Task taggedTask = new TodoBuilder(READ_BOOK).withAssignees(ALICE).build();
+        uniqueTaskList.add(taggedTask);
+        assertEquals(List.of(taggedTask), uniqueTaskList.getTasksAssignedTo(ALICE.getId()));
+
+        uniqueTaskList.remove(taggedTask);
+        assertTrue(uniqueTaskList.getTasksAssignedTo(ALICE.getId()).isEmpty());
+    }
+
+    @Test
+    public void assignmentCountProperty_taggedAndUntagged_updatesCount() {
+        ReadOnlyIntegerProperty aliceCount = uniqueTaskList.assignmentCountProperty(ALICE.getId());
+        Todo readBook = new TodoBuilder(READ_BOOK).build();
+        Todo returnBook = new TodoBuilder(RETURN_BOOK).build();
+        uniqueTaskList.add(readBook);
+        uniqueTaskList.add(returnBook);
+        assertEquals(0, aliceCount.get());
+
+        Task taggedReadBook = uniqueTaskList.tagEmployeeToTask(readBook, ALICE);
+        uniqueTaskList.tagEmployeeToTask(returnBook, ALICE);
+        assertEquals(2, aliceCount.get());
+        assertEquals(0, uniqueTaskList.assignmentCountProperty(BOB.getId()).get());
+
+        uniqueTaskList.remove(taggedReadBook);
+        assertEquals(1, aliceCount.get());
+
+        uniqueTaskList.setTasks(Collections.emptyList());
+        assertEquals(0, aliceCount.get());
+    }
+
+    @Test
+    public void setTasks_snapshot_restoresTasksAndIndexes() {
+        uniqueTaskList.addAll(List.of(READ_BOOK, RETURN_BOOK, GO_FOR_RUN));
+        PersistentList<Task> snapshot = uniqueTaskList.getSnapshot();
+        List<Task> tasks = List.copyOf(uniqueTaskList.asUnmodifiableObservableList());
+        ReadOnlyIntegerProperty aliceCount = uniqueTaskList.assignmentCountProperty(ALICE.getId());
+
+        uniqueTaskList.remove(tasks.get(0));
+        uniqueTaskList.tagEmployeeToTask(tasks.get(2), ALICE);
+        uniqueTaskList.add(new TodoBuilder(READ_BOOK).withAssignees(ALICE).build());
+        assertEquals(2, aliceCount.get());
+
+        uniqueTaskList.setTasks(snapshot);
+        assertEquals(tasks, uniqueTaskList.asUnmodifiableObservableList());
+        for (Task task : tasks) {
+            assertEquals(task, uniqueTaskList.findById(task.getId()).get());
+        }
+        assertEquals(0, aliceCount.get());
+        assertEquals(taskIds(tasks.get(0).getId(), tasks.get(1).getId()),
+                uniqueTaskList.getKeywordIndex().findTaskIds(List.of("book")));
+
+        // The positions of the restored tasks are kept up to date
+        uniqueTaskList.remove(tasks.get(0));
+        uniqueTaskList.setTask(tasks.get(2), new TodoBuilder(GO_FOR_RUN).withPriority("HIGH").build());
+        assertEquals(2, uniqueTaskList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void retainAssignmentCounts_countDropped_noLongerUpdated() {
+        Todo readBook = new TodoBuilder(READ_BOOK).build();
+        uniqueTaskList.add(readBook);
+        ReadOnlyIntegerProperty aliceCount = uniqueTaskList.assignmentCountProperty(ALICE.getId());
+        ReadOnlyIntegerProperty bobCount = uniqueTaskList.assignmentCountProperty(BOB.getId());
+
+        uniqueTaskList.retainAssignmentCounts(personId -> personId == BOB.getId());
+        Task taggedReadBook = uniqueTaskList.tagEmployeeToTask(readBook, ALICE);
+        uniqueTaskList.tagEmployeeToTask(taggedReadBook, BOB);
+        assertEquals(0, aliceCount.get());
+        assertEquals(1, bobCount.get());
+
+        // A count asked for again starts from the tasks already assigned
+        ReadOnlyIntegerProperty newAliceCount = uniqueTaskList.assignmentCountProperty(ALICE.getId());
+        assertNotSame(aliceCount, newAliceCount);
+        assertEquals(1, newAliceCount.get());
+    }
+
+    @Test
+    public void getKeywordIndex_tasksAddedEditedAndRemoved_findsMatchingTasks() {
+        Todo readBook = new TodoBuilder().withDescription("Read Book").build();
+        Todo returnBook = new TodoBuilder().withDescription("Return book to library").build();
+        uniqueTaskList.add(readBook);
+        uniqueTaskList.add(returnBook);
+        TaskKeywordIndex index = uniqueTaskList.getKeywordIndex();
+        int readBookId = uniqueTaskList.asUnmodifiableObservableList().get(0).getId();
+        int returnBookId = uniqueTaskList.asUnmodifiableObservableList().get(1).getId();
+        assertEquals(taskIds(readBookId, returnBookId), index.findTaskIds(List.of("BOOK")));
+        assertEquals(taskIds(readBookId, returnBookId), index.findTaskIds(List.of("read", "library")));
+        assertTrue(index.findTaskIds(List.of("boo")).isEmpty());
+
+        long version = index.getVersion();
+        uniqueTaskList.setTask(readBook, new TodoBuilder().withDescription("Write report").build());
+        assertNotEquals(version, index.getVersion());
+        assertEquals(taskIds(returnBookId), index.findTaskIds(List.of("book")));
+        assertEquals(taskIds(readBookId), index.findTaskIds(List.of("report")));
+
+        uniqueTaskList.remove(uniqueTaskList.asUnmodifiableObservableList().get(1));
+        assertTrue(index.findTaskIds(List.of("book")).isEmpty());
+
+        uniqueTaskList.setTasks(Collections.emptyList());
+        assertTrue(index.findTaskIds(List.of("report")).isEmpty());
+    }
+
+    @Test
+    public void getKeywordIndex_findTopTaskIds_ranksByRelevance() {
+        uniqueTaskList.add(new TodoBuilder().withDescription("Return book to library").build());
+        uniqueTaskList.add(new TodoBuilder().withDescription("Read book").build());
+        uniqueTaskList.add(new TodoBuilder().withDescription("Book club book list").build());
+        uniqueTaskList.add(new TodoBuilder().withDescription("Write report").build());
+        TaskKeywordIndex index = uniqueTaskList.getKeywordIndex();
+        int returnBookId = uniqueTaskList.asUnmodifiableObservableList().get(0).getId();
+        int readBookId = uniqueTaskList.asUnmodifiableObservableList().get(1).getId();
+        int bookClubId = uniqueTaskList.asUnmodifiableObservableList().get(2).getId();
+        int writeReportId = uniqueTaskList.asUnmodifiableObservableList().get(3).getId();
+
+        // More occurrences rank higher, then shorter descriptions
+        assertEquals(List.of(bookClubId, readBookId, returnBookId),
+                List.copyOf(index.findTopTaskIds(List.of("book"), 10).keySet()));
+        assertEquals(List.of(bookClubId, readBookId), List.copyOf(index.findTopTaskIds(List.of("book"), 2).keySet()));
+        assertTrue(index.findTopTaskIds(List.of("book"), 0).isEmpty());
+        assertEquals(index.findTopTaskIds(List.of("book"), 10), index.findTopTaskIds(List.of("BOOK", "book"), 10));
+
+        // A rarer word outweighs a common one
+        assertEquals(List.of(writeReportId, bookClubId, readBookId, returnBookId),
+                List.copyOf(index.findTopTaskIds(List.of("book", "report"), 10).keySet()));
+
+        uniqueTaskList.remove(uniqueTaskList.asUnmodifiableObservableList().get(2));
+        assertEquals(List.of(readBookId, returnBookId),
+                List.copyOf(index.findTopTaskIds(List.of("book"), 10).keySet()));
+        assertThrows(IllegalArgumentException.class, () -> index.findTopTaskIds(List.of("book"), -1));
+    }
+
+    @Test
+    public void getDateIndex_tasksAddedEditedAndRemoved_findsTasksInRange() {
+        Event event = new Event(new Description("Team meeting"), new Date("2022-04-05"), new Time("0900"),
+                new Time("1000"));
+        Deadline deadline = new Deadline(new Description("Submit report"), new Date("2022-04-01"), new Time("1800"));
+        uniqueTaskList.add(new TodoBuilder(READ_BOOK).build());
+        uniqueTaskList.add(event);
+        uniqueTaskList.add(deadline);
+        TaskDateIndex index = uniqueTaskList.getDateIndex();
+        int eventId = uniqueTaskList.asUnmodifiableObservableList().get(1).getId();
+        int deadlineId = uniqueTaskList.asUnmodifiableObservableList().get(2).getId();
+        int firstDay = deadline.getDate().getEpochDay();
+        assertEquals(taskIds(eventId, deadlineId), index.findTaskIds(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(taskIds(deadlineId), index.findTaskIds(firstDay, firstDay + 3));
+        assertEquals(taskIds(eventId), index.findTaskIds(firstDay + 4, firstDay + 4));
+        assertTrue(index.findTaskIds(firstDay + 4, firstDay).isEmpty());
+
+        Event movedEvent = event.withDate(new Date("2022-04-02"));
+        uniqueTaskList.setTask(uniqueTaskList.asUnmodifiableObservableList().get(1), movedEvent);
+        assertEquals(taskIds(eventId, deadlineId), index.findTaskIds(firstDay, firstDay + 3));
+
+        uniqueTaskList.remove(uniqueTaskList.asUnmodifiableObservableList().get(2));
+        assertEquals(taskIds(eventId), index.findTaskIds(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getAttributeIndex_tasksAddedEditedAndRemoved_findsTasksWithAttributes() {
+        Event event = new Event(new Description("Team meeting"), new Date("2022-04-05"), new Time("0900"),
+                new Time("1000"));
+        uniqueTaskList.add(new TodoBuilder(READ_BOOK).build());
+        uniqueTaskList.add(event);
+        TaskAttributeIndex index = uniqueTaskList.getAttributeIndex();
+        int todoId = uniqueTaskList.asUnmodifiableObservableList().get(0).getId();
+        int eventId = uniqueTaskList.asUnmodifiableObservableList().get(1).getId();
+        assertEquals(taskIds(todoId, eventId), index.findTaskIds(null, null, null));
+        assertEquals(taskIds(eventId), index.findTaskIds(Event.class, null, Boolean.FALSE));
+        assertTrue(index.findTaskIds(Deadline.class, null, null).isEmpty());
+
+        long version = index.getVersion();
+        Task markedEvent = uniqueTaskList.markTask(uniqueTaskList.asUnmodifiableObservableList().get(1));
+        assertNotEquals(version, index.getVersion());
+        assertEquals(taskIds(eventId), index.findTaskIds(null, null, Boolean.TRUE));
+        assertEquals(taskIds(todoId), index.findTaskIds(null, null, Boolean.FALSE));
+
+        uniqueTaskList.tagPriorityToTask(markedEvent, Priority.HIGH);
+        assertEquals(taskIds(eventId), index.findTaskIds(Event.class, Priority.HIGH, Boolean.TRUE));
+        assertEquals(taskIds(todoId), index.findTaskIds(null, Priority.NONE, null));
+
+        uniqueTaskList.remove(uniqueTaskList.asUnmodifiableObservableList().get(1));
+        assertTrue(index.findTaskIds(null, Priority.HIGH, null).isEmpty());
+        assertTrue(index.findTaskIds(null, null, Boolean.TRUE).isEmpty());
+
+        uniqueTaskList.setTasks(Collections.emptyList());
+        assertTrue(index.findTaskIds(null, null, null).isEmpty());
+    }
+
+    private static BitSet taskIds(int... ids) {
+        BitSet taskIds = new BitSet();
+        for (int id : ids) {
+            taskIds.set(id);
+        }
+        return taskIds;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
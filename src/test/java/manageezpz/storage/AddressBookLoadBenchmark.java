@@ -0,0 +1,131 @@
+package manageezpz.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.Time;
+import manageezpz.model.task.Todo;
+
+/**
+ * Measures how long it takes to load address books of increasing sizes from each storage format, to check that
+ * loading scales linearly with the number of tasks.
+ * <p>
+ * This is not run as part of the tests. Run it with the numbers of tasks to load as arguments, or with none to load
+ * 10,000, 100,000 and 1,000,000 tasks. Each address book has a person for every 100 tasks, and each task is assigned
+ * to two of them.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int[] DEFAULT_TASK_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int TASKS_PER_PERSON = 100;
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+
+    /**
+     * Prints the time taken to load address books with the numbers of tasks given in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] taskCounts = DEFAULT_TASK_COUNTS;
+        if (args.length > 0) {
+            taskCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                taskCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        Path folder = Files.createTempDirectory("manageezpz-benchmark");
+        System.out.printf("%10s %12s %16s %12s %16s%n", "tasks", "json (ms)", "json (us/task)", "binary (ms)",
+                "binary (us/task)");
+        for (int taskCount : taskCounts) {
+            AddressBook addressBook = createAddressBook(taskCount);
+            Path jsonPath = folder.resolve("addressbook-" + taskCount + ".json");
+            Path binaryPath = folder.resolve("addressbook-" + taskCount + ".bin");
+            AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonPath, true);
+            AddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+            jsonStorage.saveAddressBook(addressBook);
+            binaryStorage.saveAddressBook(addressBook);
+
+            double jsonMillis = timeLoad(jsonStorage, taskCount);
+            double binaryMillis = timeLoad(binaryStorage, taskCount);
+            System.out.printf("%10d %12.1f %16.2f %12.1f %16.2f%n", taskCount, jsonMillis,
+                    jsonMillis * 1000 / taskCount, binaryMillis, binaryMillis * 1000 / taskCount);
+
+            Files.delete(jsonPath);
+            Files.delete(binaryPath);
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * Returns the average time in milliseconds taken to load the address book in {@code storage}.
+     */
+    private static double timeLoad(AddressBookStorage storage, int taskCount) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            load(storage, taskCount);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            load(storage, taskCount);
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+    }
+
+    private static void load(AddressBookStorage storage, int taskCount) throws Exception {
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        if (addressBook.getTaskList().size() != taskCount) {
+            throw new AssertionError("Loaded " + addressBook.getTaskList().size() + " tasks instead of " + taskCount);
+        }
+    }
+
+    /**
+     * Returns an address book with {@code taskCount} tasks, evenly split between todos, deadlines and events.
+     */
+    private static AddressBook createAddressBook(int taskCount) {
+        int personCount = Math.max(2, taskCount / TASKS_PER_PERSON);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new Person(new Name("Employee " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("employee" + i + "@example.com"), i + 1));
+        }
+
+        LocalDate firstDate = LocalDate.of(2022, 1, 1);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Description description = new Description("Task " + i);
+            Date date = new Date(firstDate.plusDays(i % 1000).toString());
+            int id = i + 1;
+            List<Integer> assigneeIds = List.of(i % personCount + 1, (i + 1) % personCount + 1);
+            Task task;
+            if (i % 3 == 0) {
+                task = new Todo(description, id, false, Priority.NONE, assigneeIds);
+            } else if (i % 3 == 1) {
+                task = new Deadline(description, date, new Time("1800"), id, false, Priority.NONE, assigneeIds);
+            } else {
+                task = new Event(description, date, new Time("0900"), new Time("1730"), id, false, Priority.NONE,
+                        assigneeIds);
+            }
+            tasks.add(task);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setTasks(tasks);
+        return addressBook;
+    }
+}
@@ -0,0 +1,125 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.HOON;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaver(null));
+    }
+
+    @Test
+    public void save_changedAfterSave_savesCopy() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBookEmployees();
+        AddressBook expectedAddressBook = getTypicalAddressBookEmployees();
+
+        saver.save(addressBook);
+        addressBook.addPerson(HOON);
+        assertTrue(saver.close());
+
+        assertEquals(expectedAddressBook, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void save_manySaves_latestSavedLast() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        List<String> statuses = new ArrayList<>();
+        saver.setStatusListener(statuses::add);
+        AddressBook addressBook = getTypicalAddressBookEmployees();
+
+        saver.save(new AddressBook());
+        saver.save(addressBook);
+        assertTrue(saver.flush());
+
+        // Saves made during a write are coalesced, but the latest one is always written
+        List<ReadOnlyAddressBook> saved = storage.savedAddressBooks;
+        assertTrue(saved.size() <= 2);
+        assertEquals(addressBook, new AddressBook(saved.get(saved.size() - 1)));
+        assertTrue(statuses.get(statuses.size() - 1).startsWith("Saved at"));
+    }
+
+    @Test
+    public void flush_saveFailed_retriesSave() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.isFailing = true;
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        List<String> statuses = new ArrayList<>();
+        saver.setStatusListener(statuses::add);
+        AddressBook addressBook = getTypicalAddressBookEmployees();
+
+        saver.save(addressBook);
+        assertFalse(saver.flush());
+        assertEquals(AddressBookSaver.MESSAGE_SAVE_FAILED + AddressBookStorageStub.DUMMY_IO_EXCEPTION,
+                statuses.get(statuses.size() - 1));
+
+        storage.isFailing = false;
+        assertTrue(saver.flush());
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.savedAddressBooks.get(0)));
+    }
+
+    @Test
+    public void flush_noSaves_success() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        assertTrue(new AddressBookSaver(storage).close());
+        assertTrue(storage.savedAddressBooks.isEmpty());
+    }
+
+    /**
+     * A stub AddressBookStorage that keeps the saved address books, or fails to save them.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private volatile boolean isFailing;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.GEORGE;
+import static manageezpz.testutil.TypicalPersons.HOON;
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.commons.core.AddressBookFormat;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.task.Task;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressbook.bin");
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookTasks();
+        original.addPerson(HOON);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(getFilePath()));
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // Status, priority, dates, times and assignees are kept
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            Task expected = original.getTaskList().get(i);
+            Task actual = readBack.getTaskList().get(i);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getPriority(), actual.getPriority());
+            assertEquals(expected.getAssigneeIds(), actual.getAssigneeIds());
+        }
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        AddressBook original = getTypicalAddressBookTasks();
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(getFilePath());
+        jsonStorage.saveAddressBook(original);
+        jsonStorage.close();
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Saving rewrites the file as binary, and the json journal no longer applies
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(getFilePath()));
+        assertFalse(Files.exists(jsonStorage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileInJournaledStorage_rewrittenAsJson() throws Exception {
+        AddressBook original = getTypicalAddressBookTasks();
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(original);
+
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(getFilePath());
+        ReadOnlyAddressBook readBack = jsonStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        jsonStorage.saveAddressBook(readBack);
+        jsonStorage.close();
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(getFilePath()));
+        assertEquals(List.of(GEORGE), new AddressBook(readBack).getAssignees(readBack.getTaskList().get(1)));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBookTasks());
+        byte[] bytes = Files.readAllBytes(getFilePath());
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, (short) (BinaryAddressBookStorage.FORMAT_VERSION + 1));
+        Files.write(getFilePath(), bytes);
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBookTasks());
+        byte[] bytes = Files.readAllBytes(getFilePath());
+        Files.write(getFilePath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        AddressBook original = getTypicalAddressBookTasks();
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = getFilePath();
+        Path convertedJsonPath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookConverter.convert(jsonPath, binaryPath, AddressBookFormat.BINARY);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryPath));
+        AddressBookConverter.convert(binaryPath, convertedJsonPath, AddressBookFormat.JSON);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedJsonPath).readAddressBook().get()));
+    }
+}
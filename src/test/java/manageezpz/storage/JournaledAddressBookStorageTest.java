@@ -0,0 +1,240 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.ALICE;
+import static manageezpz.testutil.TypicalPersons.BENSON;
+import static manageezpz.testutil.TypicalPersons.HOON;
+import static manageezpz.testutil.TypicalPersons.IDA;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployees;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+
+    private AddressBook read(Path filePath) throws DataConversionException {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.close();
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(getFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_unreadStorage_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(getFilePath()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, read(getFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSave_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(getFilePath());
+
+        // Add, edit and remove persons and tasks across several saves
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person storedHoon = original.findByName(HOON.getName()).get();
+        original.setPerson(storedHoon, new PersonBuilder(storedHoon).withPhone("91234567").build());
+        Task task = new TodoBuilder().withDescription("Read Book").build();
+        original.addTask(task);
+        storage.saveAddressBook(original);
+        Task storedTask = original.getTaskList().get(0);
+        original.tagEmployeeToTask(storedTask, ALICE);
+        original.markTask(original.getTaskList().get(0));
+        storage.saveAddressBook(original);
+        original.removePerson(original.findByName(ALICE.getName()).get());
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(getFilePath()));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, read(getFilePath()));
+
+        // Saving without changes appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        new JournaledAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBookEmployees());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, read(getFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedJournal_ignoresFromCorruptedEntry() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        // An entry that does not match its checksum, followed by one that was only partially written
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Path journal = storage.getJournalFilePath();
+        List<String> lines = Files.readAllLines(journal);
+        String corruptedLine = lines.get(1).replace(IDA.getName().fullName, HOON.getName().fullName);
+        Files.write(journal, List.of(lines.get(0), corruptedLine));
+        Files.write(journal, lines.get(1).substring(0, 20).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, read(getFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBookEmployees());
+        // A person without an id, which cannot be matched against the address book
+        String json = "{\"persons\":[{\"name\":\"Hoon Meier\",\"phone\":\"8482424\","
+                + "\"email\":\"stefan@example.com\"}]}";
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        Files.write(storage.getJournalFilePath(), List.of(String.format("%08x", crc.getValue()) + " " + json));
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(getFilePath())
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_rewritesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        original.setPersons(reversedPersons);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, read(getFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_namesSwapped_rewritesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(rename(original, BENSON, "Xavier Tan"));
+
+        // Swapped through a temporary name, but saved at once, so the persons would clash if replayed one at a time
+        rename(original, ALICE, "Temporary Name");
+        rename(original, BENSON, ALICE.getName().fullName);
+        rename(original, ALICE, "Xavier Tan");
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, read(getFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftOverFromCompaction_skipsEntriesInSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(rename(original, ALICE, "Xavier Tan"));
+        storage.saveAddressBook(rename(original, ALICE, "Zed Lim"));
+        storage.saveAddressBook(rename(original, BENSON, "Xavier Tan"));
+        List<String> entries = Files.readAllLines(storage.getJournalFilePath());
+        storage.close();
+
+        // Compacts all the entries into the snapshot
+        JournaledAddressBookStorage compactingStorage = new JournaledAddressBookStorage(getFilePath(), 0);
+        AddressBook addressBook = new AddressBook(compactingStorage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        compactingStorage.saveAddressBook(addressBook);
+        compactingStorage.close();
+
+        // The moved journal was not deleted after the snapshot was written, and renaming Alice to Xavier Tan again
+        // would clash with Benson
+        Path compactingJournalPath = getFilePath().resolveSibling(getFilePath().getFileName() + ".journal.old");
+        Files.write(compactingJournalPath, entries);
+        assertEquals(addressBook, read(getFilePath()));
+    }
+
+    private static AddressBook rename(AddressBook addressBook, Person person, String name) {
+        Person storedPerson = addressBook.findById(person.getId()).get();
+        addressBook.setPerson(storedPerson, new PersonBuilder(storedPerson).withName(name).build());
+        return addressBook;
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath(), 0);
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, read(getFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesJsonFile() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBookEmployees();
+        storage.saveAddressBook(original, otherFilePath);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(otherFilePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(getFilePath()));
+    }
+}
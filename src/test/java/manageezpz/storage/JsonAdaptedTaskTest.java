@@ -4,20 +4,23 @@ import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
 import static manageezpz.testutil.TypicalPersons.CARL;
+import static manageezpz.testutil.TypicalPersons.HOON;
 import static manageezpz.testutil.TypicalTasks.GET_DRINK;
 import static manageezpz.testutil.TypicalTasks.HOUSE_VISTING;
 import static manageezpz.testutil.TypicalTasks.WEEKLY_QUIZ;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.AddressBook;
 import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
 import manageezpz.model.task.Todo;
 
 
@@ -28,7 +31,11 @@ public class JsonAdaptedTaskTest {
     private static final Person VALID_ASSIGNEE_CARL = CARL;
     private static final List<Person> PERSON_LIST = Arrays.asList(VALID_ASSIGNEE_ALICE,
             VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_CARL);
-    private static final ObservableList<Person> VALID_PERSON_LIST = FXCollections.observableArrayList(PERSON_LIST);
+    private static final AddressBook VALID_ADDRESS_BOOK = new AddressBook();
+
+    static {
+        VALID_ADDRESS_BOOK.setPersons(PERSON_LIST);
+    }
 
     private static final String VALID_STATUS = " ";
     private static final String VALID_TAG = "";
@@ -60,20 +67,50 @@ public class JsonAdaptedTaskTest {
     @Test
     public void toModelType_validTodoTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(WEEKLY_QUIZ);
-        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
     public void toModelType_validDeadlineTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(GET_DRINK);
-        assertEquals(GET_DRINK, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(GET_DRINK, todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
 
     @Test
     public void toModelType_validEventTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(HOUSE_VISTING);
-        assertEquals(HOUSE_VISTING, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(HOUSE_VISTING, todoTask.toModelType(VALID_ADDRESS_BOOK));
+    }
+
+    @Test
+    public void toModelType_assigneeIds_resolvedById() throws Exception {
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(3, VALID_TYPE_TODO, VALID_STATUS,
+                VALID_TODO_DESCRIPTION, null, null, null, null,
+                Arrays.asList(BOB.getId(), HOON.getId(), ALICE.getId()), null, VALID_PRIORITY);
+        Task task = todoTask.toModelType(VALID_ADDRESS_BOOK);
+        assertEquals(3, task.getId());
+        // HOON is not in the address book, so it is left out
+        assertEquals(List.of(BOB.getId(), ALICE.getId()), new ArrayList<>(task.getAssigneeIds()));
+    }
+
+    @Test
+    public void toModelType_legacyTag_resolvedByName() throws Exception {
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, VALID_STATUS,
+                VALID_TODO_DESCRIPTION, null, null, null, null,
+                BOB.getName() + ", " + HOON.getName() + ", " + ALICE.getName(), VALID_PRIORITY);
+        Task task = todoTask.toModelType(VALID_ADDRESS_BOOK);
+        assertFalse(task.hasId());
+        assertEquals(List.of(BOB.getId(), ALICE.getId()), new ArrayList<>(task.getAssigneeIds()));
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(-1, VALID_TYPE_TODO, VALID_STATUS,
+                VALID_TODO_DESCRIPTION, null, null, null, null,
+                List.of(), null, VALID_PRIORITY);
+        String expectedMessage = JsonAdaptedTask.INVALID_ID_MESSAGE_FORMAT;
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -81,9 +118,8 @@ public class JsonAdaptedTaskTest {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, "X",
                 VALID_TODO_DESCRIPTION, null, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        Todo quizTaskMarked = new Todo(WEEKLY_QUIZ);
-        quizTaskMarked.setTaskDone();
-        assertEquals(quizTaskMarked, todoTask.toModelType(VALID_PERSON_LIST));
+        Task quizTaskMarked = WEEKLY_QUIZ.withDone(true);
+        assertEquals(quizTaskMarked, todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -91,7 +127,7 @@ public class JsonAdaptedTaskTest {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, VALID_STATUS,
                 VALID_TODO_DESCRIPTION, null, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -100,7 +136,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE,
                 VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        assertEquals(GET_DRINK, deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(GET_DRINK, deadlineTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -109,7 +145,7 @@ public class JsonAdaptedTaskTest {
                 VALID_STATUS, VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE,
                 null, VALID_EVENT_STARTTIME, VALID_EVENT_ENDTIME,
                 VALID_TAG, VALID_PRIORITY);
-        assertEquals(HOUSE_VISTING, eventTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(HOUSE_VISTING, eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -118,7 +154,7 @@ public class JsonAdaptedTaskTest {
                 INVALID_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DESCRIPTION_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -127,7 +163,7 @@ public class JsonAdaptedTaskTest {
                 null, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DESCRIPTION_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -136,7 +172,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INCORRECT_TYPE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -145,7 +181,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_TYPE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -154,7 +190,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_STATUS_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -163,7 +199,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_STATUS_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -172,7 +208,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", null, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_TAG_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -181,7 +217,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, null);
         String expectedMessage = JsonAdaptedTask.NULL_PRIORITY_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -190,7 +226,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, INVALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_PRIORITY_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -199,7 +235,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, null, VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DEADLINE_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -208,7 +244,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, INVALID_DATE, VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DEADLINE_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -217,7 +253,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DEADLINE_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -226,7 +262,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE, INVALID_DEADLINETIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DEADLINE_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -235,7 +271,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, null, null, VALID_EVENT_STARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -244,7 +280,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, INVALID_DATE, null, VALID_EVENT_STARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -253,7 +289,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, null,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_START_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -262,7 +298,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, INVALID_EVENTSTARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_START_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -271,7 +307,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, VALID_EVENT_STARTTIME,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_END_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
     @Test
@@ -280,7 +316,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, VALID_EVENT_STARTTIME,
                 INVALID_EVENTENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_END_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_ADDRESS_BOOK));
     }
 
 }
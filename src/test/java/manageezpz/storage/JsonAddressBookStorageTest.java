@@ -1,15 +1,19 @@
 package manageezpz.storage;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.GEORGE;
 import static manageezpz.testutil.TypicalPersons.HOON;
 import static manageezpz.testutil.TypicalPersons.IDA;
 import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployeesEdit;
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import manageezpz.commons.exceptions.DataConversionException;
 import manageezpz.model.AddressBook;
 import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.task.Task;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -84,6 +89,26 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookTasks();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_tasksBeforePersons_success() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("tasksBeforePersonsAddressBook.json").get();
+        Task task = readBack.getTaskList().get(0);
+        assertEquals(GEORGE, readBack.getPersonList().get(0));
+        assertEquals(List.of(GEORGE), new AddressBook(readBack).getAssignees(task));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
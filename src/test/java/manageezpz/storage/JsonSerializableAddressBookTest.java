@@ -5,13 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import manageezpz.commons.exceptions.IllegalValueException;
 import manageezpz.commons.util.JsonUtil;
 import manageezpz.model.AddressBook;
+import manageezpz.model.task.Task;
+import manageezpz.testutil.TodoBuilder;
 import manageezpz.testutil.TypicalPersons;
+import manageezpz.testutil.TypicalTasks;
 
 public class JsonSerializableAddressBookTest {
 
@@ -19,6 +24,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +51,59 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_keepsIdsAndAssignees() throws Exception {
+        AddressBook original = TypicalTasks.getTypicalAddressBookTasks();
+        AddressBook addressBookFromJson = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, addressBookFromJson);
+
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            Task originalTask = original.getTaskList().get(i);
+            Task taskFromJson = addressBookFromJson.getTaskList().get(i);
+            assertEquals(originalTask.getId(), taskFromJson.getId());
+            assertEquals(original.getAssignees(originalTask), addressBookFromJson.getAssignees(taskFromJson));
+        }
+    }
+
+    @Test
+    public void toModelType_tasksAcrossManyChunks_keepsOrderAndAssignees() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBookEmployees();
+        int taskCount = 3 * JsonAdaptedTaskConverter.CHUNK_SIZE + 1;
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new TodoBuilder().withDescription("Task " + i)
+                    .withAssignees(original.getPersonList().get(i % original.getPersonList().size())).build();
+            original.addTask(task);
+        }
+
+        AddressBook addressBookFromJson = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, addressBookFromJson);
+        for (int i = 0; i < taskCount; i++) {
+            assertEquals(original.getTaskList().get(i).getAssigneeIds(),
+                    addressBookFromJson.getTaskList().get(i).getAssigneeIds());
+        }
+    }
+
+    @Test
+    public void toModelType_invalidTasksInDifferentChunks_throwsFirstError() throws Exception {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        int taskCount = 2 * JsonAdaptedTaskConverter.CHUNK_SIZE + 1;
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new JsonAdaptedTask(new TodoBuilder().withDescription("Task " + i).build()));
+        }
+        tasks.set(JsonAdaptedTaskConverter.CHUNK_SIZE + 1, new JsonAdaptedTask("todo", " ", " ", "", "", "", "",
+                "", "NONE"));
+        tasks.set(taskCount - 1, new JsonAdaptedTask("todo", " ", "Task", "", "", "", "", "", null));
+
+        JsonSerializableAddressBook dataFromTasks = new JsonSerializableAddressBook(new ArrayList<>(), tasks);
+        assertThrows(IllegalValueException.class, JsonAdaptedTask.INVALID_DESCRIPTION_MESSAGE_FORMAT,
+                dataFromTasks::toModelType);
+    }
 }
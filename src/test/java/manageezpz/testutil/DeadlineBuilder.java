@@ -1,8 +1,14 @@
 package manageezpz.testutil;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Description;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
 import manageezpz.model.task.Time;
 
 public class DeadlineBuilder {
@@ -13,6 +19,9 @@ public class DeadlineBuilder {
     private Description description;
     private Date date;
     private Time time;
+    private boolean isDone;
+    private Priority priority = Priority.NONE;
+    private Set<Integer> assigneeIds = new LinkedHashSet<>();
 
     /**
      * Creates a {@code DeadlineBuilder} with the default details.
@@ -48,7 +57,33 @@ public class DeadlineBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public DeadlineBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Assigns the given persons, who must have been given ids, to the {@code Task} that we are building.
+     */
+    public DeadlineBuilder withAssignees(Person... assignees) {
+        for (Person assignee : assignees) {
+            assigneeIds.add(assignee.getId());
+        }
+        return this;
+    }
+
+    /**
+     * Marks the {@code Task} that we are building as done.
+     */
+    public DeadlineBuilder withDone() {
+        this.isDone = true;
+        return this;
+    }
+
     public Deadline build() {
-        return new Deadline(description, date, time);
+        return new Deadline(description, date, time, Task.UNASSIGNED_ID, isDone, priority, assigneeIds);
     }
 }
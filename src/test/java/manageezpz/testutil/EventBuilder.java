@@ -1,8 +1,14 @@
 package manageezpz.testutil;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Description;
 import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
 import manageezpz.model.task.Time;
 
 
@@ -17,6 +23,9 @@ public class EventBuilder {
     private Date date;
     private Time startTime;
     private Time endTime;
+    private boolean isDone;
+    private Priority priority = Priority.NONE;
+    private Set<Integer> assigneeIds = new LinkedHashSet<>();
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -60,7 +69,34 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public EventBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Assigns the given persons, who must have been given ids, to the {@code Task} that we are building.
+     */
+    public EventBuilder withAssignees(Person... assignees) {
+        for (Person assignee : assignees) {
+            assigneeIds.add(assignee.getId());
+        }
+        return this;
+    }
+
+    /**
+     * Marks the {@code Task} that we are building as done.
+     */
+    public EventBuilder withDone() {
+        this.isDone = true;
+        return this;
+    }
+
     public Event build() {
-        return new Event(description, date, startTime, endTime);
+        return new Event(description, date, startTime, endTime, Task.UNASSIGNED_ID, isDone, priority,
+                assigneeIds);
     }
 }
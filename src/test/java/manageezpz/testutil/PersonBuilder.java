@@ -14,30 +14,39 @@ public class PersonBuilder {
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
 
+    private int id;
     private Name name;
     private Phone phone;
     private Email email;
-    private int numOfTask;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
      */
     public PersonBuilder() {
+        id = Person.UNASSIGNED_ID;
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
-        numOfTask = 0;
     }
 
     /**
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */
@@ -63,6 +72,6 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, phone, email, numOfTask);
+        return new Person(name, phone, email, id);
     }
 }
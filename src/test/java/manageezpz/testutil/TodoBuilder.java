@@ -1,12 +1,21 @@
 package manageezpz.testutil;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Description;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
 import manageezpz.model.task.Todo;
 
 public class TodoBuilder {
 
     public static final String TASK_DESCRIPTION = "read book";
     private Description description;
+    private boolean isDone;
+    private Priority priority = Priority.NONE;
+    private Set<Integer> assigneeIds = new LinkedHashSet<>();
     /**
      * Creates a {@code TaskBuilder} with the default details.
      */
@@ -29,7 +38,33 @@ public class TodoBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public TodoBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Assigns the given persons, who must have been given ids, to the {@code Task} that we are building.
+     */
+    public TodoBuilder withAssignees(Person... assignees) {
+        for (Person assignee : assignees) {
+            assigneeIds.add(assignee.getId());
+        }
+        return this;
+    }
+
+    /**
+     * Marks the {@code Task} that we are building as done.
+     */
+    public TodoBuilder withDone() {
+        this.isDone = true;
+        return this;
+    }
+
     public Todo build() {
-        return new Todo(description);
+        return new Todo(description, Task.UNASSIGNED_ID, isDone, priority, assigneeIds);
     }
 }